@@ -0,0 +1,28 @@
+#!/bin/bash
+# Measures time-to-ready of the packaged service: starts it with the given JVM options and polls
+# /actuator/health/readiness until it reports UP. Prints the elapsed milliseconds.
+#
+# usage: startup-time.sh <jar> [jvm options...]
+set -euo pipefail
+
+jar="$1"
+shift
+port="${SERVER_PORT:-8080}"
+timeout_seconds="${STARTUP_TIMEOUT_SECONDS:-120}"
+
+start=$(date +%s%N)
+java "$@" -jar "$jar" > startup.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true; wait "$pid" 2>/dev/null || true' EXIT
+
+deadline=$(( $(date +%s) + timeout_seconds ))
+until curl -fs "http://localhost:${port}/actuator/health/readiness" | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$(date +%s)" -ge "$deadline" ]; then
+        echo "service did not become ready" >&2
+        cat startup.log >&2
+        exit 1
+    fi
+    sleep 0.1
+done
+
+echo $(( ($(date +%s%N) - start) / 1000000 ))
@@ -0,0 +1,169 @@
+-- Query-shape analysis for GET /api/v1/entries (TimeEntryRepositoryAdapter.search).
+--
+-- Seeds a synthetic tenant population, then runs EXPLAIN (ANALYZE, BUFFERS) for every
+-- combination of the optional search filters (customer, project, status, owner, creation
+-- window). It covers both statement shapes Hibernate issues: the ordered LIMIT page, which selects
+-- the projected column list rather than the whole row, and the count behind totalItems. The page
+-- selects every TimeEntryField by default; pass a narrower list to mirror a sparse ?fields= request.
+-- The seed is committed and vacuumed so index-only scans see a current visibility map, then deleted
+-- again at the end together with any monthly partitions the script had to create. Run it against a
+-- migrated development database, never production. Connect as DB_ADMIN, because the seed has to
+-- bypass the tenant row-level security policies:
+--
+--   psql "$ADMIN_DATABASE_URL" -v entries=500000 -f config/postgres/query-shapes/explain_search_shapes.sql
+--   psql "$ADMIN_DATABASE_URL" -v columns='id, status' -f config/postgres/query-shapes/explain_search_shapes.sql
+--
+-- What to look for in the output:
+--   * no "Sort" node above the page query; the index order should satisfy ORDER BY id;
+--   * "Index Only Scan" for the count query when the visibility map is current;
+--   * "Subplans Removed" / only the expected monthly partitions when the window is set;
+--   * the partial idx_time_entries_submitted_queue for status = 'SUBMITTED' without other filters.
+
+\set ON_ERROR_STOP on
+\if :{?entries}
+\else
+    \set entries 200000
+\endif
+\if :{?columns}
+\else
+    \set columns 'id, customer_id, project_id, matter_id, user_id, narrative, duration_minutes, status, created_at, updated_at, approved_at'
+\endif
+
+CREATE TEMP TABLE seed_page_columns AS SELECT :'columns'::text AS list;
+
+CREATE TEMP TABLE existing_partitions AS
+SELECT inhrelid::regclass::text AS name
+FROM pg_inherits
+WHERE inhparent = 'time_entries'::regclass;
+
+SELECT ensure_time_entry_partitions((date_trunc('month', now()) - INTERVAL '24 months')::date, 27);
+
+CREATE TEMP TABLE seed_firms AS
+SELECT gen_random_uuid() AS id, n FROM generate_series(1, 20) AS n;
+
+INSERT INTO firms (id, name, address_street, address_city, address_state, address_postal_code, address_country)
+SELECT id, 'Query Shape Firm ' || n, '1 Main St', 'Springfield', 'IL', '62701', 'US'
+FROM seed_firms;
+
+INSERT INTO customers (id, firm_id, name)
+SELECT gen_random_uuid(), f.id, 'Customer ' || c
+FROM seed_firms f CROSS JOIN generate_series(1, 20) AS c;
+
+INSERT INTO projects (id, firm_id, customer_id, name, status)
+SELECT gen_random_uuid(), c.firm_id, c.id, 'Project ' || p, 'ACTIVE'
+FROM customers c
+JOIN seed_firms f ON f.id = c.firm_id
+CROSS JOIN generate_series(1, 5) AS p;
+
+CREATE TEMP TABLE seed_users AS
+SELECT f.id AS firm_id, gen_random_uuid() AS user_id, u AS n
+FROM seed_firms f CROSS JOIN generate_series(1, 25) AS u;
+
+CREATE TEMP TABLE seed_projects AS
+SELECT p.firm_id, p.customer_id, p.id AS project_id,
+       row_number() OVER (PARTITION BY p.firm_id ORDER BY p.id) AS n
+FROM projects p
+JOIN seed_firms f ON f.id = p.firm_id;
+
+-- Skewed towards the first firm so it resembles our oldest, largest tenants.
+INSERT INTO time_entries (
+    id, firm_id, user_id, customer_id, project_id, narrative, duration_minutes, status,
+    created_at, updated_at)
+SELECT gen_random_uuid(), sp.firm_id, su.user_id, sp.customer_id, sp.project_id,
+       'Synthetic entry ' || g, 6 + (g % 240),
+       CASE WHEN g % 20 < 12 THEN 'APPROVED' WHEN g % 20 < 17 THEN 'DRAFT' ELSE 'SUBMITTED' END,
+       created.at, created.at
+FROM generate_series(1, :entries) AS g
+CROSS JOIN LATERAL (
+    SELECT CASE WHEN g % 3 = 0 THEN 1 ELSE 1 + (g % 20) END AS firm_n,
+           now() - (random() * INTERVAL '720 days') AS at
+) AS created
+JOIN seed_firms f ON f.n = created.firm_n
+JOIN seed_projects sp ON sp.firm_id = f.id AND sp.n = 1 + (g % 100)
+JOIN seed_users su ON su.firm_id = f.id AND su.n = 1 + (g % 25);
+
+VACUUM (ANALYZE) firms, customers, projects, time_entries;
+
+DO $$
+DECLARE
+    target RECORD;
+    shape INT;
+    predicate TEXT;
+    label TEXT;
+    page_columns TEXT;
+    plan_line TEXT;
+BEGIN
+    SELECT list INTO page_columns FROM seed_page_columns;
+
+    SELECT te.firm_id, te.customer_id, te.project_id, te.user_id
+    INTO target
+    FROM time_entries te
+    JOIN seed_firms f ON f.id = te.firm_id
+    WHERE f.n = 1
+    LIMIT 1;
+
+    PERFORM set_config('app.current_firm_id', target.firm_id::text, false);
+
+    FOR shape IN 0..31 LOOP
+        predicate := format('firm_id = %L', target.firm_id);
+        label := 'firm';
+        IF shape & 1 <> 0 THEN
+            predicate := predicate || format(' AND customer_id = %L', target.customer_id);
+            label := label || ' + customer';
+        END IF;
+        IF shape & 2 <> 0 THEN
+            predicate := predicate || format(' AND project_id = %L', target.project_id);
+            label := label || ' + project';
+        END IF;
+        IF shape & 4 <> 0 THEN
+            predicate := predicate || ' AND status = ''SUBMITTED''';
+            label := label || ' + status';
+        END IF;
+        IF shape & 8 <> 0 THEN
+            predicate := predicate || format(' AND user_id = %L', target.user_id);
+            label := label || ' + owner';
+        END IF;
+        IF shape & 16 <> 0 THEN
+            predicate := predicate || format(
+                ' AND created_at >= %L AND created_at < %L',
+                date_trunc('month', now()), date_trunc('month', now()) + INTERVAL '1 month');
+            label := label || ' + current month';
+        END IF;
+
+        RAISE NOTICE '==== % : page ====', label;
+        FOR plan_line IN EXECUTE
+            'EXPLAIN (ANALYZE, BUFFERS) SELECT ' || page_columns || ' FROM time_entries WHERE ' || predicate
+            || ' ORDER BY id LIMIT 20'
+        LOOP
+            RAISE NOTICE '%', plan_line;
+        END LOOP;
+
+        RAISE NOTICE '==== % : count ====', label;
+        FOR plan_line IN EXECUTE
+            'EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM time_entries WHERE ' || predicate
+        LOOP
+            RAISE NOTICE '%', plan_line;
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+DELETE FROM time_entries WHERE firm_id IN (SELECT id FROM seed_firms);
+DELETE FROM projects WHERE firm_id IN (SELECT id FROM seed_firms);
+DELETE FROM customers WHERE firm_id IN (SELECT id FROM seed_firms);
+DELETE FROM firms WHERE id IN (SELECT id FROM seed_firms);
+
+DO $$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT inhrelid::regclass::text
+        FROM pg_inherits
+        WHERE inhparent = 'time_entries'::regclass
+          AND inhrelid::regclass::text NOT IN (SELECT name FROM existing_partitions)
+    LOOP
+        EXECUTE format('DROP TABLE %s', partition_name);
+    END LOOP;
+END;
+$$;
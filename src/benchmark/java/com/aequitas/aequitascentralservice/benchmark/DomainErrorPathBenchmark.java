@@ -0,0 +1,102 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.aequitas.aequitascentralservice.adapter.web.exception.ErrorMessage;
+import com.aequitas.aequitascentralservice.adapter.web.exception.GlobalExceptionHandler;
+import com.aequitas.aequitascentralservice.domain.exception.DomainException;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+
+/**
+ * Measures the throughput of a 4xx "time entry not found" path, as produced by a scanner probing
+ * identifiers, from the throw to the response body the handler returns.
+ *
+ * <p>The exception is thrown {@code depth} frames below the catch site to stand in for the filter
+ * chain, dispatcher, proxies and service between a controller and the advice; a real request is
+ * deeper still. {@link #legacyProd()} and {@link #legacyDev()} throw a plain
+ * {@link IllegalArgumentException} and build the body per request, the dev variant also copying
+ * the trace; {@link #domain()} throws the stackless {@link ErrorCode#TIME_ENTRY_NOT_FOUND} and
+ * builds the body from its code without reading a trace. Run with the {@code benchmark} profile:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainErrorPathBenchmark {
+
+    @Param({"32", "128"})
+    private int depth;
+
+    private GlobalExceptionHandler prodHandler;
+    private GlobalExceptionHandler devHandler;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        prodHandler = handler("prod");
+        devHandler = handler("dev");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> legacyProd() {
+        try {
+            return fail(depth, false);
+        } catch (IllegalArgumentException ex) {
+            return prodHandler.handleIllegalArgument(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> legacyDev() {
+        try {
+            return fail(depth, false);
+        } catch (IllegalArgumentException ex) {
+            return devHandler.handleIllegalArgument(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> domain() {
+        try {
+            return fail(depth, true);
+        } catch (IllegalArgumentException ex) {
+            return prodHandler.handleDomain((DomainException) ex);
+        }
+    }
+
+    private static ResponseEntity<ErrorMessage> fail(final int remaining, final boolean stackless) {
+        if (remaining > 0) {
+            return fail(remaining - 1, stackless);
+        }
+        throw stackless
+                ? ErrorCode.TIME_ENTRY_NOT_FOUND.toException()
+                : new IllegalArgumentException("Time entry not found");
+    }
+
+    private static GlobalExceptionHandler handler(final String environment) throws ReflectiveOperationException {
+        final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        final Field field = GlobalExceptionHandler.class.getDeclaredField("environment");
+        field.setAccessible(true);
+        field.set(handler, environment);
+        return handler;
+    }
+}
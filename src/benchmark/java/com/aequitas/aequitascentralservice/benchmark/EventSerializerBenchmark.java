@@ -0,0 +1,84 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aequitas.aequitascentralservice.adapter.outbox.JsonEventSerializer;
+import com.aequitas.aequitascentralservice.adapter.outbox.SmileEventSerializer;
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.event.EntryApprovedEvent;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the encode time and size of an outbox payload in the two {@code outbox.content-type}
+ * formats, using the event the approve command writes.
+ *
+ * <p>The score is the time to encode one event; the payload size of each format is printed once
+ * per trial. Smaller payloads mean less outbox WAL and table volume and less to ship per relay
+ * batch. Run with the {@code benchmark} profile:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializerBenchmark {
+
+    private JsonEventSerializer json;
+    private SmileEventSerializer smile;
+    private EntryApprovedEvent event;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        json = new JsonEventSerializer(objectMapper);
+        smile = new SmileEventSerializer(objectMapper);
+
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        final TimeEntry entry = TimeEntry.draft(
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        UUID.randomUUID(), UUID.randomUUID(),
+                        "Reviewed contract amendments and drafted redlines for the counterparty", 90, now)
+                .submit(now)
+                .approve(UUID.randomUUID(), now);
+        event = EntryApprovedEvent.from(UUID.randomUUID(), entry);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSizes() {
+        System.out.printf(
+                "%nbytes/event: %s=%d %s=%d%n",
+                json.contentType(), json.serialize(event).length,
+                smile.contentType(), smile.serialize(event).length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return json.serialize(event);
+    }
+
+    @Benchmark
+    public byte[] smile() {
+        return smile.serialize(event);
+    }
+}
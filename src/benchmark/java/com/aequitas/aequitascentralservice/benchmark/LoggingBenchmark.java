@@ -0,0 +1,120 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Measures what one INFO log line costs the thread that logs it, as a request thread would.
+ *
+ * <p>{@link #synchronous()} formats and writes on the calling thread, as the previous console
+ * appender did; {@link #asynchronous()} only enqueues onto an {@link AsyncAppender} configured
+ * like {@code logback-spring.xml}; {@link #disabled()} is a DEBUG call below the logger level.
+ * Output goes to a null stream, so the numbers exclude stdout contention, which only widens the
+ * gap under load. Run with the {@code benchmark} profile:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSX} [%thread] %-5level %logger{36} - [%X{X-Correlation-Id}] %msg%n";
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private UUID entryId;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        final OutputStreamAppender<ILoggingEvent> sink = sink("sync");
+        syncLogger = logger("bench.sync", sink);
+
+        final AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("async");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setNeverBlock(true);
+        async.addAppender(sink("async-sink"));
+        async.start();
+        asyncLogger = logger("bench.async", async);
+
+        entryId = UUID.randomUUID();
+        MDC.put("X-Correlation-Id", UUID.randomUUID().toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+        context.stop();
+    }
+
+    @Benchmark
+    public void synchronous() {
+        syncLogger.info("Approved time entry {} for {} minutes", entryId, 90);
+    }
+
+    @Benchmark
+    public void asynchronous() {
+        asyncLogger.info("Approved time entry {} for {} minutes", entryId, 90);
+    }
+
+    @Benchmark
+    public void disabled() {
+        syncLogger.debug("Approved time entry {} for {} minutes", entryId, 90);
+    }
+
+    private OutputStreamAppender<ILoggingEvent> sink(final String name) {
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        final OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(final String name, final Appender<ILoggingEvent> appender) {
+        final Logger logger = context.getLogger(name);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,92 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.aequitas.aequitascentralservice.adapter.outbox.SystemClockAdapter;
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+import com.aequitas.aequitascentralservice.metrics.PortMetricsAspect;
+import com.aequitas.aequitascentralservice.tenancy.TenantContextHolder;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Measures what {@link PortMetricsAspect} adds to a port call.
+ *
+ * <p>{@link #direct()} calls the system {@link ClockPort}; {@link #proxied()} calls the same port
+ * through a Spring AOP proxy without advice; {@link #timed()} adds the aspect with a
+ * Prometheus-backed observation registry and a tenant in context, as in a request. The difference
+ * between {@code timed} and {@code proxied} is the instrumentation cost per port call, to be
+ * weighed against port calls that cost milliseconds. Run with the {@code benchmark} profile:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortMetricsBenchmark {
+
+    private ClockPort direct;
+    private ClockPort proxied;
+    private ClockPort timed;
+
+    @Setup
+    public void setUp() {
+        direct = new SystemClockAdapter();
+        proxied = new AspectJProxyFactory(direct).getProxy();
+
+        final ObservationRegistry observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(
+                new DefaultMeterObservationHandler(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+        final AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+        factory.addAspect(new PortMetricsAspect(observations, 16));
+        timed = factory.getProxy();
+
+        TenantContextHolder.setCurrentUser(new CurrentUser(UUID.randomUUID(), UUID.randomUUID(), Role.EMPLOYEE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Benchmark
+    public Instant direct() {
+        return direct.now();
+    }
+
+    @Benchmark
+    public Instant proxied() {
+        return proxied.now();
+    }
+
+    @Benchmark
+    public Instant timed() {
+        return timed.now();
+    }
+}
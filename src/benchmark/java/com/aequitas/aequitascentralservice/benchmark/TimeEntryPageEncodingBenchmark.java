@@ -0,0 +1,132 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryPageResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryResponse;
+import com.aequitas.aequitascentralservice.adapter.web.mapper.TimeEntryDtoMapper;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Compares the negotiated representations of a full time entry page: JSON and Smile, each with
+ * and without the gzip the server applies when the client accepts it.
+ *
+ * <p>The page holds {@code pageSize} entries whose narratives are {@code narrativeLength}
+ * characters of varied prose, the worst case of the list endpoint. The score is the time to encode
+ * one page; the bytes on the wire for each representation are printed once per trial. Run with
+ * the {@code benchmark} profile:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeEntryPageEncodingBenchmark {
+
+    private static final String[] WORDS = {
+        "reviewed", "contract", "amendments", "drafted", "redlines", "for", "counterparty", "call",
+        "with", "client", "regarding", "indemnity", "clause", "research", "on", "precedent", "and",
+        "prepared", "memo", "summarising", "deposition", "exhibits", "filed", "motion"
+    };
+
+    @Param({"100"})
+    private int pageSize;
+
+    @Param({"200", "2048"})
+    private int narrativeLength;
+
+    private JsonMapper json;
+    private SmileMapper smile;
+    private TimeEntryPageResponse page;
+
+    @Setup
+    public void setUp() {
+        json = JsonMapper.builder().build();
+        smile = SmileMapper.builder().build();
+
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        final List<TimeEntryResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(TimeEntryDtoMapper.toResponse(new TimeEntryView(
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                    narrative(i), 30 + i, EntryStatus.SUBMITTED, now, now, null)));
+        }
+        page = new TimeEntryPageResponse(items, 1000L, true).nextCursor("eyJpZCI6IjU1MGU4NDAwIn0=");
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSizes() {
+        System.out.printf(
+                "%nbytes/page: json=%d json+gzip=%d smile=%d smile+gzip=%d%n",
+                json().length, jsonGzip().length, smile().length, smileGzip().length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() {
+        return gzip(json.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] smile() {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] smileGzip() {
+        return gzip(smile.writeValueAsBytes(page));
+    }
+
+    private String narrative(final int seed) {
+        final StringBuilder narrative = new StringBuilder(narrativeLength + 16);
+        for (int i = seed; narrative.length() < narrativeLength; i = i * 31 + 7) {
+            narrative.append(WORDS[Math.floorMod(i, WORDS.length)]).append(' ');
+        }
+        return narrative.substring(0, narrativeLength);
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.aequitas.aequitascentralservice.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
+import com.aequitas.aequitascentralservice.adapter.persistence.mapper.TimeEntryMapper;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryResponse;
+import com.aequitas.aequitascentralservice.adapter.web.mapper.TimeEntryDtoMapper;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+/**
+ * Compares the per-page allocation of the two list read paths for {@code GET /api/v1/time-entries}.
+ *
+ * <p>{@link #entityPath()} reproduces the old chain of entity, {@code TimeEntry} aggregate and
+ * response DTO per row; {@link #viewPath()} maps the projected {@link TimeEntryView} straight to the
+ * DTO. Neither touches a database, so Hibernate's hydration arrays and dirty-checking snapshots,
+ * which the projection also avoids, come on top of the difference reported here. Run with the
+ * {@code benchmark} profile and read {@code gc.alloc.rate.norm}:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeEntryPageMappingBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private Object[][] rows;
+
+    @Setup
+    public void setUp() {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        rows = new Object[pageSize][];
+        for (int i = 0; i < pageSize; i++) {
+            rows[i] = new Object[] {
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), "Reviewed contract amendments " + i, 6 + i,
+                EntryStatus.SUBMITTED, now, now
+            };
+        }
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> entityPath() {
+        final List<TimeEntryResponse> responses = new ArrayList<>(pageSize);
+        for (final Object[] row : rows) {
+            final TimeEntryEntity entity = TimeEntryEntity.builder()
+                    .id((UUID) row[0])
+                    .firmId((UUID) row[1])
+                    .userId((UUID) row[2])
+                    .customerId((UUID) row[3])
+                    .projectId((UUID) row[4])
+                    .matterId((UUID) row[5])
+                    .narrative((String) row[6])
+                    .durationMinutes((Integer) row[7])
+                    .status((EntryStatus) row[8])
+                    .createdAt((Instant) row[9])
+                    .updatedAt((Instant) row[10])
+                    .version(0L)
+                    .build();
+            responses.add(TimeEntryDtoMapper.toResponse(TimeEntryMapper.toDomain(entity)));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> viewPath() {
+        final List<TimeEntryResponse> responses = new ArrayList<>(pageSize);
+        for (final Object[] row : rows) {
+            final TimeEntryView view = new TimeEntryView(
+                    (UUID) row[0],
+                    (UUID) row[3],
+                    (UUID) row[4],
+                    (UUID) row[5],
+                    (UUID) row[2],
+                    (String) row[6],
+                    (Integer) row[7],
+                    (EntryStatus) row[8],
+                    (Instant) row[9],
+                    (Instant) row[10],
+                    null);
+            responses.add(TimeEntryDtoMapper.toResponse(view));
+        }
+        return responses;
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.aequitas.aequitascentralservice.migration.DatabaseMigrator;
+
 /**
  * Entry point for the Aequitas Central Service Spring Boot application.
  */
@@ -12,11 +14,15 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class AequitasCentralServiceApplication {
 
     /**
-     * Boots the Spring context.
+     * Boots the Spring context, or only applies database migrations when started with
+     * {@code --migrate}.
      *
      * @param args CLI arguments handed to Spring Boot.
      */
     public static void main(final String[] args) {
+        if (DatabaseMigrator.requested(args)) {
+            System.exit(DatabaseMigrator.run(args));
+        }
         SpringApplication.run(AequitasCentralServiceApplication.class, args);
     }
 }
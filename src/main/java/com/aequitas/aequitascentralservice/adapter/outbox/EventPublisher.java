@@ -9,9 +9,16 @@ public interface EventPublisher {
      * Publishes the serialized payload to the downstream bus.
      *
      * @param eventType canonical event type.
+     * @param contentType format of {@code payload}, e.g. {@code application/json}; see
+     *     {@link EventSerializer#contentType()}.
      * @param payload serialized payload.
      * @param partitionKey partition key used for ordering.
      * @param deduplicationKey dedupe key guarding against duplicates.
      */
-    void publish(String eventType, String payload, String partitionKey, String deduplicationKey);
+    void publish(
+            String eventType,
+            String contentType,
+            byte[] payload,
+            String partitionKey,
+            String deduplicationKey);
 }
@@ -0,0 +1,40 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Wire format of the event payloads stored in the outbox and handed to {@link EventPublisher}.
+ *
+ * <p>Every format is identified by a content type that is stored next to the payload, so rows
+ * written in one format stay readable after the configured format changes. The schema version of a
+ * payload travels in its event type ({@code ENTRY_APPROVED.v1}).
+ */
+public interface EventSerializer {
+
+    /**
+     * @return content type stored with, and published alongside, every payload of this format.
+     */
+    String contentType();
+
+    /**
+     * @return {@code true} when payloads are UTF-8 JSON text and belong in the {@code jsonb} column.
+     */
+    default boolean textual() {
+        return false;
+    }
+
+    /**
+     * @param event domain event to encode.
+     * @return encoded payload.
+     * @throws IllegalStateException if the event cannot be encoded.
+     */
+    byte[] serialize(DomainEvent event);
+
+    /**
+     * @param payload payload previously produced by {@link #serialize(DomainEvent)}.
+     * @return the payload as a JSON tree, for readers that expose it as JSON.
+     * @throws IllegalStateException if the payload cannot be decoded.
+     */
+    JsonNode readTree(byte[] payload);
+}
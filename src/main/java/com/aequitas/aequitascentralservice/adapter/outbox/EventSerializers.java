@@ -0,0 +1,58 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks up the {@link EventSerializer} for writing new outbox rows and for reading stored ones.
+ *
+ * <p>New rows use the format named by {@code outbox.content-type}; stored rows are read with the
+ * format recorded next to them, so switching formats does not strand older rows.
+ */
+@Component
+public class EventSerializers {
+
+    private final Map<String, EventSerializer> byContentType;
+    private final EventSerializer writer;
+
+    /**
+     * @param serializers every available format.
+     * @param contentType content type of the format used for new rows.
+     * @throws IllegalArgumentException if no format has the configured content type.
+     */
+    public EventSerializers(
+            final List<EventSerializer> serializers,
+            @Value("${outbox.content-type:application/json}") final String contentType) {
+        this.byContentType = serializers.stream()
+                .collect(Collectors.toUnmodifiableMap(EventSerializer::contentType, Function.identity()));
+        this.writer = byContentType.get(contentType);
+        if (writer == null) {
+            throw new IllegalArgumentException("Unsupported outbox content type: " + contentType);
+        }
+    }
+
+    /**
+     * @return format used for new outbox rows.
+     */
+    public EventSerializer writer() {
+        return writer;
+    }
+
+    /**
+     * @param contentType content type stored with an outbox row.
+     * @return matching format.
+     * @throws IllegalStateException if no format has the content type.
+     */
+    public EventSerializer forContentType(final String contentType) {
+        final EventSerializer serializer = byContentType.get(contentType);
+        if (serializer == null) {
+            throw new IllegalStateException("Unsupported outbox content type: " + contentType);
+        }
+        return serializer;
+    }
+}
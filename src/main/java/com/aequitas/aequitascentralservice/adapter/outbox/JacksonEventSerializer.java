@@ -0,0 +1,60 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
+import com.aequitas.aequitascentralservice.domain.event.EventSchema;
+import com.aequitas.aequitascentralservice.domain.event.EventSchemas;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Base for {@link EventSerializer}s backed by a Jackson {@link ObjectMapper}.
+ *
+ * <p>Builds one {@link ObjectWriter} per registered event class up front, so the serializer chain
+ * of every {@link EventSchemas} version is resolved once at startup instead of being looked up on
+ * each append. Unregistered events fall back to the mapper's untyped writer.
+ */
+abstract class JacksonEventSerializer implements EventSerializer {
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter fallbackWriter;
+    private final Map<Class<? extends DomainEvent>, ObjectWriter> writers;
+
+    JacksonEventSerializer(final ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.fallbackWriter = mapper.writer();
+        this.writers = EventSchemas.all().stream()
+                .map(EventSchema::eventClass)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), mapper::writerFor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serialize(final DomainEvent event) {
+        try {
+            return writers.getOrDefault(event.getClass(), fallbackWriter).writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize event payload", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonNode readTree(final byte[] payload) {
+        try {
+            return mapper.readTree(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to deserialize event payload", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link EventSerializer} writing events as JSON text with the application {@link ObjectMapper}.
+ */
+@Component
+public class JsonEventSerializer extends JacksonEventSerializer {
+
+    public static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE;
+
+    public JsonEventSerializer(final ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean textual() {
+        return true;
+    }
+}
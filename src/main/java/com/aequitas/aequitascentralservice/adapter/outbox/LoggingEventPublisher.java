@@ -1,30 +1,64 @@
 package com.aequitas.aequitascentralservice.adapter.outbox;
 
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Simple {@link EventPublisher} that logs payloads for local development.
+ *
+ * <p>Payloads are cut to {@code outbox.logging.max-payload-chars} so that large events do not
+ * flood the log pipeline from the relay thread.
  */
 @Component
 @Slf4j
 public class LoggingEventPublisher implements EventPublisher {
 
+    private final int maxPayloadChars;
+
+    public LoggingEventPublisher(@Value("${outbox.logging.max-payload-chars:512}") final int maxPayloadChars) {
+        if (maxPayloadChars < 0) {
+            throw new IllegalArgumentException("outbox.logging.max-payload-chars must not be negative");
+        }
+        this.maxPayloadChars = maxPayloadChars;
+    }
+
     /**
      * {@inheritDoc}
+     *
+     * <p>JSON payloads are logged as text, truncated; binary payloads only by size.
      */
     @Override
     public void publish(
             final String eventType,
-            final String payload,
+            final String contentType,
+            final byte[] payload,
             final String partitionKey,
             final String deduplicationKey) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
         log.info(
-                "Publishing eventType={} partitionKey={} dedupeKey={} payload={}",
+                "Publishing eventType={} contentType={} partitionKey={} dedupeKey={} payload={}",
                 eventType,
+                contentType,
                 partitionKey,
                 deduplicationKey,
-                payload);
+                describe(contentType, payload));
+    }
+
+    String describe(final String contentType, final byte[] payload) {
+        if (!JsonEventSerializer.CONTENT_TYPE.equals(contentType)) {
+            return "<" + payload.length + " bytes>";
+        }
+        if (payload.length <= maxPayloadChars) {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+        // decode only a prefix; a multi-byte character cut at the boundary decodes as U+FFFD
+        final String prefix = new String(payload, 0, maxPayloadChars, StandardCharsets.UTF_8);
+        return prefix + "...<" + payload.length + " bytes>";
     }
 }
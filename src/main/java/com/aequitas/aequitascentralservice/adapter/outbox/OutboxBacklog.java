@@ -0,0 +1,21 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Snapshot of the unpublished outbox rows.
+ *
+ * @param size number of unpublished rows.
+ * @param oldestOccurredAt occurrence time of the oldest unpublished row; {@code null} when empty.
+ * @param measuredAt when the snapshot was taken.
+ */
+public record OutboxBacklog(long size, Instant oldestOccurredAt, Instant measuredAt) {
+
+    /**
+     * @return how long the oldest unpublished row had been waiting when measured.
+     */
+    public Duration lag() {
+        return oldestOccurredAt == null ? Duration.ZERO : Duration.between(oldestOccurredAt, measuredAt);
+    }
+}
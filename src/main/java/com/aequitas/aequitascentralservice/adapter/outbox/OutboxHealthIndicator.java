@@ -0,0 +1,56 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code outbox} health against the relay lag SLO.
+ *
+ * <p>The status is {@value #DEGRADED_CODE} while the oldest unpublished event has waited longer
+ * than {@code outbox.health.lag-slo}, and {@code UNKNOWN} until {@link OutboxMetrics} has measured
+ * the backlog once. A degraded outbox still answers HTTP 200 and is left out of the liveness and
+ * readiness groups: restarting the instance does not unstick a downstream bus.
+ */
+@Component("outbox")
+public class OutboxHealthIndicator implements HealthIndicator {
+
+    static final String DEGRADED_CODE = "DEGRADED";
+
+    /**
+     * Status reported while lag exceeds the SLO.
+     */
+    public static final Status DEGRADED = new Status(DEGRADED_CODE, "Outbox lag exceeds its SLO");
+
+    private final OutboxMetrics metrics;
+    private final Duration lagSlo;
+
+    /**
+     * @param metrics source of the backlog snapshot.
+     * @param lagSlo longest acceptable wait of the oldest unpublished event.
+     */
+    public OutboxHealthIndicator(
+            final OutboxMetrics metrics, @Value("${outbox.health.lag-slo:PT1M}") final Duration lagSlo) {
+        this.metrics = metrics;
+        this.lagSlo = lagSlo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Health health() {
+        return metrics.backlog()
+                .map(backlog -> (backlog.lag().compareTo(lagSlo) > 0 ? Health.status(DEGRADED) : Health.up())
+                        .withDetail("backlog", backlog.size())
+                        .withDetail("oldestLag", backlog.lag().toString())
+                        .withDetail("lagSlo", lagSlo.toString())
+                        .withDetail("measuredAt", backlog.measuredAt().toString())
+                        .build())
+                .orElseGet(() -> Health.unknown().withDetail("reason", "Backlog not measured yet").build());
+    }
+}
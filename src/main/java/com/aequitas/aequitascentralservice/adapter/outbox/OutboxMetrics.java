@@ -0,0 +1,120 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox backlog, lag and relay throughput meters.
+ *
+ * <p>The backlog gauges read a snapshot refreshed every {@code outbox.metrics.refresh-interval}
+ * rather than querying on each scrape; both refresh queries only touch the partial index over
+ * unpublished rows. If a refresh fails the previous snapshot is kept and its {@code measuredAt}
+ * shows how stale it is.
+ *
+ * <ul>
+ *   <li>{@code aequitas.outbox.backlog} – unpublished rows.</li>
+ *   <li>{@code aequitas.outbox.oldest.age} – seconds the oldest unpublished row has waited.</li>
+ *   <li>{@code aequitas.outbox.publish} – time spent in {@link EventPublisher#publish}; its count
+ *       is the relay throughput.</li>
+ *   <li>{@code aequitas.outbox.delivery.lag} – time from occurrence to publication per event.</li>
+ *   <li>{@code aequitas.outbox.batch.size} – rows per non-empty relay batch.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class OutboxMetrics {
+
+    private final OutboxJpaRepository repository;
+    private final ClockPort clockPort;
+    private final AtomicReference<OutboxBacklog> backlog = new AtomicReference<>();
+    private final Timer publishTimer;
+    private final Timer deliveryLag;
+    private final DistributionSummary batchSize;
+
+    public OutboxMetrics(
+            final OutboxJpaRepository repository, final ClockPort clockPort, final MeterRegistry registry) {
+        this.repository = repository;
+        this.clockPort = clockPort;
+        Gauge.builder("aequitas.outbox.backlog", backlog, latest -> Optional.ofNullable(latest.get())
+                        .map(snapshot -> (double) snapshot.size())
+                        .orElse(Double.NaN))
+                .description("Unpublished outbox rows")
+                .register(registry);
+        Gauge.builder("aequitas.outbox.oldest.age", backlog, latest -> Optional.ofNullable(latest.get())
+                        .map(snapshot -> snapshot.lag().toMillis() / 1000.0)
+                        .orElse(Double.NaN))
+                .description("Age of the oldest unpublished outbox row")
+                .baseUnit("seconds")
+                .register(registry);
+        this.publishTimer = Timer.builder("aequitas.outbox.publish")
+                .description("Time spent handing one event to the publisher")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.deliveryLag = Timer.builder("aequitas.outbox.delivery.lag")
+                .description("Time from event occurrence to publication")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("aequitas.outbox.batch.size")
+                .description("Rows per relay batch")
+                .register(registry);
+    }
+
+    /**
+     * Re-measures the backlog.
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval:PT15S}")
+    public void refresh() {
+        final Instant now = clockPort.now();
+        try {
+            final long size = repository.countByPublishedAtIsNullAndOccurredAtBefore(now);
+            final Instant oldest = size == 0 ? null : repository.findOldestUnpublishedOccurredAt().orElse(null);
+            backlog.set(new OutboxBacklog(size, oldest, now));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to measure the outbox backlog; keeping the previous snapshot", ex);
+        }
+    }
+
+    /**
+     * @return latest backlog snapshot; empty until the first refresh succeeds.
+     */
+    public Optional<OutboxBacklog> backlog() {
+        return Optional.ofNullable(backlog.get());
+    }
+
+    /**
+     * @param size rows in a non-empty relay batch.
+     */
+    public void recordBatch(final int size) {
+        batchSize.record(size);
+    }
+
+    /**
+     * @param occurredAt when the event occurred.
+     * @param publishedAt when the relay published it.
+     * @param publishNanos time spent in the publisher.
+     */
+    public void recordPublished(final Instant occurredAt, final Instant publishedAt, final long publishNanos) {
+        publishTimer.record(publishNanos, TimeUnit.NANOSECONDS);
+        if (occurredAt != null && publishedAt != null) {
+            deliveryLag.record(Duration.between(occurredAt, publishedAt));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.aequitas.aequitascentralservice.adapter.outbox;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,6 +12,8 @@ import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEnti
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,14 +26,20 @@ public class OutboxRelay {
     private final OutboxJpaRepository outboxJpaRepository;
     private final EventPublisher eventPublisher;
     private final ClockPort clockPort;
+    private final OutboxMetrics metrics;
+    private final OutboxTraceContext traceContext;
 
     public OutboxRelay(
             final OutboxJpaRepository outboxJpaRepository,
             final EventPublisher eventPublisher,
-            final ClockPort clockPort) {
+            final ClockPort clockPort,
+            final OutboxMetrics metrics,
+            final OutboxTraceContext traceContext) {
         this.outboxJpaRepository = outboxJpaRepository;
         this.eventPublisher = eventPublisher;
         this.clockPort = clockPort;
+        this.metrics = metrics;
+        this.traceContext = traceContext;
     }
 
     /**
@@ -44,15 +54,41 @@ public class OutboxRelay {
             return;
         }
         log.debug("Relaying {} outbox events", batch.size());
-        batch.forEach(
-                entity -> {
-                    eventPublisher.publish(
-                            entity.getEventType(),
-                            entity.getPayloadJson(),
-                            entity.getFirmId().toString(),
-                            entity.getEventKey());
-                    entity.setPublishedAt(clockPort.now());
-                });
+        metrics.recordBatch(batch.size());
+        batch.forEach(this::publish);
         outboxJpaRepository.saveAll(batch);
     }
+
+    /**
+     * Publishes one row inside a producer span that continues the trace of the request which
+     * appended it, so the publisher and its log lines carry the original trace id.
+     */
+    @SuppressWarnings("try")
+    private void publish(final OutboxEntity entity) {
+        final Span span = traceContext.startPublishSpan(entity.getTraceParent(), entity.getEventType());
+        try (Tracer.SpanInScope scope = traceContext.withSpan(span)) {
+            final long start = System.nanoTime();
+            eventPublisher.publish(
+                    entity.getEventType(),
+                    entity.getContentType(),
+                    payloadOf(entity),
+                    entity.getFirmId().toString(),
+                    entity.getEventKey());
+            final long publishNanos = System.nanoTime() - start;
+            final Instant publishedAt = clockPort.now();
+            entity.setPublishedAt(publishedAt);
+            metrics.recordPublished(entity.getOccurredAt(), publishedAt, publishNanos);
+        } catch (RuntimeException ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static byte[] payloadOf(final OutboxEntity entity) {
+        return entity.getPayloadBytes() != null
+                ? entity.getPayloadBytes()
+                : entity.getPayloadJson().getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,69 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+/**
+ * Carries trace context across the outbox, from the request that appends an event to the relay
+ * that publishes it.
+ *
+ * <p>The context is stored as a W3C {@code traceparent} header value, so it survives restarts and
+ * does not depend on the tracing backend.
+ */
+@Component
+public class OutboxTraceContext {
+
+    static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public OutboxTraceContext(final Tracer tracer, final Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * @return {@code traceparent} of the current span, or {@code null} outside a trace.
+     */
+    public String capture() {
+        final Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        final Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+
+    /**
+     * Starts a producer span for publishing one outbox row.
+     *
+     * @param traceParent stored {@code traceparent}; {@code null} starts a new trace.
+     * @param eventType event type tagged on the span.
+     * @return started span; the caller ends it.
+     */
+    public Span startPublishSpan(final String traceParent, final String eventType) {
+        final Span.Builder builder = traceParent == null
+                ? tracer.spanBuilder()
+                : propagator.extract(Map.of(TRACEPARENT, traceParent), Map::get);
+        return builder.name("outbox publish")
+                .kind(Span.Kind.PRODUCER)
+                .tag("outbox.event_type", eventType)
+                .start();
+    }
+
+    /**
+     * @param span span to make current.
+     * @return scope to close once the span's work is done.
+     */
+    public Tracer.SpanInScope withSpan(final Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -0,0 +1,59 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
+import java.security.SecureRandom;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link IdGeneratorPort} producing monotonic UUIDv7 identifiers (RFC 9562, method 3).
+ *
+ * <p>The 48 most significant bits hold the Unix epoch milliseconds from {@link ClockPort}, followed
+ * by a 12-bit counter that is randomly seeded each millisecond and incremented for every further ID
+ * in the same millisecond. The remaining 62 bits are random. New rows therefore land at the right
+ * edge of B-tree indexes and {@code id > cursor} pagination follows creation order.
+ *
+ * <p>If the clock moves backwards, or the counter is exhausted within one millisecond, the generator
+ * keeps using (or advances) the last timestamp so identifiers never go backwards within a process.
+ */
+@Component
+public class TimeOrderedIdGeneratorAdapter implements IdGeneratorPort {
+
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long COUNTER_MASK = 0x0FFFL;
+    private static final int COUNTER_SEED_BOUND = 1 << 11;
+    private static final long VARIANT_BITS = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final ClockPort clockPort;
+    private final SecureRandom random = new SecureRandom();
+
+    private long lastMillis = -1L;
+    private long counter;
+
+    public TimeOrderedIdGeneratorAdapter(final ClockPort clockPort) {
+        this.clockPort = clockPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID nextId() {
+        final long randomBits = random.nextLong();
+        final long mostSignificant;
+        synchronized (this) {
+            final long now = clockPort.now().toEpochMilli();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = random.nextInt(COUNTER_SEED_BOUND);
+            } else if (++counter > COUNTER_MASK) {
+                lastMillis++;
+                counter = 0;
+            }
+            mostSignificant = (lastMillis << 16) | VERSION_BITS | counter;
+        }
+        return new UUID(mostSignificant, (randomBits & RANDOM_MASK) | VARIANT_BITS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.SubmittedEntryEntity;
+import com.aequitas.aequitascentralservice.adapter.persistence.mapper.SubmittedEntryMapper;
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.SubmittedEntryJpaRepository;
+import com.aequitas.aequitascentralservice.app.port.outbound.ApprovalQueuePort;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+
+/**
+ * {@link ApprovalQueuePort} backed by the {@code submitted_entries} projection table.
+ */
+@Component
+public class ApprovalQueueRepositoryAdapter implements ApprovalQueuePort {
+
+    private final SubmittedEntryJpaRepository repository;
+
+    public ApprovalQueueRepositoryAdapter(final SubmittedEntryJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enqueue(final TimeEntry entry) {
+        repository.insert(SubmittedEntryMapper.toEntity(entry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(final TimeEntry entry) {
+        repository.refresh(SubmittedEntryMapper.toEntity(entry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dequeue(final UUID firmId, final UUID entryId) {
+        repository.deleteQueued(firmId, entryId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code totalItems} is the size of the whole queue. A short first page already is the
+     * whole queue, so the count query only runs for full or later pages.
+     */
+    @Override
+    public PageResult<TimeEntryView> list(final UUID firmId, final PageRequest pageRequest) {
+        final Limit limit = Limit.of(pageRequest.limit());
+        final boolean firstPage = pageRequest.cursor() == null || pageRequest.cursor().isBlank();
+        final List<SubmittedEntryEntity> rows
+                = firstPage
+                ? repository.findByFirmIdOrderByEntryIdAsc(firmId, limit)
+                : repository.findByFirmIdAndEntryIdGreaterThanOrderByEntryIdAsc(
+                        firmId, UUID.fromString(pageRequest.cursor()), limit);
+        final List<TimeEntryView> items = rows.stream().map(SubmittedEntryMapper::toView).toList();
+        final boolean full = !items.isEmpty() && items.size() == pageRequest.limit();
+        final String nextCursor = full ? items.getLast().id().toString() : null;
+        final long totalItems = firstPage && !full ? items.size() : repository.countByFirmId(firmId);
+        return new PageResult<>(items, nextCursor, totalItems, nextCursor != null);
+    }
+}
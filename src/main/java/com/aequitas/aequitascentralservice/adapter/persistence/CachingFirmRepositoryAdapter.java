@@ -0,0 +1,159 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.FirmRepositoryPort;
+import com.aequitas.aequitascentralservice.domain.model.Firm;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+
+/**
+ * Read-through cache decorating {@link FirmRepositoryAdapter}.
+ *
+ * <p>Firm rows change rarely while {@code GET /api/v1/firms/me} is requested on every dashboard
+ * load, so lookups by identifier are served from an in-process map keyed by firm ID.
+ *
+ * <p><strong>Consistency:</strong> Every {@link #save(Firm)} evicts the entry immediately and again
+ * once the surrounding transaction completes, so the writing replica never serves a stale or
+ * rolled-back snapshot. Other replicas converge within the configured {@code firm.cache.ttl}.
+ * Writes never start from a cached snapshot: {@link #findByIdForUpdate(UUID)} always reads the
+ * locked row, so an edit on one replica cannot write back fields another replica just changed.
+ *
+ * <p>At {@code firm.cache.max-entries} the cache drops expired snapshots first and then the
+ * oldest, one per load.
+ *
+ * <p><strong>Thread-Safety:</strong> Backed by a {@link ConcurrentHashMap}; safe for concurrent use.
+ *
+ * @see FirmRepositoryAdapter
+ * @since 1.0
+ */
+@Component
+@Primary
+public class CachingFirmRepositoryAdapter implements FirmRepositoryPort {
+
+    private final FirmRepositoryAdapter delegate;
+    private final ClockPort clockPort;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<UUID, CachedFirm> cache = new ConcurrentHashMap<>();
+
+    public CachingFirmRepositoryAdapter(
+            final FirmRepositoryAdapter delegate,
+            final ClockPort clockPort,
+            @Value("${firm.cache.ttl:PT5M}") final Duration ttl,
+            @Value("${firm.cache.max-entries:10000}") final int maxEntries) {
+        this.delegate = delegate;
+        this.clockPort = clockPort;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Firm save(final Firm firm) {
+        evict(firm.getId());
+        final Firm saved = delegate.save(firm);
+        evictAfterCompletion(saved.getId());
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Firm insert(final Firm firm) {
+        return delegate.insert(firm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Firm> findById(final UUID id) {
+        final Instant now = clockPort.now();
+        final CachedFirm cached = cache.get(id);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(cached.firm());
+        }
+        final Optional<Firm> loaded = delegate.findById(id);
+        loaded.ifPresentOrElse(firm -> store(firm, now), () -> cache.remove(id));
+        return loaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Firm> findByIdForUpdate(final UUID id) {
+        return delegate.findByIdForUpdate(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResult<Firm> list(final PageRequest pageRequest) {
+        return delegate.list(pageRequest);
+    }
+
+    /**
+     * Drops the cached snapshot for the supplied firm.
+     *
+     * @param id firm identifier.
+     */
+    public void evict(final UUID id) {
+        cache.remove(id);
+    }
+
+    private void store(final Firm firm, final Instant now) {
+        if (cache.size() >= maxEntries) {
+            makeRoom(now);
+        }
+        cache.put(firm.getId(), new CachedFirm(firm, now.plus(ttl)));
+    }
+
+    /**
+     * Drops expired snapshots and, if the cache is still full, the one loaded longest ago, so hot
+     * entries survive a full cache instead of all missing at once.
+     */
+    private void makeRoom(final Instant now) {
+        cache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        cache.entrySet().stream()
+                .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                .ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private void evictAfterCompletion(final UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        evict(id);
+                    }
+                });
+    }
+
+    private record CachedFirm(Firm firm, Instant expiresAt) {
+    }
+}
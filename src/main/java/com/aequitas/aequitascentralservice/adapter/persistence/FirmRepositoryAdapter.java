@@ -58,6 +58,15 @@ public class FirmRepositoryAdapter implements FirmRepositoryPort {
         return FirmMapper.toDomain(saved);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Firm insert(final Firm firm) {
+        final FirmEntity inserted = repository.insert(FirmMapper.toEntity(firm));
+        return FirmMapper.toDomain(inserted);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -66,6 +75,14 @@ public class FirmRepositoryAdapter implements FirmRepositoryPort {
         return repository.findById(id).map(FirmMapper::toDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Firm> findByIdForUpdate(final UUID id) {
+        return repository.findForUpdateById(id).map(FirmMapper::toDomain);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,54 +1,103 @@
 package com.aequitas.aequitascentralservice.adapter.persistence;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import com.aequitas.aequitascentralservice.adapter.outbox.EventSerializer;
+import com.aequitas.aequitascentralservice.adapter.outbox.EventSerializers;
+import com.aequitas.aequitascentralservice.adapter.outbox.OutboxTraceContext;
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEntity;
+import com.aequitas.aequitascentralservice.adapter.persistence.mapper.OutboxMapper;
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
 import com.aequitas.aequitascentralservice.app.port.outbound.OutboxPort;
 import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JPA-backed implementation of the {@link OutboxPort}.
+ *
+ * <p>Appends take a transaction-scoped advisory lock per firm before inserting, so a firm's rows
+ * commit in the order of their database-assigned sequence and the change feed never exposes a
+ * gap that is filled later. Appends of different firms do not contend.
+ *
+ * <p>Payloads are encoded with the configured {@link EventSerializer}: JSON formats are stored in
+ * {@code payload_json}, binary ones in {@code payload_bytes}. The change feed always exposes JSON,
+ * so binary rows are decoded when read.
+ *
+ * <p>Each row records the {@code traceparent} of the appending request so the relay can continue
+ * its trace when it publishes.
  */
 @Component
 @Slf4j
 public class OutboxRepositoryAdapter implements OutboxPort {
 
     private final OutboxJpaRepository repository;
-    private final ObjectMapper objectMapper;
+    private final EventSerializers serializers;
+    private final OutboxTraceContext traceContext;
 
     public OutboxRepositoryAdapter(
-            final OutboxJpaRepository repository, final ObjectMapper objectMapper) {
+            final OutboxJpaRepository repository,
+            final EventSerializers serializers,
+            final OutboxTraceContext traceContext) {
         this.repository = repository;
-        this.objectMapper = objectMapper;
+        this.serializers = serializers;
+        this.traceContext = traceContext;
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public void append(final UUID firmId, final UUID aggregateId, final DomainEvent event) {
+        final EventSerializer serializer = serializers.writer();
+        final byte[] payload = serializer.serialize(event);
         final OutboxEntity entity = OutboxEntity.builder()
                 .id(event.eventId())
                 .firmId(firmId)
                 .aggregateId(aggregateId)
                 .eventType(event.eventType())
                 .eventKey(aggregateId + "::" + event.eventType())
-                .payloadJson(toJson(event))
+                .contentType(serializer.contentType())
+                .payloadJson(serializer.textual() ? new String(payload, StandardCharsets.UTF_8) : null)
+                .payloadBytes(serializer.textual() ? null : payload)
                 .occurredAt(event.occurredAt())
+                .traceParent(traceContext.capture())
                 .build();
 
-        repository.save(entity);
+        repository.lockFirmFeed(firmId);
+        repository.insert(entity);
     }
 
-    private String toJson(final DomainEvent event) {
-        try {
-            return objectMapper.writeValueAsString(event);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Unable to serialize event payload", e);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads one row beyond {@code limit} to tell whether more events are waiting.
+     */
+    @Override
+    public FeedPage<OutboxMessage> readAfter(final UUID firmId, final long afterSequence, final int limit) {
+        final List<OutboxEntity> rows = repository.findByFirmIdAndSequenceGreaterThanOrderBySequenceAsc(
+                firmId, afterSequence, Limit.of(limit + 1));
+        final boolean hasMore = rows.size() > limit;
+        final List<OutboxMessage> items =
+                rows.stream().limit(limit).map(this::toMessage).toList();
+        final long lastSequence = items.isEmpty() ? afterSequence : items.getLast().sequence();
+        return new FeedPage<>(items, lastSequence, hasMore);
+    }
+
+    private OutboxMessage toMessage(final OutboxEntity entity) {
+        if (entity.getPayloadBytes() == null) {
+            return OutboxMapper.toDomain(entity);
         }
+        final String payloadJson = serializers.forContentType(entity.getContentType())
+                .readTree(entity.getPayloadBytes())
+                .toString();
+        return OutboxMapper.toDomain(entity, payloadJson);
     }
 }
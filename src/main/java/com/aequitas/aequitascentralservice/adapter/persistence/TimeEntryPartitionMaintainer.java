@@ -0,0 +1,52 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntryJpaRepository;
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps monthly {@code time_entries} partitions created ahead of time.
+ *
+ * <p>Runs once at startup and then periodically, creating the partition for the current UTC month
+ * and the configured number of months after it. Rows outside every monthly partition fall into the
+ * default partition, which prevents creating that month later, so the look-ahead should comfortably
+ * exceed the longest expected outage.
+ */
+@Component
+@Slf4j
+public class TimeEntryPartitionMaintainer {
+
+    private final TimeEntryJpaRepository repository;
+    private final ClockPort clockPort;
+    private final int monthsAhead;
+
+    public TimeEntryPartitionMaintainer(
+            final TimeEntryJpaRepository repository,
+            final ClockPort clockPort,
+            @Value("${time-entries.partitions.months-ahead:3}") final int monthsAhead) {
+        this.repository = repository;
+        this.clockPort = clockPort;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates any missing partitions for the current month and the look-ahead window.
+     */
+    @Scheduled(fixedDelayString = "${time-entries.partitions.maintenance-interval:PT12H}")
+    public void ensurePartitions() {
+        final LocalDate currentMonth =
+                LocalDate.ofInstant(clockPort.now(), ZoneOffset.UTC).withDayOfMonth(1);
+        final int created = repository.ensureMonthlyPartitions(currentMonth, monthsAhead);
+        if (created > 0) {
+            log.info("Created {} time entry partitions starting {}", created, currentMonth);
+        }
+    }
+}
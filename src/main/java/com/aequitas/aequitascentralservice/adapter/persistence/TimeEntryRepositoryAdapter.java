@@ -1,21 +1,26 @@
 package com.aequitas.aequitascentralservice.adapter.persistence;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
 import com.aequitas.aequitascentralservice.adapter.persistence.mapper.TimeEntryMapper;
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntryJpaRepository;
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntrySearchRepository.RankedTimeEntry;
 import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryRepositoryPort;
 import com.aequitas.aequitascentralservice.constants.EntryFieldConstants;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
 
@@ -37,9 +42,26 @@ public class TimeEntryRepositoryAdapter implements TimeEntryRepositoryPort {
      * {@inheritDoc}
      */
     @Override
-    public TimeEntry save(final TimeEntry entry) {
-        final TimeEntryEntity saved = repository.save(TimeEntryMapper.toEntity(entry));
-        return TimeEntryMapper.toDomain(saved);
+    public TimeEntry insert(final TimeEntry entry) {
+        final TimeEntryEntity inserted = repository.insert(TimeEntryMapper.toEntity(entry));
+        return TimeEntryMapper.toDomain(inserted);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Issues a single
+     * {@code UPDATE ... WHERE id = ? AND created_at = ? AND firm_id = ? AND version = ?} instead of
+     * a merge, so no row is re-read before the write and only one partition is touched.
+     */
+    @Override
+    public TimeEntry update(final TimeEntry entry) {
+        final TimeEntryEntity entity = TimeEntryMapper.toEntity(entry);
+        if (entity.getVersion() == null || repository.updateIfVersionMatches(entity) == 0) {
+            throw new VersionConflictException("Time entry was modified by another request");
+        }
+        entity.setVersion(entity.getVersion() + 1);
+        return TimeEntryMapper.toDomain(entity);
     }
 
     /**
@@ -54,56 +76,126 @@ public class TimeEntryRepositoryAdapter implements TimeEntryRepositoryPort {
      * {@inheritDoc}
      */
     @Override
-    public PageResult<TimeEntry> search(
+    public List<TimeEntry> findAllById(final Collection<UUID> ids, final UUID firmId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllByFirmIdAndIdIn(firmId, ids.toArray(UUID[]::new)).stream()
+                .map(TimeEntryMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResult<TimeEntryView> search(
             final UUID firmId, final TimeEntryFilter filter, final PageRequest pageRequest) {
-        final Specification<TimeEntryEntity> specification
-                = (root, query, criteriaBuilder) -> {
-                    final List<Predicate> predicates = new ArrayList<>();
-                    predicates.add(criteriaBuilder.equal(root.get(EntryFieldConstants.FIRM_ID), firmId));
-                    filter.customerId()
-                            .ifPresent(
-                                    value
-                                    -> predicates.add(
-                                            criteriaBuilder.equal(root.get(EntryFieldConstants.CUSTOMER_ID), value)));
-                    filter.projectId()
-                            .ifPresent(
-                                    value
-                                    -> predicates.add(
-                                            criteriaBuilder.equal(root.get(EntryFieldConstants.PROJECT_ID), value)));
-                    filter.status()
-                            .ifPresent(
-                                    value
-                                    -> predicates.add(
-                                            criteriaBuilder.equal(root.get(EntryFieldConstants.STATUS), value)));
-                    filter.ownerId()
-                            .ifPresent(
-                                    value
-                                    -> predicates.add(
-                                            criteriaBuilder.equal(root.get(EntryFieldConstants.USER_ID), value)));
-                    parseCursor(pageRequest.cursor())
-                            .ifPresent(
-                                    cursor
-                                    -> predicates.add(
-                                            criteriaBuilder.greaterThan(root.get(EntryFieldConstants.ID), cursor)));
-                    return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-                };
-
-        final org.springframework.data.domain.PageRequest springPageRequest
-                = org.springframework.data.domain.PageRequest.of(
-                        0, pageRequest.limit(), Sort.by(Sort.Direction.ASC, EntryFieldConstants.ID));
-
-        final var page = repository.findAll(specification, springPageRequest);
-        final List<TimeEntry> items
-                = page.getContent().stream().map(TimeEntryMapper::toDomain).toList();
+        return search(firmId, filter, TimeEntryField.ALL, pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the selected columns are read and projected straight into {@link TimeEntryView}, so
+     * no entity is hydrated or snapshotted and no aggregate is rebuilt. Creation-window bounds are
+     * passed straight through as {@code created_at} predicates so the planner can prune monthly
+     * partitions. With a narrative query the results are ordered by relevance and the cursor
+     * becomes {@code <rank>~<id>}; otherwise they are ordered by id and the cursor is the last id.
+     * The narrative match itself is added by the search fragment, which binds the query text as a
+     * parameter for both the page and its count.
+     * On both paths the total counts the rows from the cursor onwards, and a short page already
+     * knows it, so the count query only runs when the page is full.
+     */
+    @Override
+    public PageResult<TimeEntryView> search(
+            final UUID firmId,
+            final TimeEntryFilter filter,
+            final Set<TimeEntryField> fields,
+            final PageRequest pageRequest) {
+        final Specification<TimeEntryEntity> specification = toSpecification(firmId, filter);
+        if (filter.narrativeQuery().isPresent()) {
+            return searchRanked(specification, filter.narrativeQuery().get(), fields, pageRequest);
+        }
+
+        final Optional<UUID> cursor = parseCursor(pageRequest.cursor());
+        final List<TimeEntryView> items
+                = repository.findViews(specification, fields, cursor.orElse(null), pageRequest.limit());
+        final boolean full = !items.isEmpty() && items.size() == pageRequest.limit();
+        final String nextCursor = full ? items.getLast().id().toString() : null;
+        final long totalItems
+                = full
+                ? repository.count(cursor.map(id -> specification.and(afterId(id))).orElse(specification))
+                : items.size();
+        return new PageResult<>(items, nextCursor, totalItems, nextCursor != null);
+    }
+
+    private PageResult<TimeEntryView> searchRanked(
+            final Specification<TimeEntryEntity> specification,
+            final String narrativeQuery,
+            final Set<TimeEntryField> fields,
+            final PageRequest pageRequest) {
+        final Optional<RankCursor> cursor = RankCursor.parse(pageRequest.cursor());
+        final Float afterRank = cursor.map(RankCursor::rank).orElse(null);
+        final UUID afterId = cursor.map(RankCursor::id).orElse(null);
+        final List<RankedTimeEntry> rows = repository.findRanked(
+                specification, narrativeQuery, fields, afterRank, afterId, pageRequest.limit());
+        final List<TimeEntryView> items = rows.stream().map(RankedTimeEntry::view).toList();
+        final boolean full = !rows.isEmpty() && rows.size() == pageRequest.limit();
         final String nextCursor
-                = items.size() == pageRequest.limit()
-                && !page.getContent().isEmpty()
-                ? page.getContent()
-                        .get(page.getContent().size() - 1)
-                        .getId()
-                        .toString()
+                = full
+                ? new RankCursor(rows.getLast().rank(), rows.getLast().view().id()).encode()
                 : null;
-        return new PageResult<>(items, nextCursor, page.getTotalElements(), nextCursor != null);
+        final long totalItems
+                = full
+                ? repository.countRanked(specification, narrativeQuery, afterRank, afterId)
+                : items.size();
+        return new PageResult<>(items, nextCursor, totalItems, nextCursor != null);
+    }
+
+    private static Specification<TimeEntryEntity> toSpecification(
+            final UUID firmId, final TimeEntryFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get(EntryFieldConstants.FIRM_ID), firmId));
+            filter.customerId()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.equal(root.get(EntryFieldConstants.CUSTOMER_ID), value)));
+            filter.projectId()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.equal(root.get(EntryFieldConstants.PROJECT_ID), value)));
+            filter.status()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.equal(root.get(EntryFieldConstants.STATUS), value)));
+            filter.ownerId()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.equal(root.get(EntryFieldConstants.USER_ID), value)));
+            filter.createdFrom()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.greaterThanOrEqualTo(
+                                            root.get(EntryFieldConstants.CREATED_AT), value)));
+            filter.createdTo()
+                    .ifPresent(
+                            value
+                            -> predicates.add(
+                                    criteriaBuilder.lessThan(root.get(EntryFieldConstants.CREATED_AT), value)));
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Specification<TimeEntryEntity> afterId(final UUID cursor) {
+        return (root, query, criteriaBuilder)
+                -> criteriaBuilder.greaterThan(root.get(EntryFieldConstants.ID), cursor);
     }
 
     private Optional<UUID> parseCursor(final String cursor) {
@@ -112,4 +204,36 @@ public class TimeEntryRepositoryAdapter implements TimeEntryRepositoryPort {
         }
         return Optional.of(UUID.fromString(cursor));
     }
+
+    /**
+     * Keyset position within relevance-ordered results.
+     *
+     * @param rank relevance of the last row returned.
+     * @param id identifier of the last row returned.
+     */
+    record RankCursor(float rank, UUID id) {
+
+        private static final char SEPARATOR = '~';
+
+        static Optional<RankCursor> parse(final String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return Optional.empty();
+            }
+            final int separator = cursor.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            try {
+                return Optional.of(new RankCursor(
+                        Float.parseFloat(cursor.substring(0, separator)),
+                        UUID.fromString(cursor.substring(separator + 1))));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid cursor", ex);
+            }
+        }
+
+        String encode() {
+            return Float.toString(rank) + SEPARATOR + id;
+        }
+    }
 }
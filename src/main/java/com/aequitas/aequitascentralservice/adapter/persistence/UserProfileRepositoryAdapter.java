@@ -48,4 +48,9 @@ public class UserProfileRepositoryAdapter implements UserProfileRepositoryPort {
     public UserProfile save(final UserProfile profile) {
         return UserProfileMapper.toDomain(repository.save(UserProfileMapper.toEntity(profile)));
     }
+
+    @Override
+    public UserProfile insert(final UserProfile profile) {
+        return UserProfileMapper.toDomain(repository.insert(UserProfileMapper.toEntity(profile)));
+    }
 }
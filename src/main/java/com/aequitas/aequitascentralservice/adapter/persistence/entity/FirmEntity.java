@@ -8,7 +8,6 @@ import com.aequitas.aequitascentralservice.adapter.persistence.embeddable.Addres
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -33,8 +32,10 @@ public class FirmEntity {
     public static final String CREATED_AT = "created_at";
     public static final String UPDATED_AT = "updated_at";
 
+    /**
+     * Identifier assigned by the domain when the firm is created.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(name = NAME, nullable = false, length = 255)
@@ -5,7 +5,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -37,8 +36,10 @@ public class IdempotencyRecordEntity {
     public static final String CREATED_AT = "created_at";
     public static final String EXPIRES_AT = "expires_at";
 
+    /**
+     * Identifier assigned by the application when the row is created.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Enumerated(EnumType.STRING)
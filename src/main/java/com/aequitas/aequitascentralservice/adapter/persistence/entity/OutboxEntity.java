@@ -11,7 +11,6 @@ import org.hibernate.type.SqlTypes;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Builder;
@@ -33,11 +32,17 @@ public class OutboxEntity {
     public static final String EVENT_TYPE = "event_type";
     public static final String EVENT_KEY = "event_key";
     public static final String PAYLOAD_JSON = "payload_json";
+    public static final String PAYLOAD_BYTES = "payload_bytes";
+    public static final String CONTENT_TYPE = "content_type";
     public static final String OCCURRED_AT = "occurred_at";
     public static final String PUBLISHED_AT = "published_at";
+    public static final String SEQUENCE = "sequence";
+    public static final String TRACEPARENT = "traceparent";
 
+    /**
+     * Identifier assigned by the application when the row is created.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(name = FIRM_ID, nullable = false)
@@ -52,14 +57,41 @@ public class OutboxEntity {
     @Column(name = EVENT_KEY, nullable = false)
     private String eventKey;
 
+    /**
+     * Payload of textual JSON formats; {@code null} when {@link #payloadBytes} is set.
+     */
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = PAYLOAD_JSON, nullable = false, columnDefinition = "jsonb")
+    @Column(name = PAYLOAD_JSON, columnDefinition = "jsonb")
     private String payloadJson;
 
+    /**
+     * Payload of binary formats; {@code null} when {@link #payloadJson} is set.
+     */
+    @Column(name = PAYLOAD_BYTES, columnDefinition = "bytea")
+    private byte[] payloadBytes;
+
+    /**
+     * Format of the payload.
+     */
+    @Column(name = CONTENT_TYPE, nullable = false)
+    private String contentType;
+
     @Column(name = OCCURRED_AT, nullable = false)
     private Instant occurredAt;
 
     @Column(name = PUBLISHED_AT)
     private Instant publishedAt;
 
+    /**
+     * Position in the change feed, assigned by the database on insert.
+     */
+    @Column(name = SEQUENCE, insertable = false, updatable = false)
+    private Long sequence;
+
+    /**
+     * W3C {@code traceparent} of the span that appended the row; {@code null} outside a trace.
+     */
+    @Column(name = TRACEPARENT, updatable = false)
+    private String traceParent;
+
 }
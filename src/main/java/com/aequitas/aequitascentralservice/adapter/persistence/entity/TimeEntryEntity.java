@@ -9,9 +9,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -40,9 +40,12 @@ public class TimeEntryEntity {
     public static final String UPDATED_AT = "updated_at";
     public static final String APPROVED_AT = "approved_at";
     public static final String APPROVED_BY = "approved_by";
+    public static final String VERSION = "version";
 
+    /**
+     * Identifier assigned by the domain when the draft is created.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(name = FIRM_ID, nullable = false)
@@ -81,4 +84,8 @@ public class TimeEntryEntity {
 
     @Column(name = APPROVED_BY)
     private UUID approvedBy;
+
+    @Version
+    @Column(name = VERSION, nullable = false)
+    private Long version;
 }
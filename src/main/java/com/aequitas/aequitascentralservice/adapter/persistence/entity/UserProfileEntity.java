@@ -8,7 +8,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -36,7 +35,6 @@ public class UserProfileEntity {
     public static final String AUTHENTICATION_ID = "authentication_id";
 
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(name = CREATED_AT, nullable = false)
@@ -1,5 +1,7 @@
 package com.aequitas.aequitascentralservice.adapter.persistence.mapper;
 
+import org.springframework.http.MediaType;
+
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEntity;
 import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
 
@@ -22,8 +24,10 @@ public final class OutboxMapper {
                 .aggregateId(message.aggregateId())
                 .eventType(message.eventType())
                 .payloadJson(message.payloadJson())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .occurredAt(message.occurredAt())
                 .publishedAt(message.publishedAt())
+                .sequence(message.sequence())
                 .eventKey(message.aggregateId().toString() + "-" + message.eventType())
                 .build();
     }
@@ -33,14 +37,24 @@ public final class OutboxMapper {
      * @return domain outbox row.
      */
     public static OutboxMessage toDomain(final OutboxEntity entity) {
+        return toDomain(entity, entity.getPayloadJson());
+    }
+
+    /**
+     * @param entity entity snapshot.
+     * @param payloadJson payload rendered as JSON, for rows stored in a binary format.
+     * @return domain outbox row.
+     */
+    public static OutboxMessage toDomain(final OutboxEntity entity, final String payloadJson) {
         return OutboxMessage.builder()
                 .id(entity.getId())
                 .firmId(entity.getFirmId())
                 .aggregateId(entity.getAggregateId())
                 .eventType(entity.getEventType())
-                .payloadJson(entity.getPayloadJson())
+                .payloadJson(payloadJson)
                 .occurredAt(entity.getOccurredAt())
                 .publishedAt(entity.getPublishedAt())
+                .sequence(entity.getSequence())
                 .build();
     }
 }
@@ -0,0 +1,54 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.mapper;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.SubmittedEntryEntity;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Mapper bridging submitted {@link TimeEntry} aggregates, {@link SubmittedEntryEntity} queue rows
+ * and {@link TimeEntryView} read models.
+ */
+@UtilityClass
+public final class SubmittedEntryMapper {
+
+    /**
+     * @param entry submitted aggregate.
+     * @return queue row snapshot.
+     */
+    public static SubmittedEntryEntity toEntity(final TimeEntry entry) {
+        return SubmittedEntryEntity.builder()
+                .entryId(entry.getId())
+                .firmId(entry.getFirmId())
+                .userId(entry.getUserId())
+                .customerId(entry.getCustomerId())
+                .projectId(entry.getProjectId())
+                .matterId(entry.getMatterId())
+                .narrative(entry.getNarrative())
+                .durationMinutes(entry.getDurationMinutes())
+                .createdAt(entry.getCreatedAt())
+                .updatedAt(entry.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * @param entity queue row.
+     * @return read model of the submitted entry.
+     */
+    public static TimeEntryView toView(final SubmittedEntryEntity entity) {
+        return new TimeEntryView(
+                entity.getEntryId(),
+                entity.getCustomerId(),
+                entity.getProjectId(),
+                entity.getMatterId(),
+                entity.getUserId(),
+                entity.getNarrative(),
+                entity.getDurationMinutes(),
+                EntryStatus.SUBMITTED,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                null);
+    }
+}
@@ -33,6 +33,7 @@ public final class TimeEntryMapper {
                 .updatedAt(entry.getUpdatedAt())
                 .approvedBy(entry.getApprovedBy())
                 .approvedAt(entry.getApprovedAt())
+                .version(entry.getVersion())
                 .build();
     }
 
@@ -57,6 +58,7 @@ public final class TimeEntryMapper {
                 .updatedAt(entity.getUpdatedAt())
                 .approvedBy(entity.getApprovedBy())
                 .approvedAt(entity.getApprovedAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
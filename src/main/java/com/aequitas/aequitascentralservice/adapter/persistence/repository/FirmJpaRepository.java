@@ -1,16 +1,30 @@
 package com.aequitas.aequitascentralservice.adapter.persistence.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.FirmEntity;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Spring Data JPA repository for firm persistence.
  */
 @Repository
-public interface FirmJpaRepository extends JpaRepository<FirmEntity, UUID>, JpaSpecificationExecutor<FirmEntity> {
+public interface FirmJpaRepository
+        extends JpaRepository<FirmEntity, UUID>, JpaSpecificationExecutor<FirmEntity>, InsertRepository<FirmEntity> {
+
+    /**
+     * Loads a firm with a {@code SELECT ... FOR UPDATE} row lock.
+     *
+     * @param id firm identifier.
+     * @return locked entity if found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<FirmEntity> findForUpdateById(UUID id);
 }
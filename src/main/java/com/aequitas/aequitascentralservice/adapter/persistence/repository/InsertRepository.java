@@ -0,0 +1,22 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+/**
+ * Spring Data fragment exposing an explicit insert for entities whose identifiers are assigned by
+ * the application.
+ *
+ * <p>{@code JpaRepository.save} treats an entity with a non-null identifier as detached and calls
+ * {@code merge}, which issues a {@code SELECT} before the {@code INSERT}. Aggregates that are known
+ * to be new go through {@link #insert(Object)} instead, which persists without the lookup.
+ *
+ * @param <T> entity type.
+ */
+public interface InsertRepository<T> {
+
+    /**
+     * Persists a new entity without checking for an existing row first.
+     *
+     * @param entity transient entity.
+     * @return the managed entity.
+     */
+    T insert(T entity);
+}
@@ -0,0 +1,27 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * {@link EntityManager#persist(Object)}-backed implementation of {@link InsertRepository}.
+ *
+ * @param <T> entity type.
+ */
+public class InsertRepositoryImpl<T> implements InsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public T insert(final T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
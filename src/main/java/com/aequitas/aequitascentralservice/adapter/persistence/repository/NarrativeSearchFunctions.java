@@ -0,0 +1,60 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
+import com.aequitas.aequitascentralservice.constants.EntryFieldConstants;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Criteria expressions for the narrative full-text functions created in V6
+ * ({@code narrative_matches} and {@code narrative_rank}).
+ *
+ * <p>Both functions wrap {@code to_tsvector('english', narrative)}, the expression behind
+ * {@code idx_time_entries_narrative_fts}, so predicates built here are index-assisted. The query
+ * text is taken as an expression so callers bind it as a parameter rather than inlining user input
+ * into the statement.
+ */
+@UtilityClass
+public class NarrativeSearchFunctions {
+
+    private static final String MATCHES = "narrative_matches";
+    private static final String RANK = "narrative_rank";
+
+    /**
+     * @param criteriaBuilder active builder.
+     * @param root time entry root.
+     * @param query parameter carrying the web-search style query text.
+     * @return predicate matching entries whose narrative satisfies the query.
+     */
+    public static Predicate matches(
+            final CriteriaBuilder criteriaBuilder,
+            final Root<TimeEntryEntity> root,
+            final Expression<String> query) {
+        return criteriaBuilder.isTrue(
+                criteriaBuilder.function(
+                        MATCHES,
+                        Boolean.class,
+                        root.get(EntryFieldConstants.NARRATIVE),
+                        query));
+    }
+
+    /**
+     * @param criteriaBuilder active builder.
+     * @param root time entry root.
+     * @param query parameter carrying the web-search style query text.
+     * @return relevance of the narrative for the query; higher is better.
+     */
+    public static Expression<Float> rank(
+            final CriteriaBuilder criteriaBuilder,
+            final Root<TimeEntryEntity> root,
+            final Expression<String> query) {
+        return criteriaBuilder.function(
+                RANK,
+                Float.class,
+                root.get(EntryFieldConstants.NARRATIVE),
+                query);
+    }
+}
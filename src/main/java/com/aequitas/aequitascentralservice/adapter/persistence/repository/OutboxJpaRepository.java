@@ -3,13 +3,22 @@ package com.aequitas.aequitascentralservice.adapter.persistence.repository;
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEntity;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository for {@link OutboxEntity}.
  */
-public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, UUID> {
+public interface OutboxJpaRepository
+        extends JpaRepository<OutboxEntity, UUID>, InsertRepository<OutboxEntity> {
 
     /**
      * Fetches the next batch awaiting publication ordered by occurrence date.
@@ -26,4 +35,34 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, UUID> {
      * @return backlog size.
      */
     long countByPublishedAtIsNullAndOccurredAtBefore(Instant threshold);
+
+    /**
+     * @return occurrence time of the oldest unpublished row; empty when the backlog is empty.
+     */
+    @Query("select min(o.occurredAt) from OutboxEntity o where o.publishedAt is null")
+    Optional<Instant> findOldestUnpublishedOccurredAt();
+
+    /**
+     * Reads a firm's change feed after a sequence.
+     *
+     * @param firmId tenant identifier.
+     * @param sequence exclusive lower bound.
+     * @param limit maximum rows to return.
+     * @return rows in sequence order.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<OutboxEntity> findByFirmIdAndSequenceGreaterThanOrderBySequenceAsc(
+            UUID firmId, long sequence, Limit limit);
+
+    /**
+     * Serialises outbox appends of one firm until the current transaction ends, so the firm's rows
+     * commit in sequence order.
+     *
+     * @param firmId tenant identifier.
+     * @return always {@code 1}.
+     */
+    @Query(
+            value = "select 1 from pg_advisory_xact_lock(hashtextextended(cast(:firmId as text), 0))",
+            nativeQuery = true)
+    int lockFirmFeed(@Param("firmId") UUID firmId);
 }
@@ -0,0 +1,73 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.SubmittedEntryEntity;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for the {@link SubmittedEntryEntity} approval queue projection.
+ */
+public interface SubmittedEntryJpaRepository
+        extends JpaRepository<SubmittedEntryEntity, UUID>, InsertRepository<SubmittedEntryEntity> {
+
+    /**
+     * @param firmId tenant identifier.
+     * @param limit maximum rows to return.
+     * @return first queued entries ordered by entry id.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<SubmittedEntryEntity> findByFirmIdOrderByEntryIdAsc(UUID firmId, Limit limit);
+
+    /**
+     * @param firmId tenant identifier.
+     * @param afterId id of the last row of the previous page.
+     * @param limit maximum rows to return.
+     * @return queued entries after the cursor ordered by entry id.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<SubmittedEntryEntity> findByFirmIdAndEntryIdGreaterThanOrderByEntryIdAsc(
+            UUID firmId, UUID afterId, Limit limit);
+
+    /**
+     * @param firmId tenant identifier.
+     * @return number of entries awaiting approval.
+     */
+    long countByFirmId(UUID firmId);
+
+    /**
+     * Rewrites the descriptive columns of a queued entry after a submitted entry was edited.
+     *
+     * @param entry projection snapshot.
+     * @return number of rows updated; {@code 0} when the entry is not queued.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update SubmittedEntryEntity e
+               set e.customerId = :#{#entry.customerId},
+                   e.projectId = :#{#entry.projectId},
+                   e.matterId = :#{#entry.matterId},
+                   e.narrative = :#{#entry.narrative},
+                   e.durationMinutes = :#{#entry.durationMinutes},
+                   e.updatedAt = :#{#entry.updatedAt}
+             where e.entryId = :#{#entry.entryId}
+               and e.firmId = :#{#entry.firmId}
+            """)
+    int refresh(@Param("entry") SubmittedEntryEntity entry);
+
+    /**
+     * @param firmId tenant identifier.
+     * @param entryId entry identifier.
+     * @return number of rows removed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SubmittedEntryEntity e where e.firmId = :firmId and e.entryId = :entryId")
+    int deleteQueued(@Param("firmId") UUID firmId, @Param("entryId") UUID entryId);
+}
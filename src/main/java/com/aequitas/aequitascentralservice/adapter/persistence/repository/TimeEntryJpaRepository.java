@@ -1,16 +1,25 @@
 package com.aequitas.aequitascentralservice.adapter.persistence.repository;
 
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data repository for {@link TimeEntryEntity}.
  */
 public interface TimeEntryJpaRepository
-        extends JpaRepository<TimeEntryEntity, UUID>, JpaSpecificationExecutor<TimeEntryEntity> {
+        extends JpaRepository<TimeEntryEntity, UUID>,
+                JpaSpecificationExecutor<TimeEntryEntity>,
+                InsertRepository<TimeEntryEntity>,
+                TimeEntrySearchRepository {
 
     /**
      * @param id entry identifier.
@@ -18,4 +27,61 @@ public interface TimeEntryJpaRepository
      * @return optional entity scoped to the firm.
      */
     Optional<TimeEntryEntity> findByIdAndFirmId(UUID id, UUID firmId);
+
+    /**
+     * Loads several entries of one firm with a single {@code id = any(?)} predicate. Binding the
+     * identifiers as one array keeps the statement text identical whatever their number, so the
+     * driver and server reuse one prepared plan instead of one per {@code IN} list length.
+     *
+     * @param firmId tenant identifier.
+     * @param ids entry identifiers.
+     * @return entities found, in no particular order.
+     */
+    @Query(
+            value = "select * from " + TimeEntryEntity.TABLE_NAME
+                    + " where " + TimeEntryEntity.FIRM_ID + " = :firmId and id = any(:ids)",
+            nativeQuery = true)
+    List<TimeEntryEntity> findAllByFirmIdAndIdIn(@Param("firmId") UUID firmId, @Param("ids") UUID[] ids);
+
+    /**
+     * Writes every mutable column in one statement guarded by the optimistic-locking version.
+     * The immutable {@code createdAt} is part of the key so the update touches a single partition.
+     *
+     * @param entry snapshot carrying the version that was read.
+     * @return number of rows updated; {@code 0} signals a concurrent modification.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update TimeEntryEntity e
+               set e.customerId = :#{#entry.customerId},
+                   e.projectId = :#{#entry.projectId},
+                   e.matterId = :#{#entry.matterId},
+                   e.narrative = :#{#entry.narrative},
+                   e.durationMinutes = :#{#entry.durationMinutes},
+                   e.status = :#{#entry.status},
+                   e.updatedAt = :#{#entry.updatedAt},
+                   e.approvedBy = :#{#entry.approvedBy},
+                   e.approvedAt = :#{#entry.approvedAt},
+                   e.version = e.version + 1
+             where e.id = :#{#entry.id}
+               and e.createdAt = :#{#entry.createdAt}
+               and e.firmId = :#{#entry.firmId}
+               and e.version = :#{#entry.version}
+            """)
+    int updateIfVersionMatches(@Param("entry") TimeEntryEntity entry);
+
+    /**
+     * Creates any missing monthly partitions from {@code startMonth} through
+     * {@code startMonth + monthsAhead} (see {@code ensure_time_entry_partitions} in V5).
+     *
+     * @param startMonth first month to cover; truncated to the first day.
+     * @param monthsAhead number of further months to cover.
+     * @return number of partitions created.
+     */
+    @Transactional
+    @Query(
+            value = "select ensure_time_entry_partitions(cast(:startMonth as date), :monthsAhead)",
+            nativeQuery = true)
+    int ensureMonthlyPartitions(
+            @Param("startMonth") LocalDate startMonth, @Param("monthsAhead") int monthsAhead);
 }
@@ -0,0 +1,72 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Spring Data fragment for list queries that project straight into {@link TimeEntryView}.
+ *
+ * <p>Only the columns of the requested {@link TimeEntryField}s are selected, as tuples, so no
+ * {@link TimeEntryEntity} is hydrated, registered in the persistence context or snapshotted for
+ * dirty checking, and a selection without the narrative never reads it from TOAST storage. Both
+ * methods page with a keyset instead of offsets, so deep pages cost the same as the first.
+ */
+public interface TimeEntrySearchRepository {
+
+    /**
+     * @param specification filter predicates.
+     * @param fields columns to select; unselected view fields are {@code null}, or zero for the
+     *     duration.
+     * @param afterId id of the last row of the previous page, or {@code null} for the first page.
+     * @param limit maximum rows to return.
+     * @return views ordered by id.
+     */
+    List<TimeEntryView> findViews(
+            Specification<TimeEntryEntity> specification, Set<TimeEntryField> fields, UUID afterId, int limit);
+
+    /**
+     * Relevance-ranked variant restricted to narratives matching {@code query} and ordered by
+     * {@code narrative_rank} descending and then by id. The query text is bound as a parameter.
+     *
+     * @param specification filter predicates other than the narrative match.
+     * @param query web-search style query text used for matching and ranking.
+     * @param fields columns to select.
+     * @param afterRank rank of the last row of the previous page, or {@code null} for the first page.
+     * @param afterId id of the last row of the previous page, or {@code null} for the first page.
+     * @param limit maximum rows to return.
+     * @return ranked rows, best match first.
+     */
+    List<RankedTimeEntry> findRanked(
+            Specification<TimeEntryEntity> specification,
+            String query,
+            Set<TimeEntryField> fields,
+            Float afterRank,
+            UUID afterId,
+            int limit);
+
+    /**
+     * Counts the rows {@link #findRanked} would still page through after the given keyset, binding
+     * the query text the same way.
+     *
+     * @param specification filter predicates other than the narrative match.
+     * @param query web-search style query text.
+     * @param afterRank rank of the last row of the previous page, or {@code null} to count all.
+     * @param afterId id of the last row of the previous page, or {@code null} to count all.
+     * @return number of matching rows after the keyset.
+     */
+    long countRanked(Specification<TimeEntryEntity> specification, String query, Float afterRank, UUID afterId);
+
+    /**
+     * View paired with its relevance for the query.
+     *
+     * @param view projected row.
+     * @param rank relevance score.
+     */
+    record RankedTimeEntry(TimeEntryView view, float rank) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
+import com.aequitas.aequitascentralservice.constants.EntryFieldConstants;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Criteria-backed implementation of {@link TimeEntrySearchRepository}.
+ */
+public class TimeEntrySearchRepositoryImpl implements TimeEntrySearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TimeEntryView> findViews(
+            final Specification<TimeEntryEntity> specification,
+            final Set<TimeEntryField> fields,
+            final UUID afterId,
+            final int limit) {
+        final Set<TimeEntryField> selected = selection(fields);
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        final Root<TimeEntryEntity> root = criteriaQuery.from(TimeEntryEntity.class);
+        final Expression<UUID> id = root.get(EntryFieldConstants.ID);
+
+        final List<Predicate> predicates = new ArrayList<>();
+        predicates.add(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        if (afterId != null) {
+            predicates.add(criteriaBuilder.greaterThan(id, afterId));
+        }
+        criteriaQuery
+                .select(criteriaBuilder.tuple(columns(root, selected)))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.asc(id));
+
+        return readOnly(entityManager.createQuery(criteriaQuery), limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> view(tuple, selected))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RankedTimeEntry> findRanked(
+            final Specification<TimeEntryEntity> specification,
+            final String query,
+            final Set<TimeEntryField> fields,
+            final Float afterRank,
+            final UUID afterId,
+            final int limit) {
+        final Set<TimeEntryField> selected = selection(fields);
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        final Root<TimeEntryEntity> root = criteriaQuery.from(TimeEntryEntity.class);
+        final ParameterExpression<String> queryParameter = criteriaBuilder.parameter(String.class);
+        final Expression<Float> rank = NarrativeSearchFunctions.rank(criteriaBuilder, root, queryParameter);
+        final Expression<UUID> id = root.get(EntryFieldConstants.ID);
+
+        final List<Predicate> predicates = new ArrayList<>();
+        predicates.add(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        predicates.add(NarrativeSearchFunctions.matches(criteriaBuilder, root, queryParameter));
+        if (afterRank != null && afterId != null) {
+            predicates.add(afterKeyset(criteriaBuilder, rank, id, afterRank, afterId));
+        }
+        final List<Selection<?>> selections = columns(root, selected);
+        selections.add(rank);
+        criteriaQuery
+                .select(criteriaBuilder.tuple(selections))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.desc(rank), criteriaBuilder.asc(id));
+
+        return readOnly(entityManager.createQuery(criteriaQuery).setParameter(queryParameter, query), limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> new RankedTimeEntry(
+                        view(tuple, selected), tuple.get(selected.size(), Float.class)))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countRanked(
+            final Specification<TimeEntryEntity> specification,
+            final String query,
+            final Float afterRank,
+            final UUID afterId) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        final Root<TimeEntryEntity> root = criteriaQuery.from(TimeEntryEntity.class);
+        final ParameterExpression<String> queryParameter = criteriaBuilder.parameter(String.class);
+
+        final List<Predicate> predicates = new ArrayList<>();
+        predicates.add(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        predicates.add(NarrativeSearchFunctions.matches(criteriaBuilder, root, queryParameter));
+        if (afterRank != null && afterId != null) {
+            predicates.add(afterKeyset(
+                    criteriaBuilder,
+                    NarrativeSearchFunctions.rank(criteriaBuilder, root, queryParameter),
+                    root.get(EntryFieldConstants.ID),
+                    afterRank,
+                    afterId));
+        }
+        criteriaQuery
+                .select(criteriaBuilder.count(root))
+                .where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(criteriaQuery)
+                .setParameter(queryParameter, query)
+                .getSingleResult();
+    }
+
+    /**
+     * @return rows after {@code (afterRank, afterId)} in rank-descending, id-ascending order.
+     */
+    private static Predicate afterKeyset(
+            final CriteriaBuilder criteriaBuilder,
+            final Expression<Float> rank,
+            final Expression<UUID> id,
+            final float afterRank,
+            final UUID afterId) {
+        return criteriaBuilder.or(
+                criteriaBuilder.lessThan(rank, afterRank),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(rank, afterRank),
+                        criteriaBuilder.greaterThan(id, afterId)));
+    }
+
+    /**
+     * @return the requested fields plus the id the keyset needs, in declaration order.
+     */
+    private static Set<TimeEntryField> selection(final Set<TimeEntryField> fields) {
+        final Set<TimeEntryField> selected = EnumSet.of(TimeEntryField.ID);
+        selected.addAll(fields);
+        return selected;
+    }
+
+    private static List<Selection<?>> columns(
+            final Root<TimeEntryEntity> root, final Set<TimeEntryField> fields) {
+        final List<Selection<?>> columns = new ArrayList<>(fields.size() + 1);
+        for (final TimeEntryField field : fields) {
+            columns.add(root.get(field.property()));
+        }
+        return columns;
+    }
+
+    /**
+     * Builds the view from a tuple whose leading columns are {@code fields} in declaration order.
+     */
+    private static TimeEntryView view(final Tuple tuple, final Set<TimeEntryField> fields) {
+        final Object[] values = new Object[TimeEntryField.values().length];
+        int column = 0;
+        for (final TimeEntryField field : fields) {
+            values[field.ordinal()] = tuple.get(column++);
+        }
+        final Integer durationMinutes = (Integer) values[TimeEntryField.DURATION_MINUTES.ordinal()];
+        return new TimeEntryView(
+                (UUID) values[TimeEntryField.ID.ordinal()],
+                (UUID) values[TimeEntryField.CUSTOMER_ID.ordinal()],
+                (UUID) values[TimeEntryField.PROJECT_ID.ordinal()],
+                (UUID) values[TimeEntryField.MATTER_ID.ordinal()],
+                (UUID) values[TimeEntryField.USER_ID.ordinal()],
+                (String) values[TimeEntryField.NARRATIVE.ordinal()],
+                durationMinutes == null ? 0 : durationMinutes,
+                (EntryStatus) values[TimeEntryField.STATUS.ordinal()],
+                (Instant) values[TimeEntryField.CREATED_AT.ordinal()],
+                (Instant) values[TimeEntryField.UPDATED_AT.ordinal()],
+                (Instant) values[TimeEntryField.APPROVED_AT.ordinal()]);
+    }
+
+    private static <T> TypedQuery<T> readOnly(final TypedQuery<T> query, final int limit) {
+        return query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .setMaxResults(limit);
+    }
+}
@@ -10,7 +10,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 /**
  * Spring Data repository for {@link UserProfileEntity}.
  */
-public interface UserProfileJpaRepository extends JpaRepository<UserProfileEntity, UUID> {
+public interface UserProfileJpaRepository
+        extends JpaRepository<UserProfileEntity, UUID>, InsertRepository<UserProfileEntity> {
 
     Optional<UserProfileEntity> findByIdAndFirmId(UUID id, UUID firmId);
 
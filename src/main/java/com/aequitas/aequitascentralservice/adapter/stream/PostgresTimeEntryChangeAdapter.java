@@ -0,0 +1,111 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TimeEntryChangePort} that fans changes out across instances with PostgreSQL
+ * {@code NOTIFY}.
+ *
+ * <p>{@code pg_notify} runs on the caller's transaction, and PostgreSQL only delivers the
+ * notification once that transaction commits, so a rolled-back change never reaches a stream.
+ * Every instance, including this one, receives it through {@link PostgresTimeEntryChangeListener}
+ * and hands it to its local {@link TimeEntryChangeHub}.
+ */
+@Component
+@Slf4j
+public class PostgresTimeEntryChangeAdapter implements TimeEntryChangePort {
+
+    /**
+     * Notification channel shared by all instances.
+     */
+    static final String CHANNEL = "time_entry_changes";
+
+    /**
+     * PostgreSQL rejects payloads of 8000 bytes or more.
+     */
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TimeEntryChangeHub hub;
+
+    public PostgresTimeEntryChangeAdapter(
+            final JdbcTemplate jdbcTemplate, final ObjectMapper objectMapper, final TimeEntryChangeHub hub) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A change whose payload would exceed the notification limit is sent without its
+     * narrative; clients re-read the entry to get it.
+     */
+    @Override
+    public void publish(final TimeEntryChange change) {
+        String payload = toJson(change);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.debug("Sending change of entry {} without narrative to fit the notify limit", change.entry().id());
+            payload = toJson(withoutNarrative(change));
+        }
+        final String notification = payload;
+        jdbcTemplate.execute(NOTIFY_SQL, (PreparedStatementCallback<Boolean>) statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, notification);
+            return statement.execute();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamSubscription subscribe(final UUID firmId, final Consumer<TimeEntryChange> listener) {
+        return hub.subscribe(firmId, listener);
+    }
+
+    private String toJson(final TimeEntryChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize time entry change", e);
+        }
+    }
+
+    private static TimeEntryChange withoutNarrative(final TimeEntryChange change) {
+        final TimeEntryView entry = change.entry();
+        return new TimeEntryChange(
+                change.firmId(),
+                change.type(),
+                new TimeEntryView(
+                        entry.id(),
+                        entry.customerId(),
+                        entry.projectId(),
+                        entry.matterId(),
+                        entry.userId(),
+                        null,
+                        entry.durationMinutes(),
+                        entry.status(),
+                        entry.createdAt(),
+                        entry.updatedAt(),
+                        entry.approvedAt()));
+    }
+}
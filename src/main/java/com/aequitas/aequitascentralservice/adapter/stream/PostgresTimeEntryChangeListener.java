@@ -0,0 +1,195 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receives the changes announced by {@link PostgresTimeEntryChangeAdapter} on any instance and
+ * hands them to the local {@link TimeEntryChangeHub}.
+ *
+ * <p>Runs on its own thread with its own unpooled connection in {@code LISTEN} mode, so it neither
+ * holds a Hikari connection for the lifetime of the application nor occupies the shared scheduler
+ * that drives the outbox relay and metrics. Each wait blocks on the socket for at most
+ * {@code time-entries.stream.listen-timeout}. A broken connection is dropped and reopened after
+ * {@code time-entries.stream.reconnect-delay}; changes committed while it was down are not
+ * replayed, so clients resynchronise with a list read when they reconnect.
+ */
+@Component
+@Slf4j
+public class PostgresTimeEntryChangeListener implements SmartLifecycle {
+
+    private static final String THREAD_NAME = "time-entry-change-listener";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final TimeEntryChangeHub hub;
+    private final Duration listenTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+    private Connection connection;
+
+    @Autowired
+    public PostgresTimeEntryChangeListener(
+            final DataSourceProperties dataSourceProperties,
+            final ObjectMapper objectMapper,
+            final TimeEntryChangeHub hub,
+            @Value("${time-entries.stream.listen-timeout:PT1S}") final Duration listenTimeout,
+            @Value("${time-entries.stream.reconnect-delay:PT5S}") final Duration reconnectDelay) {
+        this(
+                dataSourceProperties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build(),
+                objectMapper,
+                hub,
+                listenTimeout,
+                reconnectDelay);
+    }
+
+    PostgresTimeEntryChangeListener(
+            final DataSource dataSource,
+            final ObjectMapper objectMapper,
+            final TimeEntryChangeHub hub,
+            final Duration listenTimeout,
+            final Duration reconnectDelay) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+        this.listenTimeout = listenTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Starts the listener thread.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name(THREAD_NAME).daemon().start(this::run);
+    }
+
+    /**
+     * Stops the listener thread, which releases its connection on the way out.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(listenTimeout.plusSeconds(1).toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Waits up to the listen timeout and dispatches every notification received meanwhile.
+     *
+     * @return {@code false} if the connection broke and was dropped.
+     */
+    boolean poll() {
+        final PGNotification[] notifications;
+        try {
+            notifications = listeningConnection().getNotifications((int) listenTimeout.toMillis());
+        } catch (SQLException ex) {
+            log.warn("Time entry change listener lost its connection; reconnecting in {}", reconnectDelay, ex);
+            close();
+            return false;
+        }
+        if (notifications != null) {
+            for (final PGNotification notification : notifications) {
+                dispatch(notification.getParameter());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Releases the listening connection.
+     */
+    void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Failed to close time entry change listener connection", ex);
+        }
+        connection = null;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                if (!poll()) {
+                    Thread.sleep(reconnectDelay);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    private PGConnection listeningConnection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            final Connection opened = dataSource.getConnection();
+            try {
+                opened.setAutoCommit(true);
+                try (var statement = opened.createStatement()) {
+                    statement.execute("LISTEN " + PostgresTimeEntryChangeAdapter.CHANNEL);
+                }
+            } catch (SQLException ex) {
+                opened.close();
+                throw ex;
+            }
+            connection = opened;
+        }
+        return connection.unwrap(PGConnection.class);
+    }
+
+    private void dispatch(final String payload) {
+        final TimeEntryChange change;
+        try {
+            change = objectMapper.readValue(payload, TimeEntryChange.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed time entry change notification", ex);
+            return;
+        }
+        hub.publish(change);
+    }
+}
@@ -0,0 +1,157 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process, per-firm fan-out of time entry changes to the listeners connected to this instance.
+ *
+ * <p>Every subscriber owns a bounded buffer drained by its own task, so {@link #publish} never
+ * blocks on a slow client: when a buffer is full the oldest undelivered change is dropped. Streams
+ * carry the latest state of each entry, so a dropped change is superseded by the next one for the
+ * same entry or by the client's next list read.
+ *
+ * <p><strong>Thread-Safety:</strong> Subscriber sets are copy-on-write and each buffer is guarded
+ * by its subscriber, so publishing, draining and subscription changes may run concurrently.
+ */
+@Component
+@Slf4j
+public class TimeEntryChangeHub {
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+
+    @Autowired
+    public TimeEntryChangeHub(@Value("${time-entries.stream.buffer-size:256}") final int bufferSize) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), bufferSize);
+    }
+
+    TimeEntryChangeHub(final Executor executor, final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Stream buffer size must be positive");
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param firmId tenant identifier.
+     * @param listener callback receiving each change, invoked off the publishing thread.
+     * @return handle that unregisters the listener and discards its undelivered changes.
+     */
+    public StreamSubscription subscribe(final UUID firmId, final Consumer<TimeEntryChange> listener) {
+        final Subscriber subscriber = new Subscriber(firmId, listener);
+        subscribers.computeIfAbsent(firmId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+        return () -> {
+            subscriber.close();
+            subscribers.computeIfPresent(firmId, (id, current) -> {
+                current.remove(subscriber);
+                return current.isEmpty() ? null : current;
+            });
+        };
+    }
+
+    /**
+     * Buffers the change for every subscriber of its firm.
+     *
+     * @param change committed change.
+     */
+    public void publish(final TimeEntryChange change) {
+        final Set<Subscriber> current = subscribers.get(change.firmId());
+        if (current == null) {
+            return;
+        }
+        current.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    /**
+     * @param firmId tenant identifier.
+     * @return number of subscribers currently registered for the firm.
+     */
+    public int subscriberCount(final UUID firmId) {
+        final Set<Subscriber> current = subscribers.get(firmId);
+        return current == null ? 0 : current.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private final class Subscriber {
+
+        private final UUID firmId;
+        private final Consumer<TimeEntryChange> listener;
+        private final Deque<TimeEntryChange> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(final UUID firmId, final Consumer<TimeEntryChange> listener) {
+            this.firmId = firmId;
+            this.listener = listener;
+        }
+
+        private void offer(final TimeEntryChange change) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() == bufferSize) {
+                    buffer.pollFirst();
+                    log.debug("Dropped oldest time entry change for a slow subscriber of firm {}", firmId);
+                }
+                buffer.addLast(change);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            executor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                final TimeEntryChange next;
+                synchronized (this) {
+                    next = closed ? null : buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    listener.accept(next);
+                } catch (RuntimeException ex) {
+                    log.warn("Time entry stream listener failed for firm {}", firmId, ex);
+                }
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryPageResponse;
+import com.aequitas.aequitascentralservice.adapter.web.mapper.TimeEntryDtoMapper;
+import com.aequitas.aequitascentralservice.app.port.inbound.ApprovalQueueQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * REST controller exposing the approval queue to managers and admins.
+ *
+ * <p>The queue is read from a dedicated projection of submitted entries that the command side
+ * keeps current, so polling it costs O(queue size) rather than a filtered scan and count over
+ * every time entry of the firm. Clients that want to stop polling open the
+ * {@code /stream} variant, which pushes each new submission as a server-sent event.
+ *
+ * <p><strong>Authorization:</strong> Employees receive 409 Conflict, matching the approve
+ * endpoint.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * GET /api/v1/approvals/queue?limit=50
+ * Response: 200 OK, { "items": [...], "nextCursor": "...", "hasMore": true }
+ *
+ * GET /api/v1/approvals/queue/stream
+ * Accept: text/event-stream
+ * event: entry-submitted
+ * data: { "id": "...", "status": "SUBMITTED", ... }
+ * }</pre>
+ *
+ * @see ApprovalQueueQueryPort
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/approvals/queue")
+@Validated
+public class ApprovalQueueController {
+
+    static final String SUBMITTED_EVENT = "entry-submitted";
+
+    private final ApprovalQueueQueryPort queryPort;
+    private final Duration streamTimeout;
+
+    /**
+     * @param queryPort port serving the queue.
+     * @param streamTimeout how long a stream stays open before the client has to reconnect.
+     */
+    public ApprovalQueueController(
+            final ApprovalQueueQueryPort queryPort,
+            @Value("${approvals.queue.stream-timeout:PT30M}") final Duration streamTimeout) {
+        this.queryPort = queryPort;
+        this.streamTimeout = streamTimeout;
+    }
+
+    /**
+     * Lists the entries awaiting approval in the caller's firm, oldest entry first.
+     *
+     * @param limit The maximum number of items to return; between 1 and 100; defaults to 20.
+     * @param cursor Optional cursor from a previous response's {@code nextCursor}.
+     * @return HTTP 200 with the queue page; {@code totalItems} is the size of the whole queue.
+     * @throws IllegalStateException if the caller is an employee.
+     * @throws IllegalArgumentException if {@code cursor} is malformed.
+     */
+    @GetMapping
+    public ResponseEntity<TimeEntryPageResponse> list(
+            @RequestParam(name = "limit", defaultValue = "20") @Min(1) @Max(100) final int limit,
+            @RequestParam(name = "cursor", required = false) final String cursor) {
+        final var page = queryPort.list(new PageRequest(limit, cursor));
+        final var responseItems = page.items().stream().map(TimeEntryDtoMapper::toResponse).toList();
+        final TimeEntryPageResponse response = new TimeEntryPageResponse(
+                responseItems,
+                page.totalItems(),
+                page.hasMore())
+                .nextCursor(page.nextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams entries submitted after the connection opened as {@value #SUBMITTED_EVENT} events.
+     * Clients read the queue once and then apply pushed items; after a timeout or network drop
+     * they reconnect and re-read the queue.
+     *
+     * @return emitter kept open until the configured timeout or client disconnect.
+     * @throws IllegalStateException if the caller is an employee.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        final SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        final StreamSubscription subscription = queryPort.subscribe(item -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(SUBMITTED_EVENT)
+                        .id(item.id().toString())
+                        .data(TimeEntryDtoMapper.toResponse(item), MediaType.APPLICATION_JSON));
+            } catch (IOException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+}
@@ -0,0 +1,71 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedResponse;
+import com.aequitas.aequitascentralservice.adapter.web.mapper.ChangeFeedDtoMapper;
+import com.aequitas.aequitascentralservice.app.port.inbound.ChangeFeedQueryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * REST controller exposing the firm's domain events as a change feed.
+ *
+ * <p>Consumers maintaining their own projections (caches, rollups, search indexes) store the
+ * {@code lastSequence} of each response and pass it back as {@code after}, so catching up reads
+ * only the events they have not applied yet instead of rescanning the time entry tables. Events
+ * are returned in the order they were committed within the firm.
+ *
+ * <p><strong>Authorization:</strong> Employees receive 409 Conflict.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * GET /api/v1/changes?after=1042&limit=100
+ * Response: 200 OK,
+ * { "items": [ { "sequence": 1043, "eventType": "ENTRY_SUBMITTED.v1", "payload": {...}, ... } ],
+ *   "lastSequence": 1043, "hasMore": false }
+ * }</pre>
+ *
+ * @see ChangeFeedQueryPort
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/changes")
+@Validated
+public class ChangeFeedController {
+
+    private final ChangeFeedQueryPort queryPort;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param queryPort port serving the feed.
+     * @param objectMapper mapper used to expand stored event payloads.
+     */
+    public ChangeFeedController(final ChangeFeedQueryPort queryPort, final ObjectMapper objectMapper) {
+        this.queryPort = queryPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads the events appended after {@code after}.
+     *
+     * <p>Employees receive 409 Conflict with code {@code EMPLOYEE_CANNOT_READ_CHANGE_FEED}.
+     *
+     * @param after Last sequence the consumer applied; {@code 0} reads from the beginning.
+     * @param limit The maximum number of events to return; between 1 and 500; defaults to 100.
+     * @return HTTP 200 with the events and the sequence to resume after.
+     */
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> read(
+            @RequestParam(name = "after", defaultValue = "0") @Min(0) final long after,
+            @RequestParam(name = "limit", defaultValue = "100") @Min(1) @Max(500) final int limit) {
+        return ResponseEntity.ok(ChangeFeedDtoMapper.toResponse(queryPort.read(after, limit), objectMapper));
+    }
+}
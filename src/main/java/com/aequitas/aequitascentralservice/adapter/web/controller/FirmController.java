@@ -2,6 +2,7 @@ package com.aequitas.aequitascentralservice.adapter.web.controller;
 
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,6 +21,7 @@ import com.aequitas.aequitascentralservice.adapter.web.generated.dto.FirmPageRes
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.FirmResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.IdResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateFirmRequest;
+import com.aequitas.aequitascentralservice.adapter.web.http.EntityTags;
 import com.aequitas.aequitascentralservice.adapter.web.mapper.FirmDtoMapper;
 import com.aequitas.aequitascentralservice.app.port.inbound.FirmCommandPort;
 import com.aequitas.aequitascentralservice.app.port.inbound.FirmQueryPort;
@@ -108,20 +111,36 @@ public class FirmController {
      * This endpoint is accessible by all authenticated users regardless of
      * role. The firm returned is always scoped to the caller's tenant.
      *
+     * <p>
+     * <strong>Conditional Requests:</strong> Responses carry an {@code ETag}
+     * derived from the firm identifier and {@code updatedAt}. When the
+     * {@code If-None-Match} header matches the current tag the endpoint answers
+     * HTTP 304 Not Modified without a body. Firm lookups are served from an
+     * in-process cache, so revalidation does not reach the database.
+     *
+     * @param ifNoneMatch optional {@code If-None-Match} header from the client.
      * @return A {@link ResponseEntity} with HTTP 200 OK and a
-     * {@link FirmResponse} containing the firm's details.
+     * {@link FirmResponse} containing the firm's details, or HTTP 304 when the
+     * client representation is current.
      */
     @GetMapping("/me")
     @Operation(summary = "Get authenticated user's firm",
             description = "Retrieves the authenticated user's firm information")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Firm retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Firm not modified since the supplied ETag"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "404", description = "Firm not found")
     })
-    public ResponseEntity<FirmResponse> getCurrentUserFirm() {
+    public ResponseEntity<FirmResponse> getCurrentUserFirm(
+            @Parameter(description = "Entity tag from a previous response")
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
         final Firm firm = queryPort.getCurrentUserFirm();
-        return ResponseEntity.ok(FirmDtoMapper.toResponse(firm));
+        final String eTag = EntityTags.of(firm.getId(), firm.getUpdatedAt());
+        if (EntityTags.matchesAny(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(FirmDtoMapper.toResponse(firm));
     }
 
     /**
@@ -1,8 +1,15 @@
 package com.aequitas.aequitascentralservice.adapter.web.controller;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -16,15 +23,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.BatchGetTimeEntriesRequest;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.BatchGetTimeEntriesResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.CreateTimeEntryRequest;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.IdResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.SparseTimeEntryPageResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryLookupResult;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryPageResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateTimeEntryRequest;
+import com.aequitas.aequitascentralservice.adapter.web.http.EntityTags;
 import com.aequitas.aequitascentralservice.adapter.web.mapper.TimeEntryDtoMapper;
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryCommandPort;
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
 import com.aequitas.aequitascentralservice.app.service.IdempotencyService;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
@@ -184,9 +199,9 @@ public class TimeEntryController {
      *
      * <p>
      * <strong>Concurrency:</strong> Updates are not idempotent by default.
-     * Concurrent patches to the same entry may result in last‑write‑wins
-     * behavior. Optimistic locking can be added via version headers if
-     * required.
+     * Writes are guarded by the entry's optimistic-locking version, so a patch
+     * that races another modification fails with HTTP 412 instead of silently
+     * overwriting it.
      *
      * <p>
      * <strong>Validation:</strong> The patch payload is validated; invalid
@@ -197,11 +212,19 @@ public class TimeEntryController {
      * entry's {@code lastModifiedAt} timestamp. Does not publish domain events
      * unless business‑critical fields change.
      *
+     * <p>
+     * <strong>Concurrency:</strong> When an {@code If-Match} header carrying the
+     * entity tag from a previous read is supplied, the update is applied only if
+     * the entry is still at that version; otherwise HTTP 412 is returned.
+     *
      * @param id The unique identifier of the time entry to update; must exist
      * within the tenant scope.
+     * @param ifMatch Optional entity tag the caller last observed.
      * @param request The validated patch payload containing fields to update;
      * must not be null.
      * @return A {@link ResponseEntity} with HTTP 204 No Content on success.
+     * @throws VersionConflictException if {@code If-Match} does not identify the
+     * current version of the entry.
      * @throws
      * com.aequitas.aequitascentralservice.domain.exception.TimeEntryNotFoundException
      * if no entry with {@code id} exists in the tenant.
@@ -213,8 +236,10 @@ public class TimeEntryController {
      */
     @PatchMapping("/{id}")
     public ResponseEntity<Void> update(
-            @PathVariable final UUID id, @Valid @RequestBody final UpdateTimeEntryRequest request) {
-        commandPort.update(id, TimeEntryDtoMapper.toCommand(request));
+            @PathVariable final UUID id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @Valid @RequestBody final UpdateTimeEntryRequest request) {
+        commandPort.update(id, TimeEntryDtoMapper.toCommand(request, expectedUpdatedAt(id, ifMatch)));
         return ResponseEntity.noContent().build();
     }
 
@@ -331,24 +356,92 @@ public class TimeEntryController {
      * <strong>Performance:</strong> O(1) database lookup with tenant‑scoped
      * indexing; typical latency is 1‑5ms for warm caches.
      *
+     * <p>
+     * <strong>Conditional Requests:</strong> Responses carry a strong
+     * {@code ETag} built from the entry identifier and {@code updatedAt}, plus a
+     * matching {@code Last-Modified} header. Pollers that send the tag back in
+     * {@code If-None-Match} receive HTTP 304 without a body.
+     *
      * @param id The unique identifier of the time entry to retrieve; must exist
      * within the tenant.
+     * @param ifNoneMatch Optional entity tag(s) the caller already holds.
      * @return A {@link ResponseEntity} containing:
      * <ul>
      * <li>HTTP 200 OK with a {@link TimeEntryResponse} body if the entry
      * exists.</li>
+     * <li>HTTP 304 Not Modified if {@code If-None-Match} matches the current
+     * entity tag.</li>
      * <li>HTTP 404 Not Found if no entry with {@code id} exists in the tenant
      * scope.</li>
      * </ul>
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TimeEntryResponse> findById(@PathVariable final UUID id) {
+    public ResponseEntity<TimeEntryResponse> findById(
+            @PathVariable final UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
         return queryPort.findById(id)
-                .map(TimeEntryDtoMapper::toResponse)
-                .map(ResponseEntity::ok)
+                .map(entry -> conditionalResponse(entry, ifNoneMatch))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Retrieves several time entries by identifier in one request.
+     *
+     * <p>
+     * Views that show linked entries would otherwise issue one
+     * {@code GET /{id}} per entry, each with its own transaction and tenant
+     * session setup. This endpoint reads all of them with a single
+     * firm-scoped query.
+     *
+     * <p>
+     * <strong>Authorization:</strong> The same visibility rule as
+     * {@link #findById} applies per entry; an entry the caller may not see is
+     * reported exactly like a missing one.
+     *
+     * @param request The identifiers to read; between 1 and 100, duplicates
+     * allowed.
+     * @return HTTP 200 with one {@code TimeEntryLookupResult} per requested id,
+     * in request order, each flagged {@code found} or not.
+     * @throws jakarta.validation.ConstraintViolationException if the id list is
+     * missing, empty or longer than 100.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetTimeEntriesResponse> batchGet(
+            @Valid @RequestBody final BatchGetTimeEntriesRequest request) {
+        final List<UUID> ids = request.getIds();
+        final List<Optional<TimeEntry>> entries = queryPort.findAllById(ids);
+        final List<TimeEntryLookupResult> items = IntStream.range(0, ids.size())
+                .mapToObj(index -> TimeEntryDtoMapper.toLookupResult(ids.get(index), entries.get(index)))
+                .toList();
+        return ResponseEntity.ok(new BatchGetTimeEntriesResponse(items));
+    }
+
+    private ResponseEntity<TimeEntryResponse> conditionalResponse(
+            final TimeEntry entry, final String ifNoneMatch) {
+        final String eTag = EntityTags.of(entry.getId(), entry.getUpdatedAt());
+        if (EntityTags.matchesAny(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(entry.getUpdatedAt())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(entry.getUpdatedAt())
+                .body(TimeEntryDtoMapper.toResponse(entry));
+    }
+
+    private Optional<Instant> expectedUpdatedAt(final UUID id, final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || EntityTags.isWildcard(ifMatch)) {
+            return Optional.empty();
+        }
+        final EntityTags.Version version = EntityTags.parse(ifMatch);
+        if (version == null || !version.id().equals(id)) {
+            throw new VersionConflictException("If-Match does not identify this time entry");
+        }
+        return Optional.of(version.updatedAt());
+    }
+
     /**
      * Searches and retrieves a paginated list of time entries within the
      * authenticated tenant, optionally filtered by customer, project, status,
@@ -403,6 +496,13 @@ public class TimeEntryController {
      * @param ownerId Optional owner UUID filter; typically used by managers to
      * query subordinates; when null, defaults to the caller's own entries
      * unless the caller is a manager.
+     * @param createdFrom Optional inclusive lower bound on the creation
+     * timestamp; bounding the window lets the store prune monthly partitions.
+     * @param createdTo Optional exclusive upper bound on the creation
+     * timestamp; must be after {@code createdFrom}.
+     * @param narrativeQuery Optional full-text query over narratives (web-search
+     * syntax: quoted phrases, {@code or}, {@code -exclusion}); when present the
+     * results are ordered by relevance and the cursor encodes rank and id.
      * @param limit The maximum number of items to return; must be between 1 and
      * 100 inclusive; defaults to 20.
      * @param cursor Optional pagination cursor from a previous response's
@@ -430,14 +530,15 @@ public class TimeEntryController {
             @RequestParam(name = "projectId", required = false) final UUID projectId,
             @RequestParam(name = "status", required = false) final String status,
             @RequestParam(name = "ownerId", required = false) final UUID ownerId,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant createdTo,
+            @RequestParam(name = "q", required = false) final String narrativeQuery,
             @RequestParam(name = "limit", defaultValue = "20") @Min(1) @Max(100) final int limit,
             @RequestParam(name = "cursor", required = false) final String cursor) {
-        final TimeEntryFilter filter
-                = new TimeEntryFilter(
-                        Optional.ofNullable(customerId),
-                        Optional.ofNullable(projectId),
-                        parseStatus(status),
-                        Optional.ofNullable(ownerId));
+        final TimeEntryFilter filter = toFilter(
+                customerId, projectId, status, ownerId, createdFrom, createdTo, narrativeQuery);
         final PageRequest pageRequest = new PageRequest(limit, cursor);
         final var page = queryPort.search(filter, pageRequest);
         final var responseItems = page.items().stream().map(TimeEntryDtoMapper::toResponse).toList();
@@ -449,6 +550,66 @@ public class TimeEntryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Sparse variant of {@link #search}, selected when the request carries {@code fields}.
+     *
+     * <p>Only the listed properties, plus {@code id}, are read from the database and written to
+     * each item; properties left out are absent rather than {@code null}. A list view that does not
+     * show narratives, for example {@code fields=status,durationMinutes,projectId}, never reads
+     * them. Filters, ordering and cursors are the same as for the full representation.
+     *
+     * @param fields Comma-separated {@code TimeEntryResponse} property names.
+     * @return HTTP 200 with a page whose items carry only the selected properties.
+     * @throws IllegalArgumentException if {@code fields} is blank or names an unknown property,
+     * or for the same reasons as {@link #search}.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<SparseTimeEntryPageResponse> searchFields(
+            @RequestParam(name = "fields") final String fields,
+            @RequestParam(name = "customerId", required = false) final UUID customerId,
+            @RequestParam(name = "projectId", required = false) final UUID projectId,
+            @RequestParam(name = "status", required = false) final String status,
+            @RequestParam(name = "ownerId", required = false) final UUID ownerId,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant createdTo,
+            @RequestParam(name = "q", required = false) final String narrativeQuery,
+            @RequestParam(name = "limit", defaultValue = "20") @Min(1) @Max(100) final int limit,
+            @RequestParam(name = "cursor", required = false) final String cursor) {
+        final Set<TimeEntryField> selection = TimeEntryField.parse(fields);
+        final TimeEntryFilter filter = toFilter(
+                customerId, projectId, status, ownerId, createdFrom, createdTo, narrativeQuery);
+        final var page = queryPort.search(filter, selection, new PageRequest(limit, cursor));
+        final List<Map<String, Object>> responseItems = page.items().stream()
+                .map(view -> TimeEntryDtoMapper.toSparseResponse(view, selection))
+                .toList();
+        final SparseTimeEntryPageResponse response = new SparseTimeEntryPageResponse(
+                responseItems,
+                page.totalItems(),
+                page.hasMore())
+                .nextCursor(page.nextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    private TimeEntryFilter toFilter(
+            final UUID customerId,
+            final UUID projectId,
+            final String status,
+            final UUID ownerId,
+            final Instant createdFrom,
+            final Instant createdTo,
+            final String narrativeQuery) {
+        return new TimeEntryFilter(
+                Optional.ofNullable(customerId),
+                Optional.ofNullable(projectId),
+                parseStatus(status),
+                Optional.ofNullable(ownerId),
+                Optional.ofNullable(createdFrom),
+                Optional.ofNullable(createdTo),
+                Optional.ofNullable(narrativeQuery));
+    }
+
     /**
      * Parses a status query parameter into a domain {@link EntryStatus} enum
      * value.
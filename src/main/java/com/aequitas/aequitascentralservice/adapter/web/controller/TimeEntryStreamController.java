@@ -0,0 +1,89 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aequitas.aequitascentralservice.adapter.web.mapper.TimeEntryDtoMapper;
+import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+
+/**
+ * REST controller pushing time entry changes to clients that would otherwise poll
+ * {@code GET /api/v1/entries}.
+ *
+ * <p>Each committed create, update, submit and approve is sent as a server-sent event named after
+ * the change ({@code entry-created}, {@code entry-updated}, {@code entry-submitted},
+ * {@code entry-approved}) whose data is the entry after the change. Visibility follows the list
+ * endpoint: employees only receive their own entries.
+ *
+ * <p>Delivery is best effort: a client that reads too slowly loses its oldest pending events,
+ * and nothing is replayed across reconnects. Clients list the entries they display once, apply
+ * pushed events, and list again after reconnecting.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * GET /api/v1/entries/stream
+ * Accept: text/event-stream
+ * event: entry-approved
+ * id: 0192f1c4-...
+ * data: { "id": "0192f1c4-...", "status": "APPROVED", ... }
+ * }</pre>
+ *
+ * @see TimeEntryQueryPort#subscribe
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/entries")
+public class TimeEntryStreamController {
+
+    private final TimeEntryQueryPort queryPort;
+    private final Duration streamTimeout;
+
+    /**
+     * @param queryPort port serving the change stream.
+     * @param streamTimeout how long a stream stays open before the client has to reconnect.
+     */
+    public TimeEntryStreamController(
+            final TimeEntryQueryPort queryPort,
+            @Value("${time-entries.stream.timeout:PT30M}") final Duration streamTimeout) {
+        this.queryPort = queryPort;
+        this.streamTimeout = streamTimeout;
+    }
+
+    /**
+     * Streams changes committed after the connection opened.
+     *
+     * @return emitter kept open until the configured timeout or client disconnect.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        final SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        final StreamSubscription subscription = queryPort.subscribe(change -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(eventName(change))
+                        .id(change.entry().id().toString())
+                        .data(TimeEntryDtoMapper.toResponse(change.entry()), MediaType.APPLICATION_JSON));
+            } catch (IOException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    static String eventName(final TimeEntryChange change) {
+        return "entry-" + change.type().name().toLowerCase(Locale.ROOT);
+    }
+}
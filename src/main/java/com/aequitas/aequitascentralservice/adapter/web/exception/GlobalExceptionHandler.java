@@ -1,5 +1,6 @@
 package com.aequitas.aequitascentralservice.adapter.web.exception;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,6 +16,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.aequitas.aequitascentralservice.config.Environment;
+import com.aequitas.aequitascentralservice.domain.exception.DomainArgumentException;
+import com.aequitas.aequitascentralservice.domain.exception.DomainException;
+import com.aequitas.aequitascentralservice.domain.exception.DomainStateException;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 
 /**
  * Translates exceptions into {@link ErrorMessage} responses containing RFC 7807 {@link ProblemDetail}.
@@ -22,6 +28,12 @@ import com.aequitas.aequitascentralservice.config.Environment;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Immutable status, title and summary per {@link ErrorCode.Kind}; the detail and code come from
+     * the {@link ErrorCode} itself, so only the mutable body is built per request.
+     */
+    private static final Map<ErrorCode.Kind, DomainOutcome> DOMAIN_OUTCOMES = domainOutcomes();
+
     @Value("${spring.profiles.active}")
     private String environment;
 
@@ -44,6 +56,30 @@ public class GlobalExceptionHandler {
             .body(createErrorMessage(ex, "Validation failed", problemDetail));
     }
 
+    /**
+     * Handles expected domain outcomes: 400 for invalid arguments and 409 for conflicts, as for the
+     * generic handlers below, with the code added to the problem detail. No stack trace is attached
+     * in any environment because none was captured.
+     *
+     * @param ex thrown exception.
+     * @return error message with problem detail for the exception's code.
+     */
+    @ExceptionHandler({DomainArgumentException.class, DomainStateException.class})
+    public ResponseEntity<ErrorMessage> handleDomain(final DomainException ex) {
+        final ErrorCode code = ex.errorCode();
+        final DomainOutcome outcome = DOMAIN_OUTCOMES.get(code.kind());
+        final ProblemDetail problemDetail = ProblemDetail.forStatus(outcome.status());
+        problemDetail.setTitle(outcome.title());
+        problemDetail.setDetail(code.message());
+        problemDetail.setProperty("code", code.name());
+        return ResponseEntity.status(outcome.status())
+            .body(ErrorMessage.builder()
+                .message(outcome.message())
+                .error(outcome.error())
+                .problemDetail(problemDetail)
+                .build());
+    }
+
     /**
      * Handles illegal arguments which usually indicate a 400 response.
      *
@@ -59,6 +95,21 @@ public class GlobalExceptionHandler {
             .body(createErrorMessage(ex, "Invalid argument", problemDetail));
     }
 
+    /**
+     * Handles failed optimistic-concurrency preconditions such as a stale {@code If-Match} header.
+     *
+     * @param ex thrown exception.
+     * @return error message with problem detail with 412 status.
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorMessage> handleVersionConflict(final VersionConflictException ex) {
+        final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        problemDetail.setTitle("PRECONDITION_FAILED");
+        problemDetail.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .body(createErrorMessage(ex, "Precondition failed", problemDetail));
+    }
+
     /**
      * Handles illegal state exceptions raised during business logic evaluation.
      *
@@ -124,6 +175,15 @@ public class GlobalExceptionHandler {
             .body(createErrorMessage(ex, "Something Happened", null));
     }
 
+    private static Map<ErrorCode.Kind, DomainOutcome> domainOutcomes() {
+        final Map<ErrorCode.Kind, DomainOutcome> outcomes = new EnumMap<>(ErrorCode.Kind.class);
+        outcomes.put(ErrorCode.Kind.INVALID_ARGUMENT, new DomainOutcome(
+            HttpStatus.BAD_REQUEST, "VALIDATION", "Invalid argument", String.valueOf(DomainArgumentException.class)));
+        outcomes.put(ErrorCode.Kind.CONFLICT, new DomainOutcome(
+            HttpStatus.CONFLICT, "CONFLICT", "Conflict state", String.valueOf(DomainStateException.class)));
+        return outcomes;
+    }
+
     private ErrorMessage createErrorMessage(final Exception ex, final String message, final ProblemDetail problemDetail) {
         ErrorMessage errorMessage = ErrorMessage.builder()
             .message(message)
@@ -136,4 +196,15 @@ public class GlobalExceptionHandler {
         }
         return errorMessage;
     }
+
+    /**
+     * Response parts shared by every code of one {@link ErrorCode.Kind}.
+     *
+     * @param status HTTP status.
+     * @param title problem detail title.
+     * @param message error message summary.
+     * @param error exception class reported in the body.
+     */
+    private record DomainOutcome(HttpStatus status, String title, String message, String error) {
+    }
 }
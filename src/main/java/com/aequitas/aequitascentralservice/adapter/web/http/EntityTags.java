@@ -0,0 +1,110 @@
+package com.aequitas.aequitascentralservice.adapter.web.http;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Builds and compares HTTP entity tags for conditional requests (RFC 9110 section 8.8.3).
+ *
+ * <p>Tags are strong validators derived from an aggregate identifier and its last-modified
+ * timestamp, e.g. {@code "550e8400-e29b-41d4-a716-446655440000@2025-11-15T10:30:00Z"}. Both parts
+ * are recoverable through {@link #parse(String)} so that {@code If-Match} preconditions can be
+ * evaluated inside the command transaction instead of the web layer.
+ *
+ * <p><strong>Thread-Safety:</strong> All methods are static and stateless.
+ *
+ * @since 1.0
+ */
+@UtilityClass
+public final class EntityTags {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final char SEPARATOR = '@';
+
+    /**
+     * Builds a strong entity tag for the supplied aggregate version.
+     *
+     * @param id aggregate identifier.
+     * @param updatedAt last modification timestamp.
+     * @return quoted entity tag.
+     */
+    public static String of(final UUID id, final Instant updatedAt) {
+        return "\"" + id + SEPARATOR + updatedAt + "\"";
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header using weak comparison.
+     *
+     * @param ifNoneMatch raw header value (may be {@code null}).
+     * @param current entity tag of the current representation.
+     * @return {@code true} when the client already holds the current representation.
+     */
+    public static boolean matchesAny(final String ifNoneMatch, final String current) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        final String normalizedCurrent = stripWeak(current);
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (WILDCARD.equals(tag) || stripWeak(tag).equals(normalizedCurrent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodes a strong entity tag previously produced by {@link #of(UUID, Instant)}.
+     *
+     * @param tag quoted entity tag.
+     * @return decoded version, or {@code null} when the tag is weak or malformed.
+     */
+    public static Version parse(final String tag) {
+        if (tag == null) {
+            return null;
+        }
+        final String trimmed = tag.trim();
+        if (trimmed.startsWith(WEAK_PREFIX) || trimmed.length() < 2
+                || trimmed.charAt(0) != '"' || trimmed.charAt(trimmed.length() - 1) != '"') {
+            return null;
+        }
+        final String opaque = trimmed.substring(1, trimmed.length() - 1);
+        final int separator = opaque.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return new Version(
+                    UUID.fromString(opaque.substring(0, separator)),
+                    Instant.parse(opaque.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the header value is the {@code *} wildcard.
+     *
+     * @param header raw header value.
+     * @return {@code true} for the wildcard.
+     */
+    public static boolean isWildcard(final String header) {
+        return header != null && WILDCARD.equals(header.trim());
+    }
+
+    private static String stripWeak(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    /**
+     * Aggregate version encoded in an entity tag.
+     *
+     * @param id aggregate identifier.
+     * @param updatedAt last modification timestamp.
+     */
+    public record Version(UUID id, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.aequitas.aequitascentralservice.adapter.web.mapper;
+
+import java.util.Map;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedEventResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedResponse;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps change feed slices to REST DTOs.
+ */
+@UtilityClass
+public class ChangeFeedDtoMapper {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    /**
+     * @param page feed slice.
+     * @param objectMapper mapper used to expand the stored event JSON.
+     * @return response DTO.
+     */
+    public static ChangeFeedResponse toResponse(
+            final FeedPage<OutboxMessage> page, final ObjectMapper objectMapper) {
+        return ChangeFeedResponse.builder()
+                .items(page.items().stream().map(message -> toResponse(message, objectMapper)).toList())
+                .lastSequence(page.lastSequence())
+                .hasMore(page.hasMore())
+                .build();
+    }
+
+    /**
+     * Exposes the event's {@code payload} member; the envelope fields are returned alongside it.
+     *
+     * @param message stored event.
+     * @param objectMapper mapper used to expand the stored event JSON.
+     * @return response DTO.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChangeFeedEventResponse toResponse(
+            final OutboxMessage message, final ObjectMapper objectMapper) {
+        final Map<String, Object> stored;
+        try {
+            stored = objectMapper.readValue(message.payloadJson(), JSON_OBJECT);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored event payload is not valid JSON", e);
+        }
+        return ChangeFeedEventResponse.builder()
+                .sequence(message.sequence())
+                .eventId(message.id())
+                .eventType(message.eventType())
+                .aggregateId(message.aggregateId())
+                .occurredAt(message.occurredAt())
+                .payload((Map<String, Object>) stored.getOrDefault("payload", Map.of()))
+                .build();
+    }
+}
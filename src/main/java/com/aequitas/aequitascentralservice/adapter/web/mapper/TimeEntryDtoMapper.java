@@ -1,14 +1,22 @@
 package com.aequitas.aequitascentralservice.adapter.web.mapper;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.CreateTimeEntryRequest;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.EntryStatus;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryLookupResult;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateTimeEntryRequest;
 import com.aequitas.aequitascentralservice.domain.command.CreateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 
 import lombok.experimental.UtilityClass;
 
@@ -35,18 +43,31 @@ public class TimeEntryDtoMapper {
     }
 
     /**
-     * Converts the DTO into an update command.
+     * Converts the DTO into an unconditional update command.
      *
      * @param request update payload.
      * @return domain command with optional fields.
      */
     public static UpdateTimeEntryCommand toCommand(final UpdateTimeEntryRequest request) {
+        return toCommand(request, Optional.empty());
+    }
+
+    /**
+     * Converts the DTO into an update command guarded by the version the caller last observed.
+     *
+     * @param request update payload.
+     * @param expectedUpdatedAt {@code updatedAt} decoded from {@code If-Match}, if supplied.
+     * @return domain command with optional fields.
+     */
+    public static UpdateTimeEntryCommand toCommand(
+            final UpdateTimeEntryRequest request, final Optional<Instant> expectedUpdatedAt) {
         return UpdateTimeEntryCommand.builder()
                 .customerId(Optional.ofNullable(request.getCustomerId()))
                 .projectId(Optional.ofNullable(request.getProjectId()))
                 .matterId(Optional.ofNullable(request.getMatterId()))
                 .narrative(Optional.ofNullable(request.getNarrative()))
                 .durationMinutes(Optional.ofNullable(request.getDurationMinutes()))
+                .expectedUpdatedAt(expectedUpdatedAt)
                 .build();
     }
 
@@ -71,4 +92,72 @@ public class TimeEntryDtoMapper {
                 .approvedAt(entry.getApprovedAt())
                 .build();
     }
+
+    /**
+     * Maps the outcome of looking up one requested id.
+     *
+     * @param id requested identifier.
+     * @param entry entry found, or empty when missing or not visible.
+     * @return lookup result carrying the entry only when found.
+     */
+    public static TimeEntryLookupResult toLookupResult(final UUID id, final Optional<TimeEntry> entry) {
+        return new TimeEntryLookupResult(id, entry.isPresent())
+                .entry(entry.map(TimeEntryDtoMapper::toResponse).orElse(null));
+    }
+
+    /**
+     * Maps a list read model to the API response.
+     *
+     * @param view projected row.
+     * @return response DTO.
+     */
+    public static TimeEntryResponse toResponse(final TimeEntryView view) {
+        return TimeEntryResponse.builder()
+                .id(view.id())
+                .customerId(view.customerId())
+                .projectId(view.projectId())
+                .matterId(view.matterId())
+                .userId(view.userId())
+                .narrative(view.narrative())
+                .durationMinutes(view.durationMinutes())
+                .status(EntryStatus.fromValue(view.status().name()))
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .approvedAt(view.approvedAt())
+                .build();
+    }
+
+    /**
+     * Maps a partially read list model to a response holding only the selected properties, named
+     * and encoded as in {@link TimeEntryResponse}.
+     *
+     * @param view projected row; unselected fields are ignored.
+     * @param fields properties to include.
+     * @return property map in declaration order.
+     */
+    public static Map<String, Object> toSparseResponse(final TimeEntryView view, final Set<TimeEntryField> fields) {
+        final Map<String, Object> response = new LinkedHashMap<>();
+        for (final TimeEntryField field : TimeEntryField.values()) {
+            if (fields.contains(field)) {
+                response.put(field.property(), value(view, field));
+            }
+        }
+        return response;
+    }
+
+    private static Object value(final TimeEntryView view, final TimeEntryField field) {
+        return switch (field) {
+            case ID -> view.id();
+            case CUSTOMER_ID -> view.customerId();
+            case PROJECT_ID -> view.projectId();
+            case MATTER_ID -> view.matterId();
+            case USER_ID -> view.userId();
+            case NARRATIVE -> view.narrative();
+            case DURATION_MINUTES -> view.durationMinutes();
+            case STATUS -> EntryStatus.fromValue(view.status().name());
+            case CREATED_AT -> view.createdAt();
+            case UPDATED_AT -> view.updatedAt();
+            case APPROVED_AT -> view.approvedAt();
+        };
+    }
 }
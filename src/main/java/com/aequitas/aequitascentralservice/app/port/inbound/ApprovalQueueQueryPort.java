@@ -0,0 +1,27 @@
+package com.aequitas.aequitascentralservice.app.port.inbound;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import java.util.function.Consumer;
+
+/**
+ * Inbound port for managers and admins reading their firm's approval queue.
+ */
+public interface ApprovalQueueQueryPort {
+
+    /**
+     * @param pageRequest pagination primitives.
+     * @return page of submitted entries awaiting approval.
+     */
+    PageResult<TimeEntryView> list(PageRequest pageRequest);
+
+    /**
+     * Streams entries submitted from now on.
+     *
+     * @param listener callback receiving each new queue item.
+     * @return handle that stops the stream.
+     */
+    StreamSubscription subscribe(Consumer<TimeEntryView> listener);
+}
@@ -0,0 +1,17 @@
+package com.aequitas.aequitascentralservice.app.port.inbound;
+
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+
+/**
+ * Inbound port for consumers catching up on the caller's firm's domain events.
+ */
+public interface ChangeFeedQueryPort {
+
+    /**
+     * @param afterSequence last sequence the consumer applied; {@code 0} reads from the beginning.
+     * @param limit maximum number of events to return.
+     * @return next events in append order.
+     */
+    FeedPage<OutboxMessage> read(long afterSequence, int limit);
+}
@@ -1,11 +1,18 @@
 package com.aequitas.aequitascentralservice.app.port.inbound;
 
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Inbound port for read-side time entry operations.
@@ -20,6 +27,15 @@ public interface TimeEntryQueryPort {
      */
     Optional<TimeEntry> findById(UUID id);
 
+    /**
+     * Fetches several entries scoped to the caller's tenant in one read.
+     *
+     * @param ids entry identifiers; duplicates are allowed.
+     * @return one element per requested id, in request order; empty where the entry does not
+     *     exist or the caller may not observe it.
+     */
+    List<Optional<TimeEntry>> findAllById(List<UUID> ids);
+
     /**
      * Queries paginated entries with firm and role awareness applied.
      *
@@ -27,5 +43,24 @@ public interface TimeEntryQueryPort {
      * @param pageRequest pagination primitives.
      * @return page of entries the caller may observe.
      */
-    PageResult<TimeEntry> search(TimeEntryFilter filter, PageRequest pageRequest);
+    PageResult<TimeEntryView> search(TimeEntryFilter filter, PageRequest pageRequest);
+
+    /**
+     * Variant of {@link #search(TimeEntryFilter, PageRequest)} reading only the given fields;
+     * the others are left {@code null}, or zero for the duration.
+     *
+     * @param filter filter criteria.
+     * @param fields fields to read; must contain {@link TimeEntryField#ID}.
+     * @param pageRequest pagination primitives.
+     * @return page of partially populated entries the caller may observe.
+     */
+    PageResult<TimeEntryView> search(TimeEntryFilter filter, Set<TimeEntryField> fields, PageRequest pageRequest);
+
+    /**
+     * Streams committed changes to the entries the caller may observe, from now on.
+     *
+     * @param listener callback receiving each change.
+     * @return handle that stops the stream.
+     */
+    StreamSubscription subscribe(Consumer<TimeEntryChange> listener);
 }
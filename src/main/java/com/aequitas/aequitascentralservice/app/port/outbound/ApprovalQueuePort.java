@@ -0,0 +1,45 @@
+package com.aequitas.aequitascentralservice.app.port.outbound;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import java.util.UUID;
+
+/**
+ * Outbound port over the per-firm queue of entries awaiting approval.
+ *
+ * <p>The queue is maintained by the command side in the same transaction as the time entry
+ * write, so reading it never scans the time entry store.
+ */
+public interface ApprovalQueuePort {
+
+    /**
+     * Adds a freshly submitted entry to its firm's queue.
+     *
+     * @param entry submitted aggregate.
+     */
+    void enqueue(TimeEntry entry);
+
+    /**
+     * Rewrites a queued entry after its details changed; no-op when the entry is not queued.
+     *
+     * @param entry updated aggregate.
+     */
+    void refresh(TimeEntry entry);
+
+    /**
+     * Removes an entry once a decision has been made.
+     *
+     * @param firmId tenant identifier.
+     * @param entryId entry identifier.
+     */
+    void dequeue(UUID firmId, UUID entryId);
+
+    /**
+     * @param firmId tenant identifier.
+     * @param pageRequest pagination primitives; the cursor is the last entry id.
+     * @return queued entries ordered by entry id.
+     */
+    PageResult<TimeEntryView> list(UUID firmId, PageRequest pageRequest);
+}
@@ -20,6 +20,14 @@ public interface FirmRepositoryPort {
      */
     Firm save(Firm firm);
 
+    /**
+     * Inserts a newly created firm without probing for an existing row.
+     *
+     * @param firm new aggregate.
+     * @return stored aggregate.
+     */
+    Firm insert(Firm firm);
+
     /**
      * Retrieves a firm by identifier.
      *
@@ -28,6 +36,15 @@ public interface FirmRepositoryPort {
      */
     Optional<Firm> findById(UUID id);
 
+    /**
+     * Retrieves a firm by identifier for modification, straight from the database and locked until
+     * the surrounding transaction ends, so concurrent edits apply one after the other.
+     *
+     * @param id firm identifier.
+     * @return optional firm if found.
+     */
+    Optional<Firm> findByIdForUpdate(UUID id);
+
     /**
      * Retrieves a paginated list of all firms.
      *
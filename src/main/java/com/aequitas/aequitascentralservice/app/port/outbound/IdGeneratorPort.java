@@ -0,0 +1,14 @@
+package com.aequitas.aequitascentralservice.app.port.outbound;
+
+import java.util.UUID;
+
+/**
+ * Pluggable identifier source for new aggregates, events and records.
+ */
+public interface IdGeneratorPort {
+
+    /**
+     * @return a new, unique identifier.
+     */
+    UUID nextId();
+}
@@ -1,6 +1,8 @@
 package com.aequitas.aequitascentralservice.app.port.outbound;
 
 import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
 import java.util.UUID;
 
 /**
@@ -16,4 +18,14 @@ public interface OutboxPort {
      * @param event domain event payload.
      */
     void append(UUID firmId, UUID aggregateId, DomainEvent event);
+
+    /**
+     * Reads a firm's events in the order they were appended.
+     *
+     * @param firmId tenant identifier.
+     * @param afterSequence exclusive lower bound; {@code 0} reads from the beginning.
+     * @param limit maximum number of events to return.
+     * @return events with their sequence populated.
+     */
+    FeedPage<OutboxMessage> readAfter(UUID firmId, long afterSequence, int limit);
 }
@@ -0,0 +1,13 @@
+package com.aequitas.aequitascentralservice.app.port.outbound;
+
+/**
+ * Handle for a listener registered on one of the push streams.
+ */
+public interface StreamSubscription extends AutoCloseable {
+
+    /**
+     * Unregisters the listener; idempotent.
+     */
+    @Override
+    void close();
+}
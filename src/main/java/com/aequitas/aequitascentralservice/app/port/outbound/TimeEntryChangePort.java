@@ -0,0 +1,31 @@
+package com.aequitas.aequitascentralservice.app.port.outbound;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port fanning committed time entry changes out to every instance's stream listeners.
+ */
+public interface TimeEntryChangePort {
+
+    /**
+     * Announces a change; listeners only see it once the surrounding transaction commits, and
+     * never if it rolls back.
+     *
+     * @param change change to announce.
+     */
+    void publish(TimeEntryChange change);
+
+    /**
+     * Registers a listener for the changes of one firm.
+     *
+     * <p>Delivery is asynchronous and bounded: a listener that falls behind loses its oldest
+     * undelivered changes rather than slowing down publishers or other listeners.
+     *
+     * @param firmId tenant identifier.
+     * @param listener callback receiving each change.
+     * @return handle that unregisters the listener.
+     */
+    StreamSubscription subscribe(UUID firmId, Consumer<TimeEntryChange> listener);
+}
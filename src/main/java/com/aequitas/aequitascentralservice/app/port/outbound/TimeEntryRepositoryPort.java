@@ -1,10 +1,15 @@
 package com.aequitas.aequitascentralservice.app.port.outbound;
 
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -13,12 +18,22 @@ import java.util.UUID;
 public interface TimeEntryRepositoryPort {
 
     /**
-     * Persists the aggregate snapshot.
+     * Inserts a newly created aggregate without probing for an existing row.
      *
-     * @param entry aggregate snapshot.
-     * @return saved snapshot.
+     * @param entry new aggregate snapshot.
+     * @return stored snapshot.
      */
-    TimeEntry save(TimeEntry entry);
+    TimeEntry insert(TimeEntry entry);
+
+    /**
+     * Writes a modified snapshot if the stored row still carries {@link TimeEntry#getVersion()}.
+     *
+     * @param entry modified aggregate snapshot loaded through this port.
+     * @return snapshot carrying the incremented version.
+     * @throws com.aequitas.aequitascentralservice.domain.exception.VersionConflictException if the
+     *     row was modified concurrently or no longer exists.
+     */
+    TimeEntry update(TimeEntry entry);
 
     /**
      * Loads an entry limited to a single firm.
@@ -29,13 +44,35 @@ public interface TimeEntryRepositoryPort {
      */
     Optional<TimeEntry> findById(UUID id, UUID firmId);
 
+    /**
+     * Loads the entries of a single firm whose identifiers are in {@code ids}.
+     *
+     * @param ids entry identifiers.
+     * @param firmId tenant identifier.
+     * @return entries found, in no particular order; missing identifiers are simply absent.
+     */
+    List<TimeEntry> findAllById(Collection<UUID> ids, UUID firmId);
+
     /**
      * Searches entries scoped to a tenant using the provided filter.
      *
      * @param firmId tenant identifier.
      * @param filter filter criteria.
      * @param pageRequest pagination primitives.
-     * @return immutable page result.
+     * @return immutable page of list read models.
+     */
+    PageResult<TimeEntryView> search(UUID firmId, TimeEntryFilter filter, PageRequest pageRequest);
+
+    /**
+     * Searches entries reading only the given fields, so unselected columns are never fetched.
+     *
+     * @param firmId tenant identifier.
+     * @param filter filter criteria.
+     * @param fields fields to read; must contain {@link TimeEntryField#ID}.
+     * @param pageRequest pagination primitives.
+     * @return immutable page of read models with unselected fields {@code null}, or zero for the
+     *     duration.
      */
-    PageResult<TimeEntry> search(UUID firmId, TimeEntryFilter filter, PageRequest pageRequest);
+    PageResult<TimeEntryView> search(
+            UUID firmId, TimeEntryFilter filter, Set<TimeEntryField> fields, PageRequest pageRequest);
 }
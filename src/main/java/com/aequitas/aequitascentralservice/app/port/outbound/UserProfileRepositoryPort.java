@@ -56,4 +56,13 @@ public interface UserProfileRepositoryPort {
      * @return saved snapshot.
      */
     UserProfile save(UserProfile profile);
+
+    /**
+     * Inserts a profile that does not exist yet, keeping the identifier already allocated by
+     * {@link IdGeneratorPort}.
+     *
+     * @param profile new domain profile.
+     * @return stored snapshot.
+     */
+    UserProfile insert(UserProfile profile);
 }
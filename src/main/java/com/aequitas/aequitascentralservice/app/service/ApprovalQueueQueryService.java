@@ -0,0 +1,72 @@
+package com.aequitas.aequitascentralservice.app.service;
+
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aequitas.aequitascentralservice.app.port.inbound.ApprovalQueueQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.ApprovalQueuePort;
+import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+
+/**
+ * Serves the approval queue to the roles allowed to approve entries.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ApprovalQueueQueryService implements ApprovalQueueQueryPort {
+
+    private final ApprovalQueuePort approvalQueuePort;
+    private final CurrentUserPort currentUserPort;
+    private final TimeEntryChangePort changePort;
+
+    public ApprovalQueueQueryService(
+            final ApprovalQueuePort approvalQueuePort,
+            final CurrentUserPort currentUserPort,
+            final TimeEntryChangePort changePort) {
+        this.approvalQueuePort = approvalQueuePort;
+        this.currentUserPort = currentUserPort;
+        this.changePort = changePort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResult<TimeEntryView> list(final PageRequest pageRequest) {
+        final CurrentUser currentUser = requireApprover();
+        return approvalQueuePort.list(currentUser.firmId(), pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Fed by the firm's time entry change stream, keeping only submissions.
+     */
+    @Override
+    public StreamSubscription subscribe(final Consumer<TimeEntryView> listener) {
+        final CurrentUser currentUser = requireApprover();
+        return changePort.subscribe(currentUser.firmId(), change -> {
+            if (change.type() == ChangeType.SUBMITTED) {
+                listener.accept(change.entry());
+            }
+        });
+    }
+
+    private CurrentUser requireApprover() {
+        final CurrentUser currentUser = currentUserPort.currentUser();
+        if (currentUser.role() == Role.EMPLOYEE) {
+            throw ErrorCode.EMPLOYEE_CANNOT_VIEW_APPROVAL_QUEUE.toException();
+        }
+        return currentUser;
+    }
+}
@@ -0,0 +1,47 @@
+package com.aequitas.aequitascentralservice.app.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aequitas.aequitascentralservice.app.port.inbound.ChangeFeedQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.OutboxPort;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+
+/**
+ * Serves the firm-scoped change feed over the outbox.
+ *
+ * <p>The feed exposes every entry of the firm, so employees, who may only observe their own
+ * entries, are refused.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedQueryService implements ChangeFeedQueryPort {
+
+    private final OutboxPort outboxPort;
+    private final CurrentUserPort currentUserPort;
+
+    public ChangeFeedQueryService(final OutboxPort outboxPort, final CurrentUserPort currentUserPort) {
+        this.outboxPort = outboxPort;
+        this.currentUserPort = currentUserPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FeedPage<OutboxMessage> read(final long afterSequence, final int limit) {
+        final CurrentUser currentUser = currentUserPort.currentUser();
+        if (currentUser.role() == Role.EMPLOYEE) {
+            throw ErrorCode.EMPLOYEE_CANNOT_READ_CHANGE_FEED.toException();
+        }
+        if (afterSequence < 0) {
+            throw ErrorCode.NEGATIVE_SEQUENCE.toException();
+        }
+        return outboxPort.readAfter(currentUser.firmId(), afterSequence, limit);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.aequitas.aequitascentralservice.app.port.inbound.FirmCommandPort;
@@ -13,8 +14,10 @@ import com.aequitas.aequitascentralservice.app.port.inbound.FirmQueryPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.FirmRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.domain.command.CreateFirmCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateFirmCommand;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
 import com.aequitas.aequitascentralservice.domain.model.Firm;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
@@ -67,22 +70,34 @@ public class FirmService implements FirmQueryPort, FirmCommandPort {
     private final CurrentUserPort currentUserPort;
     @Resource
     private final ClockPort clockPort;
+    @Resource
+    private final IdGeneratorPort idGeneratorPort;
 
     public FirmService(
             final FirmRepositoryPort repositoryPort,
             final CurrentUserPort currentUserPort,
-            final ClockPort clockPort) {
+            final ClockPort clockPort,
+            final IdGeneratorPort idGeneratorPort) {
         this.repositoryPort = repositoryPort;
         this.currentUserPort = currentUserPort;
         this.clockPort = clockPort;
+        this.idGeneratorPort = idGeneratorPort;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Runs without opening a transaction of its own: the repository port is
+     * cached, so a hit must not check out a pooled connection.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Firm getCurrentUserFirm() {
         final CurrentUser currentUser = currentUserPort.currentUser();
         return repositoryPort
                 .findById(currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Firm not found"));
+                .orElseThrow(ErrorCode.FIRM_NOT_FOUND::toException);
     }
 
     @Override
@@ -106,8 +121,8 @@ public class FirmService implements FirmQueryPort, FirmCommandPort {
         ensureAdminRole(currentUser);
 
         final Instant now = clockPort.now();
-        final Firm firm = Firm.create(command.name(), command.address(), now);
-        return repositoryPort.save(firm).getId();
+        final Firm firm = Firm.create(idGeneratorPort.nextId(), command.name(), command.address(), now);
+        return repositoryPort.insert(firm).getId();
     }
 
     @Override
@@ -117,8 +132,8 @@ public class FirmService implements FirmQueryPort, FirmCommandPort {
         ensureAdminRole(currentUser);
 
         final Firm firm = repositoryPort
-                .findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Firm not found"));
+                .findByIdForUpdate(id)
+                .orElseThrow(ErrorCode.FIRM_NOT_FOUND::toException);
 
         // Only admins from the same firm can update it
         if (!firm.getId().equals(currentUser.firmId())) {
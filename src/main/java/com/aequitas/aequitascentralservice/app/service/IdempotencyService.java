@@ -2,7 +2,9 @@ package com.aequitas.aequitascentralservice.app.service;
 
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.IdempotencyRepositoryPort;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
 import com.aequitas.aequitascentralservice.domain.model.IdempotencyRecord;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
 import com.aequitas.aequitascentralservice.domain.value.IdempotencyOperation;
@@ -31,16 +33,19 @@ public class IdempotencyService {
     private final CurrentUserPort currentUserPort;
     private final ClockPort clockPort;
     private final ObjectMapper objectMapper;
+    private final IdGeneratorPort idGeneratorPort;
 
     public IdempotencyService(
             final IdempotencyRepositoryPort repository,
             final CurrentUserPort currentUserPort,
             final ClockPort clockPort,
-            final ObjectMapper objectMapper) {
+            final ObjectMapper objectMapper,
+            final IdGeneratorPort idGeneratorPort) {
         this.repository = repository;
         this.currentUserPort = currentUserPort;
         this.clockPort = clockPort;
         this.objectMapper = objectMapper;
+        this.idGeneratorPort = idGeneratorPort;
     }
 
     /**
@@ -70,14 +75,14 @@ public class IdempotencyService {
         final Instant now = clockPort.now();
         if (existing.isPresent() && existing.get().expiresAt().isAfter(now)) {
             if (!existing.get().payloadHash().equals(payloadHash)) {
-                throw new IllegalArgumentException("Idempotency key reuse detected with different payload");
+                throw ErrorCode.IDEMPOTENCY_KEY_REUSED.toException();
             }
             return existing.get().responseId();
         }
         final UUID response = supplier.get();
         final IdempotencyRecord record =
                 new IdempotencyRecord(
-                        UUID.randomUUID(),
+                        existing.map(IdempotencyRecord::id).orElseGet(idGeneratorPort::nextId),
                         operation,
                         currentUser.userId(),
                         currentUser.firmId(),
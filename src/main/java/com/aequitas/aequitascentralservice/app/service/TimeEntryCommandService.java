@@ -1,30 +1,44 @@
 package com.aequitas.aequitascentralservice.app.service;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryCommandPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.ApprovalQueuePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CustomerRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.OutboxPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.ProjectRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.command.CreateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.event.EntryApprovedEvent;
+import com.aequitas.aequitascentralservice.domain.event.EntryCreatedEvent;
+import com.aequitas.aequitascentralservice.domain.event.EntrySubmittedEvent;
+import com.aequitas.aequitascentralservice.domain.event.EntryUpdatedEvent;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 import com.aequitas.aequitascentralservice.domain.model.Customer;
 import com.aequitas.aequitascentralservice.domain.model.Project;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 import com.aequitas.aequitascentralservice.domain.value.Role;
 
 /**
  * Implements the command-side flows for the time entry aggregate while enforcing RBAC and tenancy.
+ *
+ * <p>Every successful command appends its lifecycle event to the outbox in the same transaction,
+ * so the outbox is a complete, ordered change log of each firm's entries.
  */
 @Service
 @Transactional
@@ -36,6 +50,9 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
     private final OutboxPort outboxPort;
     private final CurrentUserPort currentUserPort;
     private final ClockPort clockPort;
+    private final IdGeneratorPort idGeneratorPort;
+    private final ApprovalQueuePort approvalQueuePort;
+    private final TimeEntryChangePort changePort;
 
     public TimeEntryCommandService(
             final TimeEntryRepositoryPort repositoryPort,
@@ -43,13 +60,19 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
             final ProjectRepositoryPort projectRepositoryPort,
             final OutboxPort outboxPort,
             final CurrentUserPort currentUserPort,
-            final ClockPort clockPort) {
+            final ClockPort clockPort,
+            final IdGeneratorPort idGeneratorPort,
+            final ApprovalQueuePort approvalQueuePort,
+            final TimeEntryChangePort changePort) {
         this.repositoryPort = repositoryPort;
         this.customerRepositoryPort = customerRepositoryPort;
         this.projectRepositoryPort = projectRepositoryPort;
         this.outboxPort = outboxPort;
         this.currentUserPort = currentUserPort;
         this.clockPort = clockPort;
+        this.idGeneratorPort = idGeneratorPort;
+        this.approvalQueuePort = approvalQueuePort;
+        this.changePort = changePort;
     }
 
     /**
@@ -64,6 +87,7 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
         final Instant now = clockPort.now();
         final TimeEntry entry =
                 TimeEntry.draft(
+                        idGeneratorPort.nextId(),
                         currentUser.firmId(),
                         currentUser.userId(),
                         customer.id(),
@@ -72,7 +96,13 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
                         command.narrative(),
                         command.durationMinutes(),
                         now);
-        return repositoryPort.save(entry).getId();
+        final TimeEntry created = repositoryPort.insert(entry);
+        outboxPort.append(
+                currentUser.firmId(),
+                created.getId(),
+                EntryCreatedEvent.from(idGeneratorPort.nextId(), created));
+        changePort.publish(TimeEntryChange.of(ChangeType.CREATED, created));
+        return created.getId();
     }
 
     /**
@@ -83,8 +113,9 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
         final CurrentUser currentUser = currentUserPort.currentUser();
         TimeEntry entry = repositoryPort
                 .findById(id, currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Time entry not found"));
+                .orElseThrow(ErrorCode.TIME_ENTRY_NOT_FOUND::toException);
         ensureCanModify(currentUser, entry);
+        ensureExpectedVersion(entry, command.expectedUpdatedAt());
 
         final UUID targetCustomerId =
                 command.customerId().orElse(entry.getCustomerId());
@@ -109,7 +140,15 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
                         targetMatterId,
                         targetDuration,
                         clockPort.now());
-        repositoryPort.save(entry);
+        repositoryPort.update(entry);
+        if (entry.getStatus() == EntryStatus.SUBMITTED) {
+            approvalQueuePort.refresh(entry);
+        }
+        outboxPort.append(
+                currentUser.firmId(),
+                entry.getId(),
+                EntryUpdatedEvent.from(idGeneratorPort.nextId(), entry));
+        changePort.publish(TimeEntryChange.of(ChangeType.UPDATED, entry));
     }
 
     /**
@@ -120,10 +159,16 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
         final CurrentUser currentUser = currentUserPort.currentUser();
         TimeEntry entry = repositoryPort
                 .findById(id, currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Time entry not found"));
+                .orElseThrow(ErrorCode.TIME_ENTRY_NOT_FOUND::toException);
         ensureEmployeeOwnsEntry(currentUser, entry);
         entry = entry.submit(clockPort.now());
-        repositoryPort.save(entry);
+        repositoryPort.update(entry);
+        approvalQueuePort.enqueue(entry);
+        outboxPort.append(
+                currentUser.firmId(),
+                entry.getId(),
+                EntrySubmittedEvent.from(idGeneratorPort.nextId(), entry));
+        changePort.publish(TimeEntryChange.of(ChangeType.SUBMITTED, entry));
     }
 
     /**
@@ -133,35 +178,37 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
     public void approve(final UUID id) {
         final CurrentUser currentUser = currentUserPort.currentUser();
         if (currentUser.role() == Role.EMPLOYEE) {
-            throw new IllegalStateException("Employees cannot approve entries");
+            throw ErrorCode.EMPLOYEE_CANNOT_APPROVE.toException();
         }
         TimeEntry entry = repositoryPort
                 .findById(id, currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Time entry not found"));
+                .orElseThrow(ErrorCode.TIME_ENTRY_NOT_FOUND::toException);
         ensureManagerWindow(currentUser, entry);
         entry = entry.approve(currentUser.userId(), clockPort.now());
-        repositoryPort.save(entry);
+        repositoryPort.update(entry);
+        approvalQueuePort.dequeue(currentUser.firmId(), entry.getId());
         outboxPort.append(
                 currentUser.firmId(),
                 entry.getId(),
-                EntryApprovedEvent.from(entry));
+                EntryApprovedEvent.from(idGeneratorPort.nextId(), entry));
+        changePort.publish(TimeEntryChange.of(ChangeType.APPROVED, entry));
     }
 
     private Customer requireCustomer(final UUID id, final CurrentUser currentUser) {
         return customerRepositoryPort
                 .findById(id, currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
+                .orElseThrow(ErrorCode.CUSTOMER_NOT_FOUND::toException);
     }
 
     private Project requireProject(final UUID id, final CurrentUser currentUser) {
         return projectRepositoryPort
                 .findById(id, currentUser.firmId())
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+                .orElseThrow(ErrorCode.PROJECT_NOT_FOUND::toException);
     }
 
     private void ensureProjectBelongsToCustomer(final Project project, final Customer customer) {
         if (!project.customerId().equals(customer.id())) {
-            throw new IllegalArgumentException("Project does not belong to customer");
+            throw ErrorCode.PROJECT_CUSTOMER_MISMATCH.toException();
         }
     }
 
@@ -175,9 +222,15 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
         ensureEmployeeOwnsEntry(user, entry);
     }
 
+    private void ensureExpectedVersion(final TimeEntry entry, final Optional<Instant> expectedUpdatedAt) {
+        if (expectedUpdatedAt.isPresent() && !expectedUpdatedAt.get().equals(entry.getUpdatedAt())) {
+            throw new VersionConflictException("Time entry was modified by another request");
+        }
+    }
+
     private void ensureEmployeeOwnsEntry(final CurrentUser user, final TimeEntry entry) {
         if (!entry.getUserId().equals(user.userId())) {
-            throw new IllegalStateException("Employees can only modify their own entries");
+            throw ErrorCode.NOT_ENTRY_OWNER.toException();
         }
     }
 
@@ -186,7 +239,7 @@ public class TimeEntryCommandService implements TimeEntryCommandPort {
             return;
         }
         if (entry.getStatus() == EntryStatus.APPROVED) {
-            throw new IllegalStateException("Approved entries are immutable");
+            throw ErrorCode.ENTRY_IMMUTABLE.toException();
         }
     }
 }
@@ -1,16 +1,27 @@
 package com.aequitas.aequitascentralservice.app.service;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
@@ -25,11 +36,15 @@ public class TimeEntryQueryService implements TimeEntryQueryPort {
 
     private final TimeEntryRepositoryPort repositoryPort;
     private final CurrentUserPort currentUserPort;
+    private final TimeEntryChangePort changePort;
 
     public TimeEntryQueryService(
-            final TimeEntryRepositoryPort repositoryPort, final CurrentUserPort currentUserPort) {
+            final TimeEntryRepositoryPort repositoryPort,
+            final CurrentUserPort currentUserPort,
+            final TimeEntryChangePort changePort) {
         this.repositoryPort = repositoryPort;
         this.currentUserPort = currentUserPort;
+        this.changePort = changePort;
     }
 
     /**
@@ -39,27 +54,75 @@ public class TimeEntryQueryService implements TimeEntryQueryPort {
     public Optional<TimeEntry> findById(final UUID id) {
         final CurrentUser currentUser = currentUserPort.currentUser();
         return repositoryPort.findById(id, currentUser.firmId())
-                .filter(entry -> canObserve(currentUser, entry));
+                .filter(entry -> canObserve(currentUser, entry.getUserId()));
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Issues a single firm-scoped query for the distinct identifiers and applies the same
+     * visibility rule as {@link #findById(UUID)} to each row, so an entry the caller may not
+     * observe is indistinguishable from a missing one.
      */
     @Override
-    public PageResult<TimeEntry> search(final TimeEntryFilter filter, final PageRequest pageRequest) {
+    public List<Optional<TimeEntry>> findAllById(final List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final CurrentUser currentUser = currentUserPort.currentUser();
+        final Map<UUID, TimeEntry> visible = new HashMap<>();
+        for (final TimeEntry entry : repositoryPort.findAllById(new LinkedHashSet<>(ids), currentUser.firmId())) {
+            if (canObserve(currentUser, entry.getUserId())) {
+                visible.put(entry.getId(), entry);
+            }
+        }
+        return ids.stream().map(id -> Optional.ofNullable(visible.get(id))).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResult<TimeEntryView> search(final TimeEntryFilter filter, final PageRequest pageRequest) {
         final CurrentUser currentUser = currentUserPort.currentUser();
         final TimeEntryFilter enrichedFilter = enrichFilter(filter, currentUser);
         return repositoryPort.search(currentUser.firmId(), enrichedFilter, pageRequest);
     }
 
-    private boolean canObserve(final CurrentUser user, final TimeEntry entry) {
-        return user.role() != Role.EMPLOYEE || entry.getUserId().equals(user.userId());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResult<TimeEntryView> search(
+            final TimeEntryFilter filter, final Set<TimeEntryField> fields, final PageRequest pageRequest) {
+        final CurrentUser currentUser = currentUserPort.currentUser();
+        final TimeEntryFilter enrichedFilter = enrichFilter(filter, currentUser);
+        return repositoryPort.search(currentUser.firmId(), enrichedFilter, fields, pageRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The caller is resolved once here; changes are filtered on the delivery thread against
+     * that snapshot.
+     */
+    @Override
+    public StreamSubscription subscribe(final Consumer<TimeEntryChange> listener) {
+        final CurrentUser currentUser = currentUserPort.currentUser();
+        return changePort.subscribe(currentUser.firmId(), change -> {
+            if (canObserve(currentUser, change.entry().userId())) {
+                listener.accept(change);
+            }
+        });
+    }
+
+    private boolean canObserve(final CurrentUser user, final UUID ownerId) {
+        return user.role() != Role.EMPLOYEE || ownerId.equals(user.userId());
     }
 
     private TimeEntryFilter enrichFilter(final TimeEntryFilter filter, final CurrentUser user) {
         if (user.role() == Role.EMPLOYEE) {
-            return new TimeEntryFilter(
-                    filter.customerId(), filter.projectId(), filter.status(), Optional.of(user.userId()));
+            return filter.withOwnerId(user.userId());
         }
         return filter;
     }
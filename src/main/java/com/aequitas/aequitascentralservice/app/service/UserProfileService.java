@@ -3,7 +3,9 @@ package com.aequitas.aequitascentralservice.app.service;
 import com.aequitas.aequitascentralservice.app.port.inbound.UserProfileCommandPort;
 import com.aequitas.aequitascentralservice.app.port.inbound.UserProfileQueryPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.UserProfileRepositoryPort;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
 import com.aequitas.aequitascentralservice.domain.model.UserProfile;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
 import com.aequitas.aequitascentralservice.domain.value.Role;
@@ -25,11 +27,15 @@ public class UserProfileService implements UserProfileQueryPort, UserProfileComm
 
     private final UserProfileRepositoryPort repositoryPort;
     private final CurrentUserPort currentUserPort;
+    private final IdGeneratorPort idGeneratorPort;
 
     public UserProfileService(
-        final UserProfileRepositoryPort repositoryPort, final CurrentUserPort currentUserPort) {
+        final UserProfileRepositoryPort repositoryPort,
+        final CurrentUserPort currentUserPort,
+        final IdGeneratorPort idGeneratorPort) {
         this.repositoryPort = repositoryPort;
         this.currentUserPort = currentUserPort;
+        this.idGeneratorPort = idGeneratorPort;
     }
 
     @Override
@@ -37,18 +43,24 @@ public class UserProfileService implements UserProfileQueryPort, UserProfileComm
         final CurrentUser currentUser = currentUserPort.currentUser();
         return repositoryPort
             .findById(currentUser.userId(), currentUser.firmId())
-            .orElseThrow(() -> new IllegalArgumentException("User profile not found"));
+            .orElseThrow(ErrorCode.USER_PROFILE_NOT_FOUND::toException);
     }
 
     @Override
+    @Transactional
     public UserProfile createUserProfile(UserProfile userProfile) {
-        return repositoryPort.save(userProfile);
+        return repositoryPort.insert(new UserProfile(
+            idGeneratorPort.nextId(),
+            userProfile.authenticationId(),
+            userProfile.firmId(),
+            userProfile.email(),
+            userProfile.role()));
     }
 
     @Override
     public UserProfile findByAuthenticationId(UUID authenticationId) {
         return repositoryPort.findByAuthenticationId(authenticationId)
-            .orElseThrow(() -> new IllegalArgumentException("User profile not found"));
+            .orElseThrow(ErrorCode.USER_PROFILE_NOT_FOUND::toException);
     }
 
     @Override
@@ -71,7 +83,7 @@ public class UserProfileService implements UserProfileQueryPort, UserProfileComm
         }
         final UserProfile profile = repositoryPort
             .findById(userId, currentUser.firmId())
-            .orElseThrow(() -> new IllegalArgumentException("User not found"));
+            .orElseThrow(ErrorCode.USER_NOT_FOUND::toException);
         final UserProfile updated = new UserProfile(profile.id(), profile.authenticationId(), profile.firmId(), profile.email(), newRole);
         repositoryPort.save(updated);
     }
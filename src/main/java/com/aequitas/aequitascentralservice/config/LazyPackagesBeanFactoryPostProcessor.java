@@ -0,0 +1,55 @@
+package com.aequitas.aequitascentralservice.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * Defers creation of every bean whose type lives under one of the configured packages until it is
+ * first used, so that infrastructure not needed to serve traffic does not delay readiness.
+ *
+ * <p>Unlike {@code spring.main.lazy-initialization}, beans outside those packages stay eager, so
+ * wiring and connectivity errors in the core of the application still fail the startup.
+ */
+public class LazyPackagesBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packagePrefixes;
+
+    /**
+     * @param packages package names whose beans become lazy, e.g. {@code org.springdoc}.
+     */
+    public LazyPackagesBeanFactoryPostProcessor(final List<String> packages) {
+        this.packagePrefixes = packages.stream().map(name -> name + ".").toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        if (packagePrefixes.isEmpty()) {
+            return;
+        }
+        for (final String name : beanFactory.getBeanDefinitionNames()) {
+            final BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            final Class<?> type = beanFactory.getType(name, false);
+            if (type != null && matches(type.getName())) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean matches(final String className) {
+        for (final String prefix : packagePrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
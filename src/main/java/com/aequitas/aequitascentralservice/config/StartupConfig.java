@@ -0,0 +1,32 @@
+package com.aequitas.aequitascentralservice.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Startup tuning: beans in {@code startup.lazy-packages} (springdoc by default) are created on
+ * first use instead of before the readiness probe turns green.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Static so that it is registered before other bean definitions are processed.
+     *
+     * @param environment source of {@code startup.lazy-packages}.
+     * @return post-processor marking the configured packages lazy.
+     */
+    @Bean
+    public static LazyPackagesBeanFactoryPostProcessor lazyPackagesBeanFactoryPostProcessor(
+            final Environment environment) {
+        final List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyPackagesBeanFactoryPostProcessor(packages);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import io.micrometer.observation.ObservationRegistry;
+
 /**
  * Wires the REST client used to call Supabase Admin and Auth endpoints.
  */
@@ -15,8 +17,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 @EnableConfigurationProperties(SupabaseProperties.class)
 public class SupabaseConfig {
 
+    /**
+     * Builds the client on the application's {@link ObservationRegistry} so every Supabase call is
+     * observed as an HTTP client span and timer.
+     *
+     * @param observationRegistry registry that records client observations.
+     * @param properties Supabase connection settings.
+     * @return client rooted at the Auth API.
+     */
     @Bean
-    public RestClient supabaseRestClient(final SupabaseProperties properties) {
+    public RestClient supabaseRestClient(
+            final ObservationRegistry observationRegistry, final SupabaseProperties properties) {
         if (!StringUtils.hasText(properties.url())) {
             throw new IllegalStateException("supabase.url must be configured");
         }
@@ -29,6 +40,7 @@ public class SupabaseConfig {
                         .build()
                         .toString();
         return RestClient.builder()
+                .observationRegistry(observationRegistry)
                 .baseUrl(baseUrl)
                 .defaultHeader("apikey", properties.serviceKey())
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + properties.serviceKey())
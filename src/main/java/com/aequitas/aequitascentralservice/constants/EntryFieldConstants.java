@@ -16,4 +16,6 @@ public class EntryFieldConstants {
     public static final String DURATION_MINUTES = "durationMinutes";
     public static final String STATUS = "status";
     public static final String APPROVED_AT = "approvedAt";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
 }
@@ -1,5 +1,6 @@
 package com.aequitas.aequitascentralservice.domain.command;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +14,8 @@ import lombok.Builder;
  * @param matterId   optional new matter reference identifier.
  * @param narrative  optional narrative override.
  * @param durationMinutes optional new duration in minutes.
+ * @param expectedUpdatedAt optional {@code updatedAt} the caller last observed; when present the
+ *     update is rejected if the entry has changed since.
  */
 @Builder
 public record UpdateTimeEntryCommand(
@@ -20,5 +23,6 @@ public record UpdateTimeEntryCommand(
         Optional<UUID> projectId,
         Optional<UUID> matterId,
         Optional<String> narrative,
-        Optional<Integer> durationMinutes) {
+        Optional<Integer> durationMinutes,
+        Optional<Instant> expectedUpdatedAt) {
 }
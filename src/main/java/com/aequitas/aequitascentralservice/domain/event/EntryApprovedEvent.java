@@ -1,12 +1,8 @@
 package com.aequitas.aequitascentralservice.domain.event;
 
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
-import com.aequitas.aequitascentralservice.constants.EntryFieldConstants;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 
@@ -18,40 +14,68 @@ import lombok.Builder;
  * @param eventId unique identifier for the event row.
  * @param occurredAt timestamp when the approval occurred.
  * @param firmId tenant identifier to group FIFO delivery.
- * @param payload event payload flattened into a JSON-friendly map.
+ * @param payload approved entry attributes.
  */
 @Builder
-public record EntryApprovedEvent(
-        UUID eventId, Instant occurredAt, UUID firmId, Map<String, Object> payload)
+public record EntryApprovedEvent(UUID eventId, Instant occurredAt, UUID firmId, Payload payload)
         implements DomainEvent {
 
+    public static final String TYPE = "ENTRY_APPROVED.v1";
+
+    /**
+     * Shape of {@value #TYPE}; changing it requires a new event type version.
+     *
+     * @param entryId approved entry.
+     * @param firmId tenant of the entry.
+     * @param userId owner of the entry.
+     * @param customerId customer billed.
+     * @param projectId project billed.
+     * @param matterId optional matter; {@code null} when absent.
+     * @param narrative entry narrative.
+     * @param durationMinutes recorded duration.
+     * @param status always {@link EntryStatus#APPROVED}.
+     * @param approvedAt approval timestamp.
+     */
+    public record Payload(
+            UUID entryId,
+            UUID firmId,
+            UUID userId,
+            UUID customerId,
+            UUID projectId,
+            UUID matterId,
+            String narrative,
+            int durationMinutes,
+            EntryStatus status,
+            Instant approvedAt) {
+    }
+
     /**
      * Creates the event from a domain aggregate snapshot.
      *
+     * @param eventId identifier allocated for the event.
      * @param entry approved entry snapshot.
      * @return immutable event.
      */
-    public static EntryApprovedEvent from(final TimeEntry entry) {
-        final Map<String, Object> payload = new HashMap<>();
-        payload.put(EntryFieldConstants.ENTRY_ID, entry.getId().toString());
-        payload.put(EntryFieldConstants.FIRM_ID, entry.getFirmId().toString());
-        payload.put(EntryFieldConstants.USER_ID, entry.getUserId().toString());
-        payload.put(EntryFieldConstants.CUSTOMER_ID, entry.getCustomerId().toString());
-        payload.put(EntryFieldConstants.PROJECT_ID, entry.getProjectId().toString());
-        payload.put(EntryFieldConstants.MATTER_ID, entry.getMatterId() == null ? null : entry.getMatterId().toString());
-        payload.put(EntryFieldConstants.NARRATIVE, entry.getNarrative());
-        payload.put(EntryFieldConstants.DURATION_MINUTES, entry.getDurationMinutes());
-        payload.put(EntryFieldConstants.STATUS, EntryStatus.APPROVED.name());
-        payload.put(EntryFieldConstants.APPROVED_AT, entry.getApprovedAt().toString());
+    public static EntryApprovedEvent from(final UUID eventId, final TimeEntry entry) {
         return new EntryApprovedEvent(
-                UUID.randomUUID(),
+                eventId,
                 entry.getApprovedAt(),
                 entry.getFirmId(),
-                Collections.unmodifiableMap(payload));
+                new Payload(
+                        entry.getId(),
+                        entry.getFirmId(),
+                        entry.getUserId(),
+                        entry.getCustomerId(),
+                        entry.getProjectId(),
+                        entry.getMatterId(),
+                        entry.getNarrative(),
+                        entry.getDurationMinutes(),
+                        EntryStatus.APPROVED,
+                        entry.getApprovedAt()));
     }
 
     @Override
     public String eventType() {
-        return "ENTRY_APPROVED.v1";
+        return TYPE;
     }
 }
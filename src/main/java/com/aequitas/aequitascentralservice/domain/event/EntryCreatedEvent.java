@@ -0,0 +1,81 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+import lombok.Builder;
+
+/**
+ * Canonical payload emitted when a draft entry is created.
+ *
+ * <p>Carries every attribute of the new entry so consumers can seed a projection row without
+ * reading {@code time_entries}.
+ *
+ * @param eventId unique identifier for the event row.
+ * @param occurredAt timestamp when the entry was created.
+ * @param firmId tenant identifier to group FIFO delivery.
+ * @param payload created entry attributes.
+ */
+@Builder
+public record EntryCreatedEvent(UUID eventId, Instant occurredAt, UUID firmId, Payload payload)
+        implements DomainEvent {
+
+    public static final String TYPE = "ENTRY_CREATED.v1";
+
+    /**
+     * Shape of {@value #TYPE}; changing it requires a new event type version.
+     *
+     * @param entryId created entry.
+     * @param userId owner of the entry.
+     * @param customerId customer billed.
+     * @param projectId project billed.
+     * @param matterId optional matter; {@code null} when absent.
+     * @param narrative entry narrative.
+     * @param durationMinutes recorded duration.
+     * @param status initial status.
+     * @param createdAt creation timestamp.
+     */
+    public record Payload(
+            UUID entryId,
+            UUID userId,
+            UUID customerId,
+            UUID projectId,
+            UUID matterId,
+            String narrative,
+            int durationMinutes,
+            EntryStatus status,
+            Instant createdAt) {
+    }
+
+    /**
+     * Creates the event from a domain aggregate snapshot.
+     *
+     * @param eventId identifier allocated for the event.
+     * @param entry created entry snapshot.
+     * @return immutable event.
+     */
+    public static EntryCreatedEvent from(final UUID eventId, final TimeEntry entry) {
+        return new EntryCreatedEvent(
+                eventId,
+                entry.getCreatedAt(),
+                entry.getFirmId(),
+                new Payload(
+                        entry.getId(),
+                        entry.getUserId(),
+                        entry.getCustomerId(),
+                        entry.getProjectId(),
+                        entry.getMatterId(),
+                        entry.getNarrative(),
+                        entry.getDurationMinutes(),
+                        entry.getStatus(),
+                        entry.getCreatedAt()));
+    }
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+import lombok.Builder;
+
+/**
+ * Canonical payload emitted when an entry transitions to SUBMITTED.
+ *
+ * <p>A submission changes nothing but the status, so the payload only identifies the entry.
+ *
+ * @param eventId unique identifier for the event row.
+ * @param occurredAt timestamp when the submission occurred.
+ * @param firmId tenant identifier to group FIFO delivery.
+ * @param payload submitted entry identity and status.
+ */
+@Builder
+public record EntrySubmittedEvent(UUID eventId, Instant occurredAt, UUID firmId, Payload payload)
+        implements DomainEvent {
+
+    public static final String TYPE = "ENTRY_SUBMITTED.v1";
+
+    /**
+     * Shape of {@value #TYPE}; changing it requires a new event type version.
+     *
+     * @param entryId submitted entry.
+     * @param userId owner of the entry.
+     * @param status always {@link EntryStatus#SUBMITTED}.
+     * @param updatedAt submission timestamp.
+     */
+    public record Payload(UUID entryId, UUID userId, EntryStatus status, Instant updatedAt) {
+    }
+
+    /**
+     * Creates the event from a domain aggregate snapshot.
+     *
+     * @param eventId identifier allocated for the event.
+     * @param entry submitted entry snapshot.
+     * @return immutable event.
+     */
+    public static EntrySubmittedEvent from(final UUID eventId, final TimeEntry entry) {
+        return new EntrySubmittedEvent(
+                eventId,
+                entry.getUpdatedAt(),
+                entry.getFirmId(),
+                new Payload(entry.getId(), entry.getUserId(), EntryStatus.SUBMITTED, entry.getUpdatedAt()));
+    }
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,74 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+
+import lombok.Builder;
+
+/**
+ * Canonical payload emitted when an entry's editable details change.
+ *
+ * <p>Carries only the editable attributes after the change; owner and status are unchanged by an
+ * update and are known from earlier events.
+ *
+ * @param eventId unique identifier for the event row.
+ * @param occurredAt timestamp when the update occurred.
+ * @param firmId tenant identifier to group FIFO delivery.
+ * @param payload editable attributes after the update.
+ */
+@Builder
+public record EntryUpdatedEvent(UUID eventId, Instant occurredAt, UUID firmId, Payload payload)
+        implements DomainEvent {
+
+    public static final String TYPE = "ENTRY_UPDATED.v1";
+
+    /**
+     * Shape of {@value #TYPE}; changing it requires a new event type version.
+     *
+     * @param entryId updated entry.
+     * @param customerId customer billed.
+     * @param projectId project billed.
+     * @param matterId optional matter; {@code null} when absent.
+     * @param narrative entry narrative.
+     * @param durationMinutes recorded duration.
+     * @param updatedAt update timestamp.
+     */
+    public record Payload(
+            UUID entryId,
+            UUID customerId,
+            UUID projectId,
+            UUID matterId,
+            String narrative,
+            int durationMinutes,
+            Instant updatedAt) {
+    }
+
+    /**
+     * Creates the event from a domain aggregate snapshot.
+     *
+     * @param eventId identifier allocated for the event.
+     * @param entry updated entry snapshot.
+     * @return immutable event.
+     */
+    public static EntryUpdatedEvent from(final UUID eventId, final TimeEntry entry) {
+        return new EntryUpdatedEvent(
+                eventId,
+                entry.getUpdatedAt(),
+                entry.getFirmId(),
+                new Payload(
+                        entry.getId(),
+                        entry.getCustomerId(),
+                        entry.getProjectId(),
+                        entry.getMatterId(),
+                        entry.getNarrative(),
+                        entry.getDurationMinutes(),
+                        entry.getUpdatedAt()));
+    }
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,14 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+/**
+ * Registered version of a domain event.
+ *
+ * @param eventType versioned event type written to the outbox (e.g., ENTRY_APPROVED.v1).
+ * @param eventClass event record carrying the envelope.
+ * @param payloadClass record fixing the payload shape of this version.
+ */
+public record EventSchema(
+        String eventType,
+        Class<? extends DomainEvent> eventClass,
+        Class<? extends Record> payloadClass) {
+}
@@ -0,0 +1,46 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Registry of every event version the service writes to the outbox.
+ *
+ * <p>Payloads are typed records, so their shape is fixed at compile time. A new field, rename or
+ * type change is a new payload record registered under a new event type version; consumers of the
+ * old version keep receiving the shape they were built against.
+ */
+@UtilityClass
+public final class EventSchemas {
+
+    private static final Map<String, EventSchema> BY_TYPE = List.of(
+                    new EventSchema(EntryCreatedEvent.TYPE, EntryCreatedEvent.class, EntryCreatedEvent.Payload.class),
+                    new EventSchema(EntryUpdatedEvent.TYPE, EntryUpdatedEvent.class, EntryUpdatedEvent.Payload.class),
+                    new EventSchema(
+                            EntrySubmittedEvent.TYPE, EntrySubmittedEvent.class, EntrySubmittedEvent.Payload.class),
+                    new EventSchema(
+                            EntryApprovedEvent.TYPE, EntryApprovedEvent.class, EntryApprovedEvent.Payload.class))
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(EventSchema::eventType, Function.identity()));
+
+    /**
+     * @return every registered event version.
+     */
+    public static Collection<EventSchema> all() {
+        return BY_TYPE.values();
+    }
+
+    /**
+     * @param eventType versioned event type.
+     * @return the registered schema, or empty for an unknown type.
+     */
+    public static Optional<EventSchema> forType(final String eventType) {
+        return Optional.ofNullable(BY_TYPE.get(eventType));
+    }
+}
@@ -0,0 +1,37 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+/**
+ * Stackless {@link DomainException} for invalid input, such as a reference to a missing entity.
+ *
+ * <p>Extends {@link IllegalArgumentException} so callers and handlers that only distinguish bad
+ * arguments keep working; the web layer maps it to HTTP 400 Bad Request.
+ */
+public final class DomainArgumentException extends IllegalArgumentException implements DomainException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ErrorCode errorCode;
+
+    DomainArgumentException(final ErrorCode errorCode) {
+        super(errorCode.message());
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ErrorCode errorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Skips stack trace capture; the outcome is expected and fully described by its code.
+     *
+     * @return this exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
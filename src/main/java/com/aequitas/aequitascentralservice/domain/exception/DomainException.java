@@ -0,0 +1,20 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+/**
+ * Common view of the exceptions raised for expected, client-caused outcomes.
+ *
+ * <p>These outcomes are routine: a scanner probing identifiers produces one per request. The
+ * implementations therefore skip stack trace capture, which is most of the cost of throwing, and
+ * carry a fixed message from their {@link ErrorCode} so the web layer can answer without reading a
+ * trace. Create them through {@link ErrorCode#toException()}.
+ *
+ * @see DomainArgumentException
+ * @see DomainStateException
+ */
+public interface DomainException {
+
+    /**
+     * @return stable code identifying the outcome.
+     */
+    ErrorCode errorCode();
+}
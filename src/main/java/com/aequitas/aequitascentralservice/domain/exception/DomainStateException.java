@@ -0,0 +1,38 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+/**
+ * Stackless {@link DomainException} for requests that conflict with the current state, such as an
+ * invalid status transition or an operation on another user's entry.
+ *
+ * <p>Extends {@link IllegalStateException} so callers and handlers that only distinguish business
+ * conflicts keep working; the web layer maps it to HTTP 409 Conflict.
+ */
+public final class DomainStateException extends IllegalStateException implements DomainException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ErrorCode errorCode;
+
+    DomainStateException(final ErrorCode errorCode) {
+        super(errorCode.message());
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ErrorCode errorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Skips stack trace capture; the outcome is expected and fully described by its code.
+     *
+     * @return this exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,73 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+/**
+ * Stable identifiers for the expected, client-caused outcomes of domain operations.
+ *
+ * <p>Each code carries a fixed message and a {@link Kind} deciding whether it is raised as a
+ * {@link DomainArgumentException} or a {@link DomainStateException}. The constant names are part of
+ * the API: they are returned to clients as the {@code code} of the problem detail, so existing
+ * constants must not be renamed.
+ */
+public enum ErrorCode {
+    TIME_ENTRY_NOT_FOUND(Kind.INVALID_ARGUMENT, "Time entry not found"),
+    CUSTOMER_NOT_FOUND(Kind.INVALID_ARGUMENT, "Customer not found"),
+    PROJECT_NOT_FOUND(Kind.INVALID_ARGUMENT, "Project not found"),
+    PROJECT_CUSTOMER_MISMATCH(Kind.INVALID_ARGUMENT, "Project does not belong to customer"),
+    FIRM_NOT_FOUND(Kind.INVALID_ARGUMENT, "Firm not found"),
+    USER_PROFILE_NOT_FOUND(Kind.INVALID_ARGUMENT, "User profile not found"),
+    USER_NOT_FOUND(Kind.INVALID_ARGUMENT, "User not found"),
+    DURATION_NOT_POSITIVE(Kind.INVALID_ARGUMENT, "Duration must be positive"),
+    DURATION_TOO_LONG(Kind.INVALID_ARGUMENT, "Duration exceeds 24 hours"),
+    NARRATIVE_REQUIRED(Kind.INVALID_ARGUMENT, "Narrative is required"),
+    NARRATIVE_TOO_LONG(Kind.INVALID_ARGUMENT, "Narrative exceeds 2048 characters"),
+    NEGATIVE_SEQUENCE(Kind.INVALID_ARGUMENT, "Sequence must not be negative"),
+    IDEMPOTENCY_KEY_REUSED(Kind.INVALID_ARGUMENT, "Idempotency key reuse detected with different payload"),
+    NOT_ENTRY_OWNER(Kind.CONFLICT, "Employees can only modify their own entries"),
+    EMPLOYEE_CANNOT_APPROVE(Kind.CONFLICT, "Employees cannot approve entries"),
+    EMPLOYEE_CANNOT_VIEW_APPROVAL_QUEUE(Kind.CONFLICT, "Employees cannot view the approval queue"),
+    EMPLOYEE_CANNOT_READ_CHANGE_FEED(Kind.CONFLICT, "Employees cannot read the change feed"),
+    ENTRY_IMMUTABLE(Kind.CONFLICT, "Approved entries are immutable"),
+    ENTRY_NOT_DRAFT(Kind.CONFLICT, "Only draft entries can be submitted"),
+    ENTRY_NOT_SUBMITTED(Kind.CONFLICT, "Entry must be submitted before approval");
+
+    /**
+     * Whether a code reports bad input or a request that conflicts with the current state.
+     */
+    public enum Kind {
+        INVALID_ARGUMENT,
+        CONFLICT
+    }
+
+    private final Kind kind;
+    private final String message;
+
+    ErrorCode(final Kind kind, final String message) {
+        this.kind = kind;
+        this.message = message;
+    }
+
+    /**
+     * @return category of the outcome.
+     */
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * @return fixed human readable description.
+     */
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Creates the exception signalling this outcome, for use as
+     * {@code orElseThrow(ErrorCode.TIME_ENTRY_NOT_FOUND::toException)} or
+     * {@code throw ErrorCode.ENTRY_IMMUTABLE.toException()}.
+     *
+     * @return a stackless {@link DomainArgumentException} or {@link DomainStateException}.
+     */
+    public RuntimeException toException() {
+        return kind == Kind.CONFLICT ? new DomainStateException(this) : new DomainArgumentException(this);
+    }
+}
@@ -0,0 +1,21 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+/**
+ * Raised when a caller's expected aggregate version no longer matches the persisted state.
+ *
+ * <p>Extends {@link IllegalStateException} so callers that only distinguish business conflicts
+ * keep working; the web layer maps it to HTTP 412 Precondition Failed.
+ */
+public class VersionConflictException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception with a descriptive message.
+     *
+     * @param message human readable description.
+     */
+    public VersionConflictException(final String message) {
+        super(message);
+    }
+}
@@ -39,7 +39,7 @@ import lombok.Value;
  *     .postalCode("10001")
  *     .country("USA")
  *     .build();
- * Firm firm = Firm.create("Smith & Associates", address, Instant.now());
+ * Firm firm = Firm.create(idGeneratorPort.nextId(), "Smith & Associates", address, Instant.now());
  * 
  * // Update firm details
  * Firm updated = firm.update("Smith & Partners LLP", null, Instant.now());
@@ -87,17 +87,19 @@ public final class Firm {
     /**
      * Factory that creates a new firm with the provided details.
      *
+     * @param id identifier allocated for the new firm.
      * @param name firm's legal or operating name.
      * @param address firm's physical address.
      * @param now clock instant used for audit fields.
      * @return immutable firm aggregate.
      */
     public static Firm create(
+            final UUID id,
             final String name,
             final Address address,
             final Instant now) {
         return Firm.builder()
-                .id(UUID.randomUUID())
+                .id(id)
                 .name(name)
                 .address(address)
                 .createdAt(now)
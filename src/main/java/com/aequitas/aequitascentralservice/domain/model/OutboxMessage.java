@@ -15,6 +15,7 @@ import lombok.Builder;
  * @param payloadJson serialized JSON payload.
  * @param occurredAt time when domain change happened.
  * @param publishedAt timestamp when the relay successfully published the event.
+ * @param sequence position in the firm's change feed; {@code null} until stored.
  */
 @Builder
 public record OutboxMessage(
@@ -24,5 +25,6 @@ public record OutboxMessage(
         String eventType,
         String payloadJson,
         Instant occurredAt,
-        Instant publishedAt) {
+        Instant publishedAt,
+        Long sequence) {
 }
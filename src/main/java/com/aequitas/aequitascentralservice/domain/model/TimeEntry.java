@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 
 import lombok.AllArgsConstructor;
@@ -31,6 +32,11 @@ public final class TimeEntry {
     private final Instant updatedAt;
     private final UUID approvedBy;
     private final Instant approvedAt;
+    /**
+     * Optimistic-locking version assigned by persistence; {@code null} until the entry is first
+     * stored.
+     */
+    private final Long version;
 
     /**
      * Rehydrates an aggregate from persistence.
@@ -48,6 +54,7 @@ public final class TimeEntry {
      * @param updatedAt updated timestamp.
      * @param approvedBy approver identifier.
      * @param approvedAt approval timestamp.
+     * @param version optimistic-locking version of the stored row.
      * @return aggregate snapshot.
      */
     public static TimeEntry rehydrate(
@@ -63,7 +70,8 @@ public final class TimeEntry {
             final Instant createdAt,
             final Instant updatedAt,
             final UUID approvedBy,
-            final Instant approvedAt) {
+            final Instant approvedAt,
+            final Long version) {
         return TimeEntry.builder()
                 .id(id)
                 .firmId(firmId)
@@ -78,12 +86,14 @@ public final class TimeEntry {
                 .updatedAt(updatedAt)
                 .approvedBy(approvedBy)
                 .approvedAt(approvedAt)
+                .version(version)
                 .build();
     }
 
     /**
      * Factory that builds a fresh draft entry.
      *
+     * @param id identifier allocated for the new entry.
      * @param firmId tenant identifier.
      * @param userId owner identifier.
      * @param customerId linked customer identifier.
@@ -95,6 +105,7 @@ public final class TimeEntry {
      * @return immutable draft aggregate.
      */
     public static TimeEntry draft(
+            final UUID id,
             final UUID firmId,
             final UUID userId,
             final UUID customerId,
@@ -105,7 +116,7 @@ public final class TimeEntry {
             final Instant now) {
         requirePositiveDuration(durationMinutes);
         return new TimeEntry(
-                UUID.randomUUID(),
+                id,
                 firmId,
                 userId,
                 customerId,
@@ -117,24 +128,25 @@ public final class TimeEntry {
                 now,
                 now,
                 null,
+                null,
                 null);
     }
 
     private static void requirePositiveDuration(final int durationMinutes) {
         if (durationMinutes <= 0) {
-            throw new IllegalArgumentException("Duration must be positive");
+            throw ErrorCode.DURATION_NOT_POSITIVE.toException();
         }
         if (durationMinutes > 24 * 60) {
-            throw new IllegalArgumentException("Duration exceeds 24 hours");
+            throw ErrorCode.DURATION_TOO_LONG.toException();
         }
     }
 
     private static String requireNarrative(final String narrative) {
         if (narrative == null || narrative.isBlank()) {
-            throw new IllegalArgumentException("Narrative is required");
+            throw ErrorCode.NARRATIVE_REQUIRED.toException();
         }
         if (narrative.length() > 2048) {
-            throw new IllegalArgumentException("Narrative exceeds 2048 characters");
+            throw ErrorCode.NARRATIVE_TOO_LONG.toException();
         }
         return narrative;
     }
@@ -171,7 +183,8 @@ public final class TimeEntry {
                 createdAt,
                 now,
                 approvedBy,
-                approvedAt);
+                approvedAt,
+                version);
     }
 
     /**
@@ -182,7 +195,7 @@ public final class TimeEntry {
      */
     public TimeEntry submit(final Instant now) {
         if (status != EntryStatus.DRAFT) {
-            throw new IllegalStateException("Only draft entries can be submitted");
+            throw ErrorCode.ENTRY_NOT_DRAFT.toException();
         }
         return new TimeEntry(
                 id,
@@ -197,7 +210,8 @@ public final class TimeEntry {
                 createdAt,
                 now,
                 approvedBy,
-                approvedAt);
+                approvedAt,
+                version);
     }
 
     /**
@@ -209,7 +223,7 @@ public final class TimeEntry {
      */
     public TimeEntry approve(final UUID approverId, final Instant now) {
         if (status != EntryStatus.SUBMITTED) {
-            throw new IllegalStateException("Entry must be submitted before approval");
+            throw ErrorCode.ENTRY_NOT_SUBMITTED.toException();
         }
         Objects.requireNonNull(approverId, "approverId");
         return new TimeEntry(
@@ -225,6 +239,7 @@ public final class TimeEntry {
                 createdAt,
                 now,
                 approverId,
-                now);
+                now,
+                version);
     }
 }
@@ -0,0 +1,48 @@
+package com.aequitas.aequitascentralservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Committed change to a time entry, fanned out to clients streaming their firm's entries.
+ *
+ * @param firmId tenant identifier used to route the change.
+ * @param type kind of change.
+ * @param entry entry state after the change.
+ */
+public record TimeEntryChange(UUID firmId, ChangeType type, TimeEntryView entry) {
+
+    /**
+     * Snapshots an aggregate into a change.
+     *
+     * @param type kind of change.
+     * @param entry aggregate after the change.
+     * @return immutable change.
+     */
+    public static TimeEntryChange of(final ChangeType type, final TimeEntry entry) {
+        return new TimeEntryChange(
+                entry.getFirmId(),
+                type,
+                new TimeEntryView(
+                        entry.getId(),
+                        entry.getCustomerId(),
+                        entry.getProjectId(),
+                        entry.getMatterId(),
+                        entry.getUserId(),
+                        entry.getNarrative(),
+                        entry.getDurationMinutes(),
+                        entry.getStatus(),
+                        entry.getCreatedAt(),
+                        entry.getUpdatedAt(),
+                        entry.getApprovedAt()));
+    }
+
+    /**
+     * Kind of change, one per command.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        SUBMITTED,
+        APPROVED
+    }
+}
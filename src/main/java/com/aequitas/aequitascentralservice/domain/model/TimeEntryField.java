@@ -0,0 +1,74 @@
+package com.aequitas.aequitascentralservice.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of {@link TimeEntryView} a list read may be limited to.
+ *
+ * <p>Each constant is named after the property shared by the read model and the list response,
+ * so a sparse read selects only the matching columns and serializes only the matching properties.
+ * {@link #ID} is always read because pages are keyed by it.
+ */
+public enum TimeEntryField {
+    ID("id"),
+    CUSTOMER_ID("customerId"),
+    PROJECT_ID("projectId"),
+    MATTER_ID("matterId"),
+    USER_ID("userId"),
+    NARRATIVE("narrative"),
+    DURATION_MINUTES("durationMinutes"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    APPROVED_AT("approvedAt");
+
+    /**
+     * Every field; the default when no selection is requested.
+     */
+    public static final Set<TimeEntryField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TimeEntryField.class));
+
+    private final String property;
+
+    TimeEntryField(final String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return property name in the read model and the API.
+     */
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated selection such as {@code "id,status,durationMinutes"}.
+     *
+     * @param selection property names; surrounding whitespace is ignored.
+     * @return selected fields, always including {@link #ID}, in declaration order.
+     * @throws IllegalArgumentException if the selection is blank or names an unknown property.
+     */
+    public static Set<TimeEntryField> parse(final String selection) {
+        if (selection == null || selection.isBlank()) {
+            throw new IllegalArgumentException("fields must name at least one property");
+        }
+        final Set<TimeEntryField> fields = EnumSet.of(ID);
+        for (final String name : selection.split(",")) {
+            fields.add(fromProperty(name.strip()));
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
+    private static TimeEntryField fromProperty(final String name) {
+        for (final TimeEntryField field : values()) {
+            if (field.property.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + name + "'; allowed: "
+                + Arrays.stream(values()).map(TimeEntryField::property).collect(Collectors.joining(", ")));
+    }
+}
@@ -1,20 +1,78 @@
 package com.aequitas.aequitascentralservice.domain.model;
 
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Filter criteria used when querying paginated time entry lists.
  *
- * @param customerId optional customer identifier filter.
- * @param projectId  optional project identifier filter.
- * @param status     optional status filter.
- * @param ownerId    optional owner filter used by managers/admins.
+ * <p>The creation window is half-open ({@code createdFrom <= createdAt < createdTo}). Supplying it
+ * lets the store skip the monthly partitions outside the window.
+ *
+ * <p>A narrative query switches the result order from creation order to relevance. Blank queries
+ * are treated as absent.
+ *
+ * @param customerId     optional customer identifier filter.
+ * @param projectId      optional project identifier filter.
+ * @param status         optional status filter.
+ * @param ownerId        optional owner filter used by managers/admins.
+ * @param createdFrom    optional inclusive lower bound on the creation timestamp.
+ * @param createdTo      optional exclusive upper bound on the creation timestamp.
+ * @param narrativeQuery optional web-search style full-text query over the narrative.
  */
 public record TimeEntryFilter(
         Optional<UUID> customerId,
         Optional<UUID> projectId,
         Optional<EntryStatus> status,
-        Optional<UUID> ownerId) {
+        Optional<UUID> ownerId,
+        Optional<Instant> createdFrom,
+        Optional<Instant> createdTo,
+        Optional<String> narrativeQuery) {
+
+    /**
+     * Maximum accepted length of a narrative query.
+     */
+    public static final int MAX_NARRATIVE_QUERY_LENGTH = 200;
+
+    public TimeEntryFilter {
+        if (createdFrom.isPresent()
+                && createdTo.isPresent()
+                && !createdFrom.get().isBefore(createdTo.get())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        narrativeQuery = narrativeQuery.map(String::strip).filter(query -> !query.isEmpty());
+        if (narrativeQuery.map(String::length).orElse(0) > MAX_NARRATIVE_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Narrative query must be at most " + MAX_NARRATIVE_QUERY_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Creates a filter without a creation window or narrative query.
+     *
+     * @param customerId optional customer identifier filter.
+     * @param projectId  optional project identifier filter.
+     * @param status     optional status filter.
+     * @param ownerId    optional owner filter.
+     */
+    public TimeEntryFilter(
+            final Optional<UUID> customerId,
+            final Optional<UUID> projectId,
+            final Optional<EntryStatus> status,
+            final Optional<UUID> ownerId) {
+        this(customerId, projectId, status, ownerId, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Returns a copy restricted to the supplied owner.
+     *
+     * @param owner owner identifier.
+     * @return filter with the same criteria and the owner pinned.
+     */
+    public TimeEntryFilter withOwnerId(final UUID owner) {
+        return new TimeEntryFilter(
+                customerId, projectId, status, Optional.of(owner), createdFrom, createdTo, narrativeQuery);
+    }
 }
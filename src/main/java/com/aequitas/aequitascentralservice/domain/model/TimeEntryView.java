@@ -0,0 +1,38 @@
+package com.aequitas.aequitascentralservice.domain.model;
+
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable read model of a time entry used by list endpoints.
+ *
+ * <p>Selected straight from the store by a constructor projection, so listing a page neither
+ * hydrates managed entities nor rebuilds {@link TimeEntry} aggregates. It carries exactly the
+ * columns the list response exposes and has no behaviour; commands keep loading the aggregate.
+ *
+ * @param id entry identifier.
+ * @param customerId linked customer identifier.
+ * @param projectId linked project identifier.
+ * @param matterId optional matter identifier.
+ * @param userId owner identifier.
+ * @param narrative billing narrative.
+ * @param durationMinutes duration in minutes.
+ * @param status lifecycle status.
+ * @param createdAt creation timestamp.
+ * @param updatedAt last modification timestamp.
+ * @param approvedAt approval timestamp, if approved.
+ */
+public record TimeEntryView(
+        UUID id,
+        UUID customerId,
+        UUID projectId,
+        UUID matterId,
+        UUID userId,
+        String narrative,
+        int durationMinutes,
+        EntryStatus status,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant approvedAt) {
+}
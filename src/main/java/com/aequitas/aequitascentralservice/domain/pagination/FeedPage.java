@@ -0,0 +1,15 @@
+package com.aequitas.aequitascentralservice.domain.pagination;
+
+import java.util.List;
+
+/**
+ * Represents a slice of a sequence-ordered feed.
+ *
+ * @param items payload items in sequence order.
+ * @param lastSequence sequence to resume after; the request's own position when {@code items} is
+ *     empty.
+ * @param hasMore whether more items were already available after this slice.
+ * @param <T> payload type.
+ */
+public record FeedPage<T>(List<T> items, long lastSequence, boolean hasMore) {
+}
@@ -0,0 +1,21 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into {@link SqlStatementCounter}, leaving the SQL
+ * unchanged. Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String inspect(final String sql) {
+        SqlStatementCounter.add(1);
+        return sql;
+    }
+}
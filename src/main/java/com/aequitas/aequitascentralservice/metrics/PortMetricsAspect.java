@@ -0,0 +1,137 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.tenancy.TenantContextHolder;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes every call through an application port, and every public application service method,
+ * as {@value #METRIC_NAME}: a timer histogram and, when tracing is sampled, a span named
+ * {@code Port.method} nested under the request span.
+ *
+ * <p>Each observation is tagged with the port interface ({@code port}), the {@code method}, the
+ * {@code outcome} ({@code success} or {@code error}) and a {@code tenant} bucket. Firms are hashed
+ * into {@code metrics.ports.tenant-buckets} buckets so the series count stays bounded however many
+ * firms there are; calls outside a request (relay, listeners) are tagged {@value #NO_TENANT}.
+ * Setting the bucket count to zero drops the tenant dimension.
+ *
+ * <p>The advice runs outermost, so inbound port timings include transaction commit. Port names
+ * are resolved once per method and cached.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * histogram_quantile(0.99, sum by (le, port, method) (
+ *     rate(aequitas_port_calls_seconds_bucket{port="CustomerRepositoryPort"}[5m])))
+ * }</pre>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsAspect {
+
+    static final String METRIC_NAME = "aequitas.port.calls";
+    static final String NO_TENANT = "none";
+    static final String ALL_TENANTS = "all";
+
+    private static final String PORT_PACKAGE = "com.aequitas.aequitascentralservice.app.port";
+
+    private final ObservationRegistry registry;
+    private final int tenantBuckets;
+    private final Map<Method, PortMethod> portMethods = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry registry turning observations into timers and spans.
+     * @param tenantBuckets number of buckets firms are hashed into; zero disables the tenant tag.
+     * @throws IllegalArgumentException if {@code tenantBuckets} is negative.
+     */
+    public PortMetricsAspect(
+            final ObservationRegistry registry,
+            @Value("${metrics.ports.tenant-buckets:16}") final int tenantBuckets) {
+        if (tenantBuckets < 0) {
+            throw new IllegalArgumentException("Tenant bucket count must not be negative");
+        }
+        this.registry = registry;
+        this.tenantBuckets = tenantBuckets;
+    }
+
+    /**
+     * Observes the intercepted call, including calls that throw.
+     *
+     * @param joinPoint intercepted port or service call.
+     * @return the call's result.
+     * @throws Throwable whatever the call throws, unchanged.
+     */
+    @Around("execution(public * com.aequitas.aequitascentralservice.app.port..*(..))"
+            + " || execution(public * com.aequitas.aequitascentralservice.app.service..*(..))")
+    @SuppressWarnings("try")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final PortMethod portMethod = portMethods.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> resolve(method, joinPoint.getTarget()));
+        final Observation observation = Observation.createNotStarted(METRIC_NAME, registry)
+                .contextualName(portMethod.port() + "." + portMethod.method())
+                .lowCardinalityKeyValue("port", portMethod.port())
+                .lowCardinalityKeyValue("method", portMethod.method())
+                .lowCardinalityKeyValue("tenant", tenantTag())
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            final Object result = joinPoint.proceed();
+            observation.lowCardinalityKeyValue("outcome", "success");
+            return result;
+        } catch (Throwable ex) {
+            observation.lowCardinalityKeyValue("outcome", "error");
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    String tenantTag() {
+        if (tenantBuckets == 0) {
+            return ALL_TENANTS;
+        }
+        final CurrentUser user = TenantContextHolder.getCurrentUser();
+        if (user == null || user.firmId() == null) {
+            return NO_TENANT;
+        }
+        return "b" + Math.floorMod(user.firmId().hashCode(), tenantBuckets);
+    }
+
+    /**
+     * Names the call after the port interface declaring it, falling back to the implementing class
+     * for service methods that are not part of a port.
+     */
+    private static PortMethod resolve(final Method method, final Object target) {
+        final Class<?> targetClass = ClassUtils.getUserClass(target);
+        for (final Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (type.getPackageName().startsWith(PORT_PACKAGE)
+                    && ReflectionUtils.findMethod(type, method.getName(), method.getParameterTypes()) != null) {
+                return new PortMethod(type.getSimpleName(), method.getName());
+            }
+        }
+        return new PortMethod(targetClass.getSimpleName(), method.getName());
+    }
+
+    private record PortMethod(String port, String method) {
+    }
+}
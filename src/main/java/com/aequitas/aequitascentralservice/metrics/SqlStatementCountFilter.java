@@ -0,0 +1,72 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements each request issues and records them per endpoint as the
+ * {@value #METRIC_NAME} distribution, tagged with the HTTP method and URI template.
+ *
+ * <p>Requests above {@code metrics.sql.warn-threshold} statements are logged, which is where N+1
+ * patterns show up first. {@link SqlStatementCountAdvice} also returns the running count in the
+ * {@value SqlStatementCountAdvice#HEADER} response header. Enabled with {@code metrics.sql.enabled}
+ * outside production.
+ */
+@Component
+@ConditionalOnProperty(name = "metrics.sql.enabled", havingValue = "true")
+@Slf4j
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "aequitas.http.sql.statements";
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(
+            final MeterRegistry registry, @Value("${metrics.sql.warn-threshold:20}") final int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final long statements = SqlStatementCounter.stop();
+            final String uri = uriTemplate(request);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements issued per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(statements);
+            if (statements > warnThreshold) {
+                log.warn("{} {} issued {} SQL statements", request.getMethod(), uri, statements);
+            }
+        }
+    }
+
+    private static String uriTemplate(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+/**
+ * Thread-local count of SQL statements issued while a request is being served.
+ *
+ * <p>Counting only happens between {@link #start()} and {@link #stop()}; increments outside that
+ * window, such as from the outbox relay or schedulers, are ignored.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {}
+
+    /**
+     * Starts counting on the current thread from zero.
+     */
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Records statements issued on the current thread.
+     *
+     * @param statements number of statements.
+     */
+    public static void add(final int statements) {
+        final long[] count = COUNT.get();
+        if (count != null) {
+            count[0] += statements;
+        }
+    }
+
+    /**
+     * @return statements counted so far on the current thread; zero when not counting.
+     */
+    public static long current() {
+        final long[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return statements counted since {@link #start()}.
+     */
+    public static long stop() {
+        final long count = current();
+        COUNT.remove();
+        return count;
+    }
+}
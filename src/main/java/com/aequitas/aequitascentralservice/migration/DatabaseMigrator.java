@@ -0,0 +1,108 @@
+package com.aequitas.aequitascentralservice.migration;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration run mode: {@code java -jar app.jar --migrate} applies pending Flyway migrations and
+ * exits, without starting the web server, JPA or any other part of the service.
+ *
+ * <p>Deployments run it once per release, as a job or init container, so that serving replicas
+ * do not each take the Flyway lock while they roll out. Settings come from the usual
+ * configuration files and profiles: {@code spring.flyway.url}, {@code user} and {@code password}
+ * when set, otherwise the {@code spring.datasource} connection, plus {@code spring.flyway.locations},
+ * {@code baseline-on-migrate} and {@code mixed}.
+ */
+@Slf4j
+public final class DatabaseMigrator {
+
+    static final String MIGRATE_ARG = "--migrate";
+    static final String DEFAULT_LOCATION = "classpath:db/migration";
+
+    private DatabaseMigrator() {}
+
+    /**
+     * @param args command line arguments.
+     * @return whether the migration run mode was requested.
+     */
+    public static boolean requested(final String[] args) {
+        return List.of(args).contains(MIGRATE_ARG);
+    }
+
+    /**
+     * Loads the configuration, applies pending migrations and closes.
+     *
+     * @param args command line arguments, passed on as Spring Boot arguments.
+     * @return process exit code; {@code 0} on success.
+     */
+    public static int run(final String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MigrationContext.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args)) {
+            final MigrateResult result = migrate(context.getEnvironment());
+            log.info(
+                    "Applied {} migrations; schema is at version {}",
+                    result.migrationsExecuted,
+                    result.targetSchemaVersion != null ? result.targetSchemaVersion : result.initialSchemaVersion);
+            return 0;
+        } catch (FlywayException ex) {
+            log.error("Database migration failed", ex);
+            return 1;
+        }
+    }
+
+    /**
+     * @param environment configuration source.
+     * @return outcome of the migration.
+     */
+    static MigrateResult migrate(final Environment environment) {
+        return flyway(environment).migrate();
+    }
+
+    static Flyway flyway(final Environment environment) {
+        final Binder binder = Binder.get(environment);
+        return Flyway.configure()
+                .dataSource(
+                        setting(binder, "spring.flyway.url", "spring.datasource.url"),
+                        setting(binder, "spring.flyway.user", "spring.datasource.username"),
+                        setting(binder, "spring.flyway.password", "spring.datasource.password"))
+                .locations(locations(environment).toArray(String[]::new))
+                .baselineOnMigrate(binder.bind("spring.flyway.baseline-on-migrate", Boolean.class).orElse(false))
+                .mixed(binder.bind("spring.flyway.mixed", Boolean.class).orElse(false))
+                .load();
+    }
+
+    /**
+     * @param environment configuration source.
+     * @return configured {@code spring.flyway.locations}, defaulting to {@value #DEFAULT_LOCATION}.
+     */
+    static List<String> locations(final Environment environment) {
+        return Binder.get(environment)
+                .bind("spring.flyway.locations", Bindable.listOf(String.class))
+                .orElse(List.of(DEFAULT_LOCATION));
+    }
+
+    private static String setting(final Binder binder, final String name, final String fallback) {
+        return binder.bind(name, String.class)
+                .orElseGet(() -> binder.bind(fallback, String.class).orElse(null));
+    }
+
+    /**
+     * Empty configuration: the migration context only loads properties and logging.
+     */
+    static final class MigrationContext {}
+}
@@ -0,0 +1,116 @@
+package com.aequitas.aequitascentralservice.migration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serve-mode counterpart of {@link DatabaseMigrator}: instead of running Flyway, checks that the
+ * database has applied every versioned migration this build ships, and fails the startup before
+ * readiness when it does not.
+ *
+ * <p>Each bundled version must appear as a successful row of {@code flyway_schema_history}, or lie
+ * at or below its baseline, so a migration skipped by an out-of-order or partial run is caught
+ * even when a later one was applied. Enabled with {@code migration.verify-on-startup} wherever
+ * {@code spring.flyway.enabled} is off, so a replica never serves against a schema older than its
+ * code.
+ */
+@Component
+@ConditionalOnProperty(name = "migration.verify-on-startup", havingValue = "true")
+@Slf4j
+public class SchemaVersionVerifier implements ApplicationRunner {
+
+    static final String APPLIED_VERSIONS_SQL = "SELECT version FROM flyway_schema_history"
+            + " WHERE success AND version IS NOT NULL AND type <> 'BASELINE'";
+    static final String BASELINE_VERSIONS_SQL = "SELECT version FROM flyway_schema_history"
+            + " WHERE success AND version IS NOT NULL AND type = 'BASELINE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SortedSet<MigrationVersion> expected;
+
+    public SchemaVersionVerifier(final JdbcTemplate jdbcTemplate, final Environment environment) {
+        this(jdbcTemplate, bundledVersions(DatabaseMigrator.locations(environment)));
+    }
+
+    SchemaVersionVerifier(final JdbcTemplate jdbcTemplate, final SortedSet<MigrationVersion> expected) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expected = expected;
+    }
+
+    /**
+     * @throws IllegalStateException if a bundled migration has not been applied to the database.
+     */
+    @Override
+    public void run(final ApplicationArguments args) {
+        final SortedSet<MigrationVersion> applied = versions(APPLIED_VERSIONS_SQL);
+        final SortedSet<MigrationVersion> baseline = versions(BASELINE_VERSIONS_SQL);
+        if (applied.isEmpty() && baseline.isEmpty()) {
+            throw new IllegalStateException(
+                    "Database has no applied migrations; run the service with --migrate first");
+        }
+        final MigrationVersion baselineVersion = baseline.isEmpty() ? MigrationVersion.EMPTY : baseline.last();
+        final SortedSet<MigrationVersion> missing = new TreeSet<>(expected.tailSet(baselineVersion));
+        missing.remove(baselineVersion);
+        missing.removeAll(applied);
+        final MigrationVersion current = applied.isEmpty() ? baselineVersion : applied.last();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is at version " + current
+                    + " but lacks migrations " + missing
+                    + " required by this build; run the service with --migrate first");
+        }
+        log.info("Database schema is at version {} with all {} bundled migrations applied", current, expected.size());
+    }
+
+    private SortedSet<MigrationVersion> versions(final String sql) {
+        final List<String> versions;
+        try {
+            versions = jdbcTemplate.queryForList(sql, String.class);
+        } catch (DataAccessException ex) {
+            throw new IllegalStateException("Unable to read the Flyway schema history", ex);
+        }
+        final SortedSet<MigrationVersion> parsed = new TreeSet<>();
+        versions.forEach(version -> parsed.add(MigrationVersion.fromVersion(version)));
+        return parsed;
+    }
+
+    /**
+     * @param locations Flyway locations to scan.
+     * @return versions of the {@code V<version>__<description>.sql} files found, in order.
+     */
+    static SortedSet<MigrationVersion> bundledVersions(final List<String> locations) {
+        final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        try {
+            final SortedSet<MigrationVersion> versions = new TreeSet<>();
+            for (final String location : locations) {
+                final String pattern = location.replaceFirst("^classpath:", "classpath*:") + "/V*__*.sql";
+                for (final Resource resource : resolver.getResources(pattern)) {
+                    versions.add(versionOf(Objects.requireNonNull(resource.getFilename())));
+                }
+            }
+            return versions;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to list bundled migrations", ex);
+        }
+    }
+
+    static MigrationVersion versionOf(final String filename) {
+        return MigrationVersion.fromVersion(filename.substring(1, filename.indexOf("__")).replace('_', '.'));
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -14,11 +15,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * Captures the authenticated principal and stores it in a thread-local for downstream infrastructure.
+ * The firm and user identifiers are also placed in the MDC so that every log line of the request
+ * carries them.
  */
 @Component
 @Order(Ordered.LOWEST_PRECEDENCE)
 public class TenantContextFilter extends OncePerRequestFilter {
 
+    static final String FIRM_ID_MDC_KEY = "firmId";
+    static final String USER_ID_MDC_KEY = "userId";
+
     private final CurrentUserPort currentUserPort;
 
     public TenantContextFilter(final CurrentUserPort currentUserPort) {
@@ -44,9 +50,13 @@ public class TenantContextFilter extends OncePerRequestFilter {
             return;
         }
         TenantContextHolder.setCurrentUser(currentUser);
+        MDC.put(FIRM_ID_MDC_KEY, currentUser.firmId().toString());
+        MDC.put(USER_ID_MDC_KEY, currentUser.userId().toString());
         try {
             filterChain.doFilter(request, response);
         } finally {
+            MDC.remove(FIRM_ID_MDC_KEY);
+            MDC.remove(USER_ID_MDC_KEY);
             TenantContextHolder.clear();
         }
     }
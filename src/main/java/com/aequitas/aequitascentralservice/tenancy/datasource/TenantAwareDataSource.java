@@ -1,6 +1,7 @@
 package com.aequitas.aequitascentralservice.tenancy.datasource;
 
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.metrics.SqlStatementCounter;
 import com.aequitas.aequitascentralservice.tenancy.TenantContextHolder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -64,6 +65,7 @@ public class TenantAwareDataSource extends AbstractDataSource {
             statement.setString(1, "app.current_role");
             statement.setString(2, user.role().name());
             statement.execute();
+            SqlStatementCounter.add(3);
         }
     }
 
@@ -98,6 +100,7 @@ public class TenantAwareDataSource extends AbstractDataSource {
                 statement.execute("RESET app.current_firm_id");
                 statement.execute("RESET app.current_user_id");
                 statement.execute("RESET app.current_role");
+                SqlStatementCounter.add(3);
             }
         }
     }
@@ -0,0 +1,13 @@
+-- Binary outbox payloads.
+--
+-- Rows now record the format of their payload. Textual JSON stays in payload_json; binary formats
+-- (application/x-jackson-smile) go to payload_bytes. Exactly one of the two is set. Existing rows
+-- are JSON, which the constant default records without rewriting the table, and already satisfy
+-- the check, so it is added NOT VALID to skip the scan.
+
+ALTER TABLE outbox ADD COLUMN content_type TEXT NOT NULL DEFAULT 'application/json';
+ALTER TABLE outbox ADD COLUMN payload_bytes BYTEA;
+ALTER TABLE outbox ALTER COLUMN payload_json DROP NOT NULL;
+
+ALTER TABLE outbox ADD CONSTRAINT chk_outbox_single_payload
+    CHECK ((payload_json IS NULL) <> (payload_bytes IS NULL)) NOT VALID;
@@ -0,0 +1,9 @@
+-- Partial index over the unpublished tail of the outbox.
+--
+-- OutboxRelay reads the oldest unpublished rows and OutboxMetrics counts them and reads the oldest
+-- occurred_at every refresh. Published rows never match again, so indexing only the unpublished
+-- ones keeps the index as small as the backlog and all three queries off the full table.
+
+CREATE INDEX idx_outbox_unpublished
+    ON outbox (occurred_at)
+    WHERE published_at IS NULL;
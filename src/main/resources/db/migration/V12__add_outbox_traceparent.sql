@@ -0,0 +1,7 @@
+-- W3C trace context of the request that appended each outbox row.
+--
+-- OutboxRelay publishes on its own schedule, long after the request span has ended. It starts
+-- its publish span as a child of this context, so a trace runs from the HTTP call through to the
+-- bus. NULL for rows appended outside a sampled trace and for rows written before this column.
+
+ALTER TABLE outbox ADD COLUMN traceparent TEXT;
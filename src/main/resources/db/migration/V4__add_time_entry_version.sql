@@ -0,0 +1,4 @@
+-- Optimistic-locking version for time entries; updates are issued as
+-- UPDATE ... WHERE id = ? AND version = ? and bump the column by one.
+ALTER TABLE time_entries
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,122 @@
+-- Declarative range partitioning of time_entries on created_at, one partition per UTC month.
+-- Queries that bound created_at (TimeEntryFilter createdFrom/createdTo) only touch the
+-- partitions of that window; the default partition catches anything outside the
+-- pre-created range and should stay empty.
+
+-- Unique constraints on a partitioned table must include the partition key, so entry ids
+-- can no longer be referenced on their own.
+ALTER TABLE approvals DROP CONSTRAINT IF EXISTS approvals_entry_id_fkey;
+
+ALTER TABLE time_entries RENAME TO time_entries_unpartitioned;
+ALTER TABLE time_entries_unpartitioned RENAME CONSTRAINT time_entries_pkey TO time_entries_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_time_entries_firm_status;
+DROP INDEX IF EXISTS idx_time_entries_firm_project;
+DROP INDEX IF EXISTS idx_time_entries_firm_owner;
+
+-- The old table keeps its forced tenant policy, under which the migration role sees no rows
+-- unless it bypasses RLS. Turn row security off so the range probe and the copy below read
+-- every tenant's entries; any policy still in force then raises an error instead of filtering.
+SET LOCAL row_security = off;
+ALTER TABLE time_entries_unpartitioned NO FORCE ROW LEVEL SECURITY;
+ALTER TABLE time_entries_unpartitioned DISABLE ROW LEVEL SECURITY;
+
+CREATE TABLE time_entries (
+    id UUID NOT NULL,
+    firm_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    project_id UUID NOT NULL,
+    matter_id UUID NULL,
+    narrative TEXT NOT NULL,
+    duration_minutes INT NOT NULL CHECK (duration_minutes > 0),
+    status TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    approved_at TIMESTAMPTZ NULL,
+    approved_by UUID NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT time_entries_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT time_entries_project_fk FOREIGN KEY (firm_id, project_id)
+        REFERENCES projects (firm_id, id),
+    CONSTRAINT time_entries_customer_fk FOREIGN KEY (firm_id, customer_id)
+        REFERENCES customers (firm_id, id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE time_entries_default PARTITION OF time_entries DEFAULT;
+
+-- Creates the monthly partitions covering start_month .. start_month + months_ahead.
+-- Runs as the migration owner so the application role needs no DDL privileges.
+CREATE OR REPLACE FUNCTION ensure_time_entry_partitions(start_month DATE, months_ahead INT)
+RETURNS INT
+LANGUAGE plpgsql
+SECURITY DEFINER
+SET search_path = public
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', start_month)::date;
+    lower_bound TIMESTAMPTZ;
+    upper_bound TIMESTAMPTZ;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        partition_name := format('time_entries_y%sm%s', to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            lower_bound := month_start::timestamp AT TIME ZONE 'UTC';
+            upper_bound := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF time_entries FOR VALUES FROM (%L) TO (%L)',
+                partition_name, lower_bound, upper_bound);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Cover every month that already holds data plus three months ahead.
+SELECT ensure_time_entry_partitions(
+    oldest.month_start,
+    ((EXTRACT(YEAR FROM age(date_trunc('month', now() AT TIME ZONE 'UTC'), oldest.month_start)) * 12
+        + EXTRACT(MONTH FROM age(date_trunc('month', now() AT TIME ZONE 'UTC'), oldest.month_start)))::int + 3))
+FROM (
+    SELECT date_trunc('month', COALESCE(min(created_at), now()) AT TIME ZONE 'UTC')::date AS month_start
+    FROM time_entries_unpartitioned
+) AS oldest;
+
+INSERT INTO time_entries (
+    id, firm_id, user_id, customer_id, project_id, matter_id, narrative, duration_minutes,
+    status, created_at, updated_at, approved_at, approved_by, version)
+SELECT id, firm_id, user_id, customer_id, project_id, matter_id, narrative, duration_minutes,
+       status, created_at, updated_at, approved_at, approved_by, version
+FROM time_entries_unpartitioned;
+
+-- Refuse to drop the old table unless every row made it across.
+DO $$
+DECLARE
+    source_rows BIGINT;
+    copied_rows BIGINT;
+BEGIN
+    SELECT count(*) INTO source_rows FROM time_entries_unpartitioned;
+    SELECT count(*) INTO copied_rows FROM time_entries;
+    IF copied_rows <> source_rows THEN
+        RAISE EXCEPTION 'time_entries copy incomplete: % of % rows copied', copied_rows, source_rows;
+    END IF;
+END;
+$$;
+
+DROP TABLE time_entries_unpartitioned;
+
+CREATE INDEX idx_time_entries_firm_status ON time_entries (firm_id, status);
+CREATE INDEX idx_time_entries_firm_project ON time_entries (firm_id, project_id);
+CREATE INDEX idx_time_entries_firm_owner ON time_entries (firm_id, user_id);
+
+ALTER TABLE time_entries ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY tenant_entries ON time_entries
+    USING (firm_id::text = current_setting('app.current_firm_id', true));
+
+ALTER TABLE time_entries FORCE ROW LEVEL SECURITY;
+
+COMMENT ON TABLE time_entries IS 'Billable time entries, range-partitioned by created_at (monthly, UTC)';
@@ -0,0 +1,24 @@
+-- Full-text search over time entry narratives.
+-- The GIN index is built on the same expression the helper functions use; both functions are
+-- single-expression IMMUTABLE SQL functions, so the planner inlines them and matches the index.
+
+CREATE OR REPLACE FUNCTION narrative_matches(narrative TEXT, query TEXT)
+RETURNS BOOLEAN
+LANGUAGE sql
+IMMUTABLE
+PARALLEL SAFE
+AS $$
+    SELECT to_tsvector('english'::regconfig, narrative) @@ websearch_to_tsquery('english'::regconfig, query)
+$$;
+
+CREATE OR REPLACE FUNCTION narrative_rank(narrative TEXT, query TEXT)
+RETURNS REAL
+LANGUAGE sql
+IMMUTABLE
+PARALLEL SAFE
+AS $$
+    SELECT ts_rank(to_tsvector('english'::regconfig, narrative), websearch_to_tsquery('english'::regconfig, query))
+$$;
+
+CREATE INDEX idx_time_entries_narrative_fts
+    ON time_entries USING GIN (to_tsvector('english'::regconfig, narrative));
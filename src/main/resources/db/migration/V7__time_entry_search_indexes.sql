@@ -0,0 +1,41 @@
+-- Index strategy for TimeEntryRepositoryAdapter.search, derived from
+-- config/postgres/query-shapes/explain_search_shapes.sql.
+--
+-- search() always filters on firm_id, adds any subset of customer_id, project_id, status and
+-- user_id, orders by id and applies LIMIT. Every index therefore ends in id, so the ORDER BY is
+-- satisfied by the index and LIMIT stops early instead of sorting the whole filtered set. The
+-- remaining filter columns are INCLUDEd, so combined filters are checked inside the index and
+-- the count(*) queries behind totalItems can run as index-only scans.
+
+DROP INDEX IF EXISTS idx_time_entries_firm_status;
+DROP INDEX IF EXISTS idx_time_entries_firm_project;
+DROP INDEX IF EXISTS idx_time_entries_firm_owner;
+
+-- Firm-wide listing with no further filter, and status filters outside the submitted queue.
+CREATE INDEX idx_time_entries_firm_id
+    ON time_entries (firm_id, id)
+    INCLUDE (status, user_id);
+
+CREATE INDEX idx_time_entries_firm_status_id
+    ON time_entries (firm_id, status, id)
+    INCLUDE (user_id, customer_id, project_id);
+
+-- Employees always search their own entries, so ownerId is the most common extra filter.
+CREATE INDEX idx_time_entries_firm_owner_id
+    ON time_entries (firm_id, user_id, id)
+    INCLUDE (status, customer_id, project_id);
+
+CREATE INDEX idx_time_entries_firm_customer_id
+    ON time_entries (firm_id, customer_id, id)
+    INCLUDE (status, user_id, project_id);
+
+CREATE INDEX idx_time_entries_firm_project_id
+    ON time_entries (firm_id, project_id, id)
+    INCLUDE (status, user_id, customer_id);
+
+-- Manager approval queue: SUBMITTED is a small, hot slice of each firm's history. This partial
+-- index stays small and covers the columns the queue view reads.
+CREATE INDEX idx_time_entries_submitted_queue
+    ON time_entries (firm_id, id)
+    INCLUDE (user_id, customer_id, project_id, duration_minutes, created_at, updated_at)
+    WHERE status = 'SUBMITTED';
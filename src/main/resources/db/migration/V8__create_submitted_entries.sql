@@ -0,0 +1,59 @@
+-- Approval queue projection served by GET /api/v1/approvals/queue.
+--
+-- TimeEntryCommandService inserts a row when an entry is submitted, refreshes it when a submitted
+-- entry is edited and deletes it on approval, in the same transaction as the time_entries write.
+-- The table therefore only ever holds the entries waiting for a decision, and reading the queue
+-- no longer touches the partitioned time_entries table at all.
+
+CREATE TABLE submitted_entries (
+    entry_id UUID PRIMARY KEY,
+    firm_id UUID NOT NULL REFERENCES firms(id),
+    user_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    project_id UUID NOT NULL,
+    matter_id UUID,
+    narrative TEXT NOT NULL,
+    duration_minutes INT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_submitted_entries_firm_entry ON submitted_entries (firm_id, entry_id);
+
+-- time_entries has a forced tenant policy, under which the migration role would backfill no rows
+-- unless it bypasses RLS, and with row security off any policy still in force raises an error.
+-- Lift the policy for the backfill, as V5 does for its copy, and restore it once the count matches.
+SET LOCAL row_security = off;
+ALTER TABLE time_entries NO FORCE ROW LEVEL SECURITY;
+ALTER TABLE time_entries DISABLE ROW LEVEL SECURITY;
+
+INSERT INTO submitted_entries (
+    entry_id, firm_id, user_id, customer_id, project_id, matter_id, narrative, duration_minutes,
+    created_at, updated_at)
+SELECT id, firm_id, user_id, customer_id, project_id, matter_id, narrative, duration_minutes,
+       created_at, updated_at
+FROM time_entries
+WHERE status = 'SUBMITTED';
+
+DO $$
+DECLARE
+    submitted_rows BIGINT;
+    backfilled_rows BIGINT;
+BEGIN
+    SELECT count(*) INTO submitted_rows FROM time_entries WHERE status = 'SUBMITTED';
+    SELECT count(*) INTO backfilled_rows FROM submitted_entries;
+    IF backfilled_rows <> submitted_rows THEN
+        RAISE EXCEPTION 'submitted_entries backfill incomplete: % of % rows', backfilled_rows, submitted_rows;
+    END IF;
+END;
+$$;
+
+ALTER TABLE time_entries ENABLE ROW LEVEL SECURITY;
+ALTER TABLE time_entries FORCE ROW LEVEL SECURITY;
+
+ALTER TABLE submitted_entries ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY tenant_submitted_entries ON submitted_entries
+    USING (firm_id::text = current_setting('app.current_firm_id', true));
+
+ALTER TABLE submitted_entries FORCE ROW LEVEL SECURITY;
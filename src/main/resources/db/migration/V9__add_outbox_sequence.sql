@@ -0,0 +1,27 @@
+-- Monotonic sequence over the outbox, read by GET /api/v1/changes.
+--
+-- Consumers remember the last sequence they applied and ask for everything after it. Existing
+-- rows are numbered in occurrence order; new rows draw from the sequence on insert.
+-- OutboxRepositoryAdapter serialises appends per firm with a transaction-scoped advisory lock,
+-- so within a firm rows commit in sequence order and a consumer can never skip a row that
+-- commits after it read a higher sequence.
+
+CREATE SEQUENCE outbox_sequence_seq AS BIGINT;
+
+ALTER TABLE outbox ADD COLUMN sequence BIGINT;
+
+UPDATE outbox o
+SET sequence = ordered.sequence
+FROM (
+    SELECT id, row_number() OVER (ORDER BY occurred_at, id) AS sequence
+    FROM outbox
+) ordered
+WHERE o.id = ordered.id;
+
+SELECT setval('outbox_sequence_seq', COALESCE((SELECT MAX(sequence) FROM outbox), 0) + 1, false);
+
+ALTER TABLE outbox ALTER COLUMN sequence SET DEFAULT nextval('outbox_sequence_seq');
+ALTER TABLE outbox ALTER COLUMN sequence SET NOT NULL;
+ALTER SEQUENCE outbox_sequence_seq OWNED BY outbox.sequence;
+
+CREATE UNIQUE INDEX idx_outbox_firm_sequence ON outbox (firm_id, sequence);
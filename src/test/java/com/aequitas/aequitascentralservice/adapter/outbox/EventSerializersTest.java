@@ -0,0 +1,52 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EventSerializersTest {
+
+    private JsonEventSerializer json;
+    private SmileEventSerializer smile;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        json = new JsonEventSerializer(objectMapper);
+        smile = new SmileEventSerializer(objectMapper);
+    }
+
+    @Test
+    void GIVEN_configuredContentType_WHEN_writer_THEN_returnsMatchingSerializer() {
+        // GIVEN
+        EventSerializers serializers = new EventSerializers(List.of(json, smile), SmileEventSerializer.CONTENT_TYPE);
+
+        // WHEN / THEN
+        assertThat(serializers.writer()).isSameAs(smile);
+        assertThat(serializers.forContentType(JsonEventSerializer.CONTENT_TYPE)).isSameAs(json);
+    }
+
+    @Test
+    void GIVEN_unknownConfiguredContentType_WHEN_constructed_THEN_throwsIllegalArgumentException() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> new EventSerializers(List.of(json), "application/avro"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported outbox content type: application/avro");
+    }
+
+    @Test
+    void GIVEN_unknownStoredContentType_WHEN_forContentType_THEN_throwsIllegalStateException() {
+        // GIVEN
+        EventSerializers serializers = new EventSerializers(List.of(json), JsonEventSerializer.CONTENT_TYPE);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> serializers.forContentType(SmileEventSerializer.CONTENT_TYPE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unsupported outbox content type: " + SmileEventSerializer.CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
+import com.aequitas.aequitascentralservice.domain.event.EntrySubmittedEvent;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+
+class JsonEventSerializerTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    private final JsonEventSerializer serializer = new JsonEventSerializer(new JacksonConfig().objectMapper());
+
+    @Test
+    void GIVEN_registeredEvent_WHEN_serialize_THEN_writesTypedPayloadAsJsonText() {
+        // GIVEN
+        UUID entryId = UUID.randomUUID();
+        EntrySubmittedEvent event = new EntrySubmittedEvent(
+                UUID.randomUUID(), NOW, UUID.randomUUID(),
+                new EntrySubmittedEvent.Payload(entryId, UUID.randomUUID(), EntryStatus.SUBMITTED, NOW));
+
+        // WHEN
+        JsonNode tree = serializer.readTree(serializer.serialize(event));
+
+        // THEN
+        assertThat(tree.get("eventId").asText()).isEqualTo(event.eventId().toString());
+        assertThat(tree.get("occurredAt").asText()).isEqualTo("2025-11-15T10:30:00Z");
+        assertThat(tree.at("/payload/entryId").asText()).isEqualTo(entryId.toString());
+        assertThat(tree.at("/payload/status").asText()).isEqualTo("SUBMITTED");
+        assertThat(tree.at("/payload/updatedAt").asText()).isEqualTo("2025-11-15T10:30:00Z");
+        assertThat(serializer.textual()).isTrue();
+    }
+
+    @Test
+    void GIVEN_unserializableEvent_WHEN_serialize_THEN_throwsIllegalStateException() {
+        // GIVEN
+        DomainEvent event = new DomainEvent() {
+            @Override
+            public UUID eventId() {
+                return UUID.randomUUID();
+            }
+
+            @Override
+            public Instant occurredAt() {
+                return NOW;
+            }
+
+            @Override
+            public String eventType() {
+                return "UNREGISTERED.v1";
+            }
+        };
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> serializer.serialize(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to serialize event payload");
+    }
+
+    @Test
+    void GIVEN_malformedJson_WHEN_readTree_THEN_throwsIllegalStateException() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> serializer.readTree("{not json".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to deserialize event payload");
+    }
+}
@@ -1,5 +1,9 @@
 package com.aequitas.aequitascentralservice.adapter.outbox;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -14,12 +18,67 @@ public class LoggingEventPublisherTest {
 
     @BeforeEach
     void setUp() {
-        publisher = new LoggingEventPublisher();
+        publisher = new LoggingEventPublisher(512);
     }
 
     @Test
     void GIVEN_validInput_WHEN_publish_THEN_logsInfo() {
         // Given/When
-        publisher.publish(EVENT_TYPE, PAYLOAD, PARTITION_KEY, DEDUPLICATION_KEY);
+        publisher.publish(
+                EVENT_TYPE,
+                JsonEventSerializer.CONTENT_TYPE,
+                PAYLOAD.getBytes(StandardCharsets.UTF_8),
+                PARTITION_KEY,
+                DEDUPLICATION_KEY);
+    }
+
+    @Test
+    void GIVEN_binaryPayload_WHEN_publish_THEN_logsInfo() {
+        // Given/When
+        publisher.publish(
+                EVENT_TYPE,
+                SmileEventSerializer.CONTENT_TYPE,
+                new byte[] {0x3a, 0x29, 0x0a, 0x01},
+                PARTITION_KEY,
+                DEDUPLICATION_KEY);
+    }
+
+    @Test
+    void GIVEN_shortJsonPayload_WHEN_describe_THEN_returnsWholePayload() {
+        // When
+        String description = publisher.describe(
+                JsonEventSerializer.CONTENT_TYPE, PAYLOAD.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(description).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void GIVEN_longJsonPayload_WHEN_describe_THEN_truncatesWithSize() {
+        // Given
+        LoggingEventPublisher truncating = new LoggingEventPublisher(7);
+
+        // When
+        String description = truncating.describe(
+                JsonEventSerializer.CONTENT_TYPE, PAYLOAD.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(description).isEqualTo("{\"key\":...<15 bytes>");
+    }
+
+    @Test
+    void GIVEN_binaryPayload_WHEN_describe_THEN_returnsSizeOnly() {
+        // When
+        String description = publisher.describe(SmileEventSerializer.CONTENT_TYPE, new byte[] {0x3a, 0x29});
+
+        // Then
+        assertThat(description).isEqualTo("<2 bytes>");
+    }
+
+    @Test
+    void GIVEN_negativeLimit_WHEN_constructed_THEN_throws() {
+        // When/Then
+        assertThatThrownBy(() -> new LoggingEventPublisher(-1))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -0,0 +1,72 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxHealthIndicatorTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    @Mock
+    private OutboxMetrics metrics;
+
+    private OutboxHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new OutboxHealthIndicator(metrics, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void GIVEN_lagWithinSlo_WHEN_health_THEN_up() {
+        // GIVEN
+        when(metrics.backlog()).thenReturn(Optional.of(new OutboxBacklog(3L, NOW.minusSeconds(20), NOW)));
+
+        // WHEN
+        Health health = indicator.health();
+
+        // THEN
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("backlog", 3L)
+                .containsEntry("oldestLag", "PT20S")
+                .containsEntry("lagSlo", "PT1M");
+    }
+
+    @Test
+    void GIVEN_lagAboveSlo_WHEN_health_THEN_degraded() {
+        // GIVEN
+        when(metrics.backlog()).thenReturn(Optional.of(new OutboxBacklog(900L, NOW.minusSeconds(600), NOW)));
+
+        // WHEN
+        Health health = indicator.health();
+
+        // THEN
+        assertThat(health.getStatus()).isEqualTo(OutboxHealthIndicator.DEGRADED);
+        assertThat(health.getDetails()).containsEntry("oldestLag", "PT10M");
+    }
+
+    @Test
+    void GIVEN_notMeasuredYet_WHEN_health_THEN_unknown() {
+        // GIVEN
+        when(metrics.backlog()).thenReturn(Optional.empty());
+
+        // WHEN
+        Health health = indicator.health();
+
+        // THEN
+        assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+}
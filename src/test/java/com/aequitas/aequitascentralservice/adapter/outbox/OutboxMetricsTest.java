@@ -0,0 +1,112 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxMetricsTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    @Mock
+    private OutboxJpaRepository repository;
+    @Mock
+    private ClockPort clockPort;
+
+    private SimpleMeterRegistry registry;
+    private OutboxMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new OutboxMetrics(repository, clockPort, registry);
+    }
+
+    @Test
+    void GIVEN_noRefreshYet_WHEN_scraped_THEN_gaugesAreNaN() {
+        // WHEN / THEN
+        assertThat(metrics.backlog()).isEmpty();
+        assertThat(registry.get("aequitas.outbox.backlog").gauge().value()).isNaN();
+        assertThat(registry.get("aequitas.outbox.oldest.age").gauge().value()).isNaN();
+    }
+
+    @Test
+    void GIVEN_unpublishedRows_WHEN_refresh_THEN_gaugesReportBacklogAndOldestAge() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW);
+        when(repository.countByPublishedAtIsNullAndOccurredAtBefore(NOW)).thenReturn(42L);
+        when(repository.findOldestUnpublishedOccurredAt()).thenReturn(Optional.of(NOW.minusSeconds(90)));
+
+        // WHEN
+        metrics.refresh();
+
+        // THEN
+        assertThat(metrics.backlog()).contains(new OutboxBacklog(42L, NOW.minusSeconds(90), NOW));
+        assertThat(registry.get("aequitas.outbox.backlog").gauge().value()).isEqualTo(42.0);
+        assertThat(registry.get("aequitas.outbox.oldest.age").gauge().value()).isEqualTo(90.0);
+    }
+
+    @Test
+    void GIVEN_emptyBacklog_WHEN_refresh_THEN_skipsOldestQuery() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW);
+        when(repository.countByPublishedAtIsNullAndOccurredAtBefore(NOW)).thenReturn(0L);
+
+        // WHEN
+        metrics.refresh();
+
+        // THEN
+        verify(repository).countByPublishedAtIsNullAndOccurredAtBefore(NOW);
+        verifyNoMoreInteractions(repository);
+        assertThat(metrics.backlog()).map(OutboxBacklog::lag).contains(Duration.ZERO);
+    }
+
+    @Test
+    void GIVEN_failingQuery_WHEN_refresh_THEN_keepsPreviousSnapshot() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW, NOW.plusSeconds(15));
+        when(repository.countByPublishedAtIsNullAndOccurredAtBefore(NOW)).thenReturn(0L);
+        when(repository.countByPublishedAtIsNullAndOccurredAtBefore(NOW.plusSeconds(15)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        metrics.refresh();
+
+        // WHEN
+        metrics.refresh();
+
+        // THEN
+        assertThat(metrics.backlog()).map(OutboxBacklog::measuredAt).contains(NOW);
+    }
+
+    @Test
+    void GIVEN_publishedEvents_WHEN_recorded_THEN_timersAndBatchSizeUpdated() {
+        // WHEN
+        metrics.recordBatch(2);
+        metrics.recordPublished(NOW.minusSeconds(5), NOW, 1_000_000L);
+        metrics.recordPublished(null, NOW, 2_000_000L);
+
+        // THEN
+        assertThat(registry.get("aequitas.outbox.batch.size").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(registry.get("aequitas.outbox.publish").timer().count()).isEqualTo(2);
+        assertThat(registry.get("aequitas.outbox.delivery.lag").timer().count()).isEqualTo(1);
+        assertThat(registry.get("aequitas.outbox.delivery.lag").timer().max(TimeUnit.SECONDS))
+                .isEqualTo(5.0);
+    }
+}
@@ -1,5 +1,7 @@
 package com.aequitas.aequitascentralservice.adapter.outbox;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -9,11 +11,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import org.junit.jupiter.params.ParameterizedTest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,6 +33,9 @@ import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEnti
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
 @ExtendWith(MockitoExtension.class)
 public class OutboxRelayTest {
 
@@ -40,6 +50,10 @@ public class OutboxRelayTest {
     private EventPublisher eventPublisher;
     @Mock
     private ClockPort clockPort;
+    @Mock
+    private OutboxMetrics metrics;
+    @Spy
+    private OutboxTraceContext traceContext = new OutboxTraceContext(Tracer.NOOP, Propagator.NOOP);
 
     @InjectMocks
     private OutboxRelay outboxRelay;
@@ -56,11 +70,11 @@ public class OutboxRelayTest {
 
         // Then
         verify(outboxJpaRepository, times(1)).findTop100ByPublishedAtIsNullOrderByOccurredAtAsc();
-        verify(eventPublisher, never()).publish(anyString(), anyString(), anyString(), anyString());
+        verify(eventPublisher, never()).publish(anyString(), anyString(), any(byte[].class), anyString(), anyString());
         verify(clockPort, never()).now();
 
         verifyNoMoreInteractions(outboxJpaRepository);
-        verifyNoInteractions(eventPublisher, clockPort);
+        verifyNoInteractions(eventPublisher, clockPort, metrics, traceContext);
     }
 
     @ParameterizedTest
@@ -75,12 +89,92 @@ public class OutboxRelayTest {
         // Then
         verify(outboxJpaRepository, times(1)).findTop100ByPublishedAtIsNullOrderByOccurredAtAsc();
         verify(eventPublisher, times(batchSize))
-                .publish(anyString(), anyString(), anyString(), anyString());
+                .publish(anyString(), anyString(), any(byte[].class), anyString(), anyString());
         verify(clockPort, times(batchSize)).now();
+        verify(metrics).recordBatch(batchSize);
+        verify(metrics, times(batchSize)).recordPublished(any(), any(), anyLong());
         assertNotNull(batch);
         verify(outboxJpaRepository, times(1)).saveAll(batch);
     }
 
+    @Test
+    void GIVEN_binaryRow_WHEN_relayIsCalled_THEN_publishesStoredBytesWithContentType() {
+        // Given
+        final byte[] payload = {0x3a, 0x29, 0x0a, 0x01};
+        final OutboxEntity entity = OutboxEntity.builder()
+                .eventType(EVENT_TYPE)
+                .contentType(SmileEventSerializer.CONTENT_TYPE)
+                .payloadBytes(payload)
+                .firmId(UUID.fromString(FIRM_ID))
+                .eventKey(EVENT_KEY)
+                .build();
+        when(outboxJpaRepository.findTop100ByPublishedAtIsNullOrderByOccurredAtAsc())
+                .thenReturn(List.of(entity));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(eventPublisher).publish(EVENT_TYPE, SmileEventSerializer.CONTENT_TYPE, payload, FIRM_ID, EVENT_KEY);
+    }
+
+    @Test
+    void GIVEN_row_WHEN_relayIsCalled_THEN_recordsDeliveryLagFromOccurrenceToPublication() {
+        // Given
+        final Instant occurredAt = Instant.parse("2025-11-15T10:30:00Z");
+        final Instant publishedAt = occurredAt.plusSeconds(3);
+        final OutboxEntity entity = createOutboxEntities(1).getFirst();
+        entity.setOccurredAt(occurredAt);
+        when(outboxJpaRepository.findTop100ByPublishedAtIsNullOrderByOccurredAtAsc())
+                .thenReturn(List.of(entity));
+        when(clockPort.now()).thenReturn(publishedAt);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(publishedAt, entity.getPublishedAt());
+        verify(metrics).recordBatch(1);
+        verify(metrics).recordPublished(eq(occurredAt), eq(publishedAt), anyLong());
+    }
+
+    @Test
+    void GIVEN_rowWithTraceParent_WHEN_relayIsCalled_THEN_publishesInsideContinuedSpan() {
+        // Given
+        final String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        final OutboxEntity entity = createOutboxEntities(1).getFirst();
+        entity.setTraceParent(traceParent);
+        when(outboxJpaRepository.findTop100ByPublishedAtIsNullOrderByOccurredAtAsc())
+                .thenReturn(List.of(entity));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(traceContext).startPublishSpan(traceParent, EVENT_TYPE);
+        verify(traceContext).withSpan(any());
+        verify(eventPublisher).publish(anyString(), anyString(), any(byte[].class), anyString(), anyString());
+    }
+
+    @Test
+    void GIVEN_jsonRow_WHEN_relayIsCalled_THEN_publishesUtf8Json() {
+        // Given
+        final OutboxEntity entity = createOutboxEntities(1).getFirst();
+        when(outboxJpaRepository.findTop100ByPublishedAtIsNullOrderByOccurredAtAsc())
+                .thenReturn(List.of(entity));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(eventPublisher).publish(
+                EVENT_TYPE,
+                JsonEventSerializer.CONTENT_TYPE,
+                PAYLOAD.getBytes(StandardCharsets.UTF_8),
+                FIRM_ID,
+                EVENT_KEY + "-0");
+    }
+
     static Stream<Arguments> provideBatchSizes() {
         return Stream.of(
                 Arguments.of(1),
@@ -96,6 +190,7 @@ public class OutboxRelayTest {
             final OutboxEntity entity = OutboxEntity.builder()
                     .eventType(EVENT_TYPE)
                     .payloadJson(PAYLOAD)
+                    .contentType(JsonEventSerializer.CONTENT_TYPE)
                     .firmId(UUID.fromString(FIRM_ID))
                     .eventKey(EVENT_KEY + "-" + i)
                     .build();
@@ -0,0 +1,79 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+class OutboxTraceContextTest {
+
+    private OtelTracer tracer;
+    private OutboxTraceContext traceContext;
+
+    @BeforeEach
+    void setUp() {
+        io.opentelemetry.api.trace.Tracer otelTracer =
+                SdkTracerProvider.builder().build().get("outbox-test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> { });
+        traceContext = new OutboxTraceContext(
+                tracer,
+                new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer));
+    }
+
+    @Test
+    void GIVEN_noCurrentSpan_WHEN_capture_THEN_returnsNull() {
+        // WHEN / THEN
+        assertThat(traceContext.capture()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void GIVEN_currentSpan_WHEN_capture_THEN_returnsW3cTraceParent() {
+        // GIVEN
+        Span request = tracer.nextSpan().name("POST /api/v1/entries").start();
+
+        // WHEN
+        String traceParent;
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            traceParent = traceContext.capture();
+        } finally {
+            request.end();
+        }
+
+        // THEN
+        assertThat(traceParent).isEqualTo(
+                "00-" + request.context().traceId() + "-" + request.context().spanId() + "-01");
+    }
+
+    @Test
+    void GIVEN_storedTraceParent_WHEN_startPublishSpan_THEN_continuesOriginalTrace() {
+        // GIVEN
+        String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // WHEN
+        Span publish = traceContext.startPublishSpan(traceParent, "ENTRY_APPROVED.v1");
+        publish.end();
+
+        // THEN
+        assertThat(publish.context().traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(publish.context().parentId()).isEqualTo("00f067aa0ba902b7");
+    }
+
+    @Test
+    void GIVEN_noTraceParent_WHEN_startPublishSpan_THEN_startsNewTrace() {
+        // WHEN
+        Span publish = traceContext.startPublishSpan(null, "ENTRY_APPROVED.v1");
+        publish.end();
+
+        // THEN
+        assertThat(publish.context().traceId()).isNotBlank().isNotEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+}
@@ -0,0 +1,75 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.domain.event.EntryApprovedEvent;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class SmileEventSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private SmileEventSerializer serializer;
+    private EntryApprovedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        serializer = new SmileEventSerializer(objectMapper);
+        Instant approvedAt = Instant.parse("2025-11-15T10:30:00Z");
+        UUID firmId = UUID.randomUUID();
+        event = new EntryApprovedEvent(
+                UUID.randomUUID(),
+                approvedAt,
+                firmId,
+                new EntryApprovedEvent.Payload(
+                        UUID.randomUUID(), firmId, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null,
+                        "Drafted motion", 90, EntryStatus.APPROVED, approvedAt));
+    }
+
+    @Test
+    void GIVEN_event_WHEN_serializeAndReadTree_THEN_roundTripsToTheJsonTree() throws Exception {
+        // GIVEN
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(event));
+
+        // WHEN
+        JsonNode actual = serializer.readTree(serializer.serialize(event));
+
+        // THEN
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get("occurredAt").asText()).isEqualTo("2025-11-15T10:30:00Z");
+    }
+
+    @Test
+    void GIVEN_event_WHEN_serialize_THEN_isSmallerThanJson() throws Exception {
+        // WHEN
+        byte[] smile = serializer.serialize(event);
+
+        // THEN
+        assertThat(smile).hasSizeLessThan(objectMapper.writeValueAsBytes(event).length);
+        assertThat(serializer.contentType()).isEqualTo(SmileEventSerializer.CONTENT_TYPE);
+        assertThat(serializer.textual()).isFalse();
+    }
+
+    @Test
+    void GIVEN_payloadWithoutSmileHeader_WHEN_readTree_THEN_throwsIllegalStateException() {
+        // GIVEN
+        byte[] payload = "{\"status\":\"APPROVED\"}".getBytes(StandardCharsets.UTF_8);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> serializer.readTree(payload))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to deserialize event payload");
+    }
+}
@@ -0,0 +1,92 @@
+package com.aequitas.aequitascentralservice.adapter.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+
+/**
+ * Unit tests for {@link TimeOrderedIdGeneratorAdapter} covering layout and monotonicity.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimeOrderedIdGeneratorAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00.123Z");
+
+    @Mock
+    private ClockPort clockPort;
+
+    private TimeOrderedIdGeneratorAdapter generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new TimeOrderedIdGeneratorAdapter(clockPort);
+    }
+
+    @Test
+    void GIVEN_clock_WHEN_nextId_THEN_returnsVersion7WithEmbeddedTimestamp() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW);
+
+        // WHEN
+        final UUID id = generator.nextId();
+
+        // THEN
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void GIVEN_sameMillisecond_WHEN_nextIdRepeatedly_THEN_idsStrictlyIncrease() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW);
+        UUID previous = generator.nextId();
+
+        // WHEN / THEN
+        for (int i = 0; i < 10_000; i++) {
+            final UUID next = generator.nextId();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            assertThat(next.version()).isEqualTo(7);
+            previous = next;
+        }
+    }
+
+    @Test
+    void GIVEN_clockMovesBackwards_WHEN_nextId_THEN_idsStillIncrease() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW, NOW.minusSeconds(5));
+
+        // WHEN
+        final UUID first = generator.nextId();
+        final UUID second = generator.nextId();
+
+        // THEN
+        assertThat(Long.compareUnsigned(second.getMostSignificantBits(), first.getMostSignificantBits()))
+                .isPositive();
+        assertThat(second.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void GIVEN_laterMillisecond_WHEN_nextId_THEN_sortsAfterEarlierIds() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW, NOW.plusMillis(1));
+
+        // WHEN
+        final UUID earlier = generator.nextId();
+        final UUID later = generator.nextId();
+
+        // THEN
+        assertThat(later.toString()).isGreaterThan(earlier.toString());
+    }
+}
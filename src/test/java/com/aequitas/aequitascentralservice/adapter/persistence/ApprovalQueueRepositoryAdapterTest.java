@@ -0,0 +1,155 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.SubmittedEntryEntity;
+import com.aequitas.aequitascentralservice.adapter.persistence.mapper.SubmittedEntryMapper;
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.SubmittedEntryJpaRepository;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+
+/**
+ * Unit tests for {@link ApprovalQueueRepositoryAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApprovalQueueRepositoryAdapterTest {
+
+    private static final UUID FIRM_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    @Mock
+    private SubmittedEntryJpaRepository repository;
+
+    @InjectMocks
+    private ApprovalQueueRepositoryAdapter adapter;
+
+    @Test
+    void GIVEN_submittedEntry_WHEN_enqueue_THEN_insertsQueueRow() {
+        // GIVEN
+        final TimeEntry entry = submittedEntry();
+
+        // WHEN
+        adapter.enqueue(entry);
+
+        // THEN
+        final ArgumentCaptor<SubmittedEntryEntity> captor = ArgumentCaptor.forClass(SubmittedEntryEntity.class);
+        verify(repository).insert(captor.capture());
+        assertThat(captor.getValue().getEntryId()).isEqualTo(entry.getId());
+        assertThat(captor.getValue().getFirmId()).isEqualTo(FIRM_ID);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_editedEntry_WHEN_refresh_THEN_rewritesQueueRow() {
+        // GIVEN
+        final TimeEntry entry = submittedEntry();
+
+        // WHEN
+        adapter.refresh(entry);
+
+        // THEN
+        final ArgumentCaptor<SubmittedEntryEntity> captor = ArgumentCaptor.forClass(SubmittedEntryEntity.class);
+        verify(repository).refresh(captor.capture());
+        assertThat(captor.getValue().getEntryId()).isEqualTo(entry.getId());
+        assertThat(captor.getValue().getNarrative()).isEqualTo(entry.getNarrative());
+    }
+
+    @Test
+    void GIVEN_entry_WHEN_dequeue_THEN_deletesScopedToFirm() {
+        // GIVEN
+        final UUID entryId = UUID.randomUUID();
+
+        // WHEN
+        adapter.dequeue(FIRM_ID, entryId);
+
+        // THEN
+        verify(repository).deleteQueued(FIRM_ID, entryId);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_shortFirstPage_WHEN_list_THEN_returnsQueueWithoutCounting() {
+        // GIVEN
+        final SubmittedEntryEntity row = SubmittedEntryMapper.toEntity(submittedEntry());
+        when(repository.findByFirmIdOrderByEntryIdAsc(FIRM_ID, Limit.of(10))).thenReturn(List.of(row));
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.list(FIRM_ID, new PageRequest(10, null));
+
+        // THEN
+        assertThat(result.items()).extracting(TimeEntryView::id).containsExactly(row.getEntryId());
+        assertThat(result.totalItems()).isEqualTo(1);
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_fullPage_WHEN_list_THEN_cursorIsLastIdAndTotalIsQueueSize() {
+        // GIVEN
+        final SubmittedEntryEntity first = SubmittedEntryMapper.toEntity(submittedEntry());
+        final SubmittedEntryEntity second = SubmittedEntryMapper.toEntity(submittedEntry());
+        when(repository.findByFirmIdOrderByEntryIdAsc(FIRM_ID, Limit.of(2))).thenReturn(List.of(first, second));
+        when(repository.countByFirmId(FIRM_ID)).thenReturn(5L);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.list(FIRM_ID, new PageRequest(2, null));
+
+        // THEN
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isEqualTo(second.getEntryId().toString());
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.totalItems()).isEqualTo(5L);
+    }
+
+    @Test
+    void GIVEN_cursor_WHEN_list_THEN_resumesAfterCursorAndCountsQueue() {
+        // GIVEN
+        final UUID cursor = UUID.randomUUID();
+        when(repository.findByFirmIdAndEntryIdGreaterThanOrderByEntryIdAsc(FIRM_ID, cursor, Limit.of(10)))
+                .thenReturn(List.of());
+        when(repository.countByFirmId(FIRM_ID)).thenReturn(3L);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.list(FIRM_ID, new PageRequest(10, cursor.toString()));
+
+        // THEN
+        assertThat(result.items()).isEmpty();
+        assertThat(result.totalItems()).isEqualTo(3L);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    void GIVEN_malformedCursor_WHEN_list_THEN_throwsIllegalArgumentException() {
+        // WHEN & THEN
+        assertThatThrownBy(() -> adapter.list(FIRM_ID, new PageRequest(10, "not-a-uuid")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repository);
+    }
+
+    private TimeEntry submittedEntry() {
+        return TimeEntry.draft(
+                UUID.randomUUID(), FIRM_ID, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                null, "Drafted motion", 90, NOW)
+                .submit(NOW);
+    }
+}
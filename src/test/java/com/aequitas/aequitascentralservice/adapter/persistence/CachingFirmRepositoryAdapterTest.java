@@ -0,0 +1,218 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+import com.aequitas.aequitascentralservice.domain.model.Firm;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+
+/**
+ * Unit tests for {@link CachingFirmRepositoryAdapter} covering read-through, expiry, and eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingFirmRepositoryAdapterTest {
+
+    private static final UUID FIRM_ID = UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479");
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private FirmRepositoryAdapter delegate;
+
+    @Mock
+    private ClockPort clockPort;
+
+    private CachingFirmRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingFirmRepositoryAdapter(delegate, clockPort, TTL, 10);
+    }
+
+    @Test
+    void GIVEN_cachedFirm_WHEN_findByIdWithinTtl_THEN_delegateQueriedOnce() {
+        // GIVEN
+        final Firm firm = createFirm();
+        when(clockPort.now()).thenReturn(NOW, NOW.plusSeconds(60));
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(firm));
+
+        // WHEN
+        final Optional<Firm> first = adapter.findById(FIRM_ID);
+        final Optional<Firm> second = adapter.findById(FIRM_ID);
+
+        // THEN
+        assertThat(first).contains(firm);
+        assertThat(second).contains(firm);
+        verify(delegate, times(1)).findById(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_expiredEntry_WHEN_findById_THEN_reloadsFromDelegate() {
+        // GIVEN
+        final Firm firm = createFirm();
+        when(clockPort.now()).thenReturn(NOW, NOW.plus(TTL));
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(firm));
+
+        // WHEN
+        adapter.findById(FIRM_ID);
+        adapter.findById(FIRM_ID);
+
+        // THEN
+        verify(delegate, times(2)).findById(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_missingFirm_WHEN_findById_THEN_absentResultNotCached() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(NOW);
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.empty());
+
+        // WHEN
+        final Optional<Firm> first = adapter.findById(FIRM_ID);
+        adapter.findById(FIRM_ID);
+
+        // THEN
+        assertThat(first).isEmpty();
+        verify(delegate, times(2)).findById(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_cachedFirm_WHEN_save_THEN_nextLookupHitsDelegate() {
+        // GIVEN
+        final Firm firm = createFirm();
+        final Firm updated = firm.update("Renamed LLP", null, NOW.plusSeconds(10));
+        when(clockPort.now()).thenReturn(NOW);
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(firm)).thenReturn(Optional.of(updated));
+        when(delegate.save(updated)).thenReturn(updated);
+        adapter.findById(FIRM_ID);
+
+        // WHEN
+        final Firm saved = adapter.save(updated);
+        final Optional<Firm> reloaded = adapter.findById(FIRM_ID);
+
+        // THEN
+        assertThat(saved).isEqualTo(updated);
+        assertThat(reloaded).contains(updated);
+        verify(delegate, times(2)).findById(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_cachedFirm_WHEN_findByIdForUpdate_THEN_readsDelegate() {
+        // GIVEN
+        final Firm firm = createFirm();
+        final Firm renamedElsewhere = firm.update("Renamed LLP", null, NOW.plusSeconds(10));
+        when(clockPort.now()).thenReturn(NOW);
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(firm));
+        when(delegate.findByIdForUpdate(FIRM_ID)).thenReturn(Optional.of(renamedElsewhere));
+        adapter.findById(FIRM_ID);
+
+        // WHEN
+        final Optional<Firm> locked = adapter.findByIdForUpdate(FIRM_ID);
+
+        // THEN
+        assertThat(locked).contains(renamedElsewhere);
+        verify(delegate).findByIdForUpdate(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_fullCache_WHEN_findByIdForNewFirm_THEN_evictsOnlyOldestEntry() {
+        // GIVEN
+        adapter = new CachingFirmRepositoryAdapter(delegate, clockPort, TTL, 2);
+        final UUID secondId = UUID.randomUUID();
+        final UUID thirdId = UUID.randomUUID();
+        when(clockPort.now()).thenReturn(NOW, NOW.plusSeconds(1), NOW.plusSeconds(2), NOW.plusSeconds(3),
+                NOW.plusSeconds(4));
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(createFirm()));
+        when(delegate.findById(secondId)).thenReturn(Optional.of(createFirm(secondId)));
+        when(delegate.findById(thirdId)).thenReturn(Optional.of(createFirm(thirdId)));
+        adapter.findById(FIRM_ID);
+        adapter.findById(secondId);
+
+        // WHEN
+        adapter.findById(thirdId);
+        adapter.findById(secondId);
+        adapter.findById(FIRM_ID);
+
+        // THEN
+        verify(delegate, times(1)).findById(secondId);
+        verify(delegate, times(2)).findById(FIRM_ID);
+    }
+
+    @Test
+    void GIVEN_fullCacheWithExpiredEntry_WHEN_findByIdForNewFirm_THEN_evictsExpiredEntry() {
+        // GIVEN
+        adapter = new CachingFirmRepositoryAdapter(delegate, clockPort, TTL, 2);
+        final UUID secondId = UUID.randomUUID();
+        final UUID thirdId = UUID.randomUUID();
+        final Instant later = NOW.plus(TTL).plusSeconds(1);
+        when(clockPort.now()).thenReturn(NOW, later, later, later);
+        when(delegate.findById(FIRM_ID)).thenReturn(Optional.of(createFirm()));
+        when(delegate.findById(secondId)).thenReturn(Optional.of(createFirm(secondId)));
+        when(delegate.findById(thirdId)).thenReturn(Optional.of(createFirm(thirdId)));
+        adapter.findById(FIRM_ID);
+        adapter.findById(secondId);
+
+        // WHEN
+        adapter.findById(thirdId);
+        adapter.findById(secondId);
+
+        // THEN
+        verify(delegate, times(1)).findById(secondId);
+    }
+
+    @Test
+    void GIVEN_newFirm_WHEN_insert_THEN_delegates() {
+        // GIVEN
+        final Firm firm = createFirm();
+        when(delegate.insert(firm)).thenReturn(firm);
+
+        // WHEN
+        final Firm inserted = adapter.insert(firm);
+
+        // THEN
+        assertThat(inserted).isSameAs(firm);
+    }
+
+    @Test
+    void GIVEN_pageRequest_WHEN_list_THEN_delegatesWithoutCaching() {
+        // GIVEN
+        final PageRequest pageRequest = new PageRequest(20, null);
+        final PageResult<Firm> page = new PageResult<>(List.of(createFirm()), null, 1, false);
+        when(delegate.list(pageRequest)).thenReturn(page);
+
+        // WHEN
+        final PageResult<Firm> result = adapter.list(pageRequest);
+
+        // THEN
+        assertThat(result).isSameAs(page);
+    }
+
+    private Firm createFirm() {
+        return createFirm(FIRM_ID);
+    }
+
+    private Firm createFirm(final UUID id) {
+        return Firm.builder()
+                .id(id)
+                .name("Smith & Associates")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+}
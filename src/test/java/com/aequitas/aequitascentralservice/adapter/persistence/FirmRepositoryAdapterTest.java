@@ -103,6 +103,30 @@ class FirmRepositoryAdapterTest {
         }
     }
 
+    // ==================== insert() Tests ====================
+
+    @Test
+    void GIVEN_newFirm_WHEN_insert_THEN_persistsWithoutSave() {
+        try (final MockedStatic<FirmMapper> mapperMock = mockStatic(FirmMapper.class)) {
+            // GIVEN
+            final UUID id = UUID.randomUUID();
+            final Firm domainFirm = createFirm(id);
+            final FirmEntity entity = createFirmEntity(id);
+
+            mapperMock.when(() -> FirmMapper.toEntity(domainFirm)).thenReturn(entity);
+            mapperMock.when(() -> FirmMapper.toDomain(entity)).thenReturn(domainFirm);
+            when(repository.insert(entity)).thenReturn(entity);
+
+            // WHEN
+            final Firm result = adapter.insert(domainFirm);
+
+            // THEN
+            assertThat(result).isSameAs(domainFirm);
+            verify(repository).insert(entity);
+            verifyNoMoreInteractions(repository);
+        }
+    }
+
     // ==================== findById() Tests ====================
     @Test
     void GIVEN_existingFirm_WHEN_findById_THEN_returnsFirm() {
@@ -144,6 +168,28 @@ class FirmRepositoryAdapterTest {
         verifyNoMoreInteractions(repository);
     }
 
+    @Test
+    void GIVEN_existingFirm_WHEN_findByIdForUpdate_THEN_returnsLockedFirm() {
+        try (final MockedStatic<FirmMapper> mapperMock = mockStatic(FirmMapper.class)) {
+            // GIVEN
+            final UUID id = UUID.randomUUID();
+            final FirmEntity entity = createFirmEntity(id);
+            final Firm domainFirm = createFirm(id);
+
+            when(repository.findForUpdateById(id)).thenReturn(Optional.of(entity));
+            mapperMock.when(() -> FirmMapper.toDomain(entity)).thenReturn(domainFirm);
+
+            // WHEN
+            final Optional<Firm> result = adapter.findByIdForUpdate(id);
+
+            // THEN
+            assertThat(result).contains(domainFirm);
+
+            verify(repository).findForUpdateById(id);
+            verifyNoMoreInteractions(repository);
+        }
+    }
+
     // ==================== list() Tests ====================
     @Test
     void GIVEN_emptyDatabase_WHEN_list_THEN_returnsEmptyPage() {
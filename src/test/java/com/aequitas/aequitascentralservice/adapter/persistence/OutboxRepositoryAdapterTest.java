@@ -1,6 +1,8 @@
 package com.aequitas.aequitascentralservice.adapter.persistence;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,11 +19,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.aequitas.aequitascentralservice.adapter.outbox.EventSerializer;
+import com.aequitas.aequitascentralservice.adapter.outbox.EventSerializers;
+import com.aequitas.aequitascentralservice.adapter.outbox.JsonEventSerializer;
+import com.aequitas.aequitascentralservice.adapter.outbox.OutboxTraceContext;
+import com.aequitas.aequitascentralservice.adapter.outbox.SmileEventSerializer;
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.OutboxEntity;
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.OutboxJpaRepository;
 import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.aequitas.aequitascentralservice.domain.event.EntryApprovedEvent;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +42,10 @@ class OutboxRepositoryAdapterTest {
     private OutboxJpaRepository repository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private EventSerializer serializer;
+
+    @Mock
+    private OutboxTraceContext traceContext;
 
     @Captor
     private ArgumentCaptor<OutboxEntity> entityCaptor;
@@ -46,7 +60,11 @@ class OutboxRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new OutboxRepositoryAdapter(repository, objectMapper);
+        when(serializer.contentType()).thenReturn(JsonEventSerializer.CONTENT_TYPE);
+        adapter = new OutboxRepositoryAdapter(
+                repository,
+                new EventSerializers(List.of(serializer), JsonEventSerializer.CONTENT_TYPE),
+                traceContext);
         testFirmId = UUID.randomUUID();
         testAggregateId = UUID.randomUUID();
         testEventId = UUID.randomUUID();
@@ -55,20 +73,22 @@ class OutboxRepositoryAdapterTest {
     }
 
     @Test
-    void GIVEN_validDomainEvent_WHEN_append_THEN_savesEntityWithCorrectFields() throws JsonProcessingException {
+    void GIVEN_validDomainEvent_WHEN_append_THEN_savesEntityWithCorrectFields() {
         // GIVEN
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
         String expectedJson = "{\"eventId\":\"" + testEventId + "\",\"eventType\":\"" + testEventType + "\"}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+        when(serializer.serialize(event)).thenReturn(expectedJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, testAggregateId, event);
 
         // THEN
-        verify(objectMapper).writeValueAsString(event);
-        verify(repository).save(entityCaptor.capture());
-        verifyNoMoreInteractions(objectMapper, repository);
+        verify(serializer).serialize(event);
+        verify(repository).lockFirmFeed(testFirmId);
+        verify(repository).insert(entityCaptor.capture());
+        verifyNoMoreInteractions(repository);
 
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity).isNotNull();
@@ -80,40 +100,57 @@ class OutboxRepositoryAdapterTest {
         assertThat(capturedEntity.getPayloadJson()).isEqualTo(expectedJson);
         assertThat(capturedEntity.getOccurredAt()).isEqualTo(testOccurredAt);
         assertThat(capturedEntity.getPublishedAt()).isNull();
+        assertThat(capturedEntity.getContentType()).isEqualTo(JsonEventSerializer.CONTENT_TYPE);
+        assertThat(capturedEntity.getPayloadBytes()).isNull();
     }
 
     @Test
-    void GIVEN_jsonSerializationFailure_WHEN_append_THEN_throwsIllegalStateException() throws JsonProcessingException {
+    void GIVEN_activeTrace_WHEN_append_THEN_storesTraceParent() {
         // GIVEN
+        String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
-        JsonProcessingException jsonException = new JsonProcessingException("Serialization failed") {};
+        when(serializer.serialize(event)).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
+        when(traceContext.capture()).thenReturn(traceParent);
 
-        when(objectMapper.writeValueAsString(event)).thenThrow(jsonException);
+        // WHEN
+        adapter.append(testFirmId, testAggregateId, event);
+
+        // THEN
+        verify(repository).insert(entityCaptor.capture());
+        assertThat(entityCaptor.getValue().getTraceParent()).isEqualTo(traceParent);
+    }
+
+    @Test
+    void GIVEN_serializationFailure_WHEN_append_THEN_propagatesWithoutInserting() {
+        // GIVEN
+        DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
+        IllegalStateException failure = new IllegalStateException("Unable to serialize event payload");
+
+        when(serializer.serialize(event)).thenThrow(failure);
 
         // WHEN / THEN
         assertThatThrownBy(() -> adapter.append(testFirmId, testAggregateId, event))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("Unable to serialize event payload")
-                .hasCause(jsonException);
+                .isSameAs(failure);
 
-        verify(objectMapper).writeValueAsString(event);
-        verifyNoMoreInteractions(objectMapper, repository);
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_differentEventType_WHEN_append_THEN_constructsCorrectEventKey() throws JsonProcessingException {
+    void GIVEN_differentEventType_WHEN_append_THEN_constructsCorrectEventKey() {
         // GIVEN
         String differentEventType = "ENTRY_APPROVED.v1";
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, differentEventType);
         String expectedJson = "{\"eventId\":\"" + testEventId + "\"}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+        when(serializer.serialize(event)).thenReturn(expectedJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, testAggregateId, event);
 
         // THEN
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).insert(entityCaptor.capture());
         
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity.getEventKey()).isEqualTo(testAggregateId + "::" + differentEventType);
@@ -121,19 +158,20 @@ class OutboxRepositoryAdapterTest {
     }
 
     @Test
-    void GIVEN_complexJsonPayload_WHEN_append_THEN_savesCompleteJsonString() throws JsonProcessingException {
+    void GIVEN_complexJsonPayload_WHEN_append_THEN_savesCompleteJsonString() {
         // GIVEN
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
         String complexJson = "{\"eventId\":\"" + testEventId + "\",\"eventType\":\"" + testEventType + 
                            "\",\"nested\":{\"field1\":\"value1\",\"field2\":123}}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(complexJson);
+        when(serializer.serialize(event)).thenReturn(complexJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, testAggregateId, event);
 
         // THEN
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).insert(entityCaptor.capture());
         
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity.getPayloadJson()).isEqualTo(complexJson);
@@ -142,38 +180,40 @@ class OutboxRepositoryAdapterTest {
     }
 
     @Test
-    void GIVEN_differentFirmId_WHEN_append_THEN_savesWithCorrectFirmId() throws JsonProcessingException {
+    void GIVEN_differentFirmId_WHEN_append_THEN_savesWithCorrectFirmId() {
         // GIVEN
         UUID differentFirmId = UUID.randomUUID();
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
         String expectedJson = "{\"eventId\":\"" + testEventId + "\"}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+        when(serializer.serialize(event)).thenReturn(expectedJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(differentFirmId, testAggregateId, event);
 
         // THEN
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).insert(entityCaptor.capture());
         
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity.getFirmId()).isEqualTo(differentFirmId);
     }
 
     @Test
-    void GIVEN_differentAggregateId_WHEN_append_THEN_savesWithCorrectAggregateIdAndUpdatesEventKey() throws JsonProcessingException {
+    void GIVEN_differentAggregateId_WHEN_append_THEN_savesWithCorrectAggregateIdAndUpdatesEventKey() {
         // GIVEN
         UUID differentAggregateId = UUID.randomUUID();
         DomainEvent event = createTestEvent(testEventId, testOccurredAt, testEventType);
         String expectedJson = "{\"eventId\":\"" + testEventId + "\"}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+        when(serializer.serialize(event)).thenReturn(expectedJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, differentAggregateId, event);
 
         // THEN
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).insert(entityCaptor.capture());
         
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity.getAggregateId()).isEqualTo(differentAggregateId);
@@ -181,41 +221,140 @@ class OutboxRepositoryAdapterTest {
     }
 
     @Test
-    void GIVEN_eventWithDifferentTimestamp_WHEN_append_THEN_savesWithCorrectOccurredAt() throws JsonProcessingException {
+    void GIVEN_eventWithDifferentTimestamp_WHEN_append_THEN_savesWithCorrectOccurredAt() {
         // GIVEN
         Instant differentTimestamp = Instant.parse("2025-01-15T10:30:00Z");
         DomainEvent event = createTestEvent(testEventId, differentTimestamp, testEventType);
         String expectedJson = "{\"eventId\":\"" + testEventId + "\"}";
 
-        when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+        when(serializer.serialize(event)).thenReturn(expectedJson.getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, testAggregateId, event);
 
         // THEN
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).insert(entityCaptor.capture());
         
         OutboxEntity capturedEntity = entityCaptor.getValue();
         assertThat(capturedEntity.getOccurredAt()).isEqualTo(differentTimestamp);
     }
 
     @Test
-    void GIVEN_multipleEvents_WHEN_append_THEN_eachEventIsSavedIndependently() throws JsonProcessingException {
+    void GIVEN_multipleEvents_WHEN_append_THEN_eachEventIsSavedIndependently() {
         // GIVEN
         DomainEvent event1 = createTestEvent(UUID.randomUUID(), Instant.now(), "EVENT_1.v1");
         DomainEvent event2 = createTestEvent(UUID.randomUUID(), Instant.now(), "EVENT_2.v1");
         
-        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(serializer.serialize(any())).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        when(serializer.textual()).thenReturn(true);
 
         // WHEN
         adapter.append(testFirmId, testAggregateId, event1);
         adapter.append(testFirmId, testAggregateId, event2);
 
         // THEN
-        verify(objectMapper).writeValueAsString(event1);
-        verify(objectMapper).writeValueAsString(event2);
-        verify(repository, times(2)).save(any(OutboxEntity.class));
-        verifyNoMoreInteractions(objectMapper, repository);
+        verify(serializer).serialize(event1);
+        verify(serializer).serialize(event2);
+        verify(repository, times(2)).lockFirmFeed(testFirmId);
+        verify(repository, times(2)).insert(any(OutboxEntity.class));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_binaryWriter_WHEN_append_THEN_storesBytesWithContentType() {
+        // GIVEN
+        ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+        OutboxRepositoryAdapter smileAdapter = new OutboxRepositoryAdapter(repository, new EventSerializers(
+                List.of(new JsonEventSerializer(jsonMapper), new SmileEventSerializer(jsonMapper)),
+                SmileEventSerializer.CONTENT_TYPE), traceContext);
+        DomainEvent event = approvedEvent();
+
+        // WHEN
+        smileAdapter.append(testFirmId, testAggregateId, event);
+
+        // THEN
+        verify(repository).lockFirmFeed(testFirmId);
+        verify(repository).insert(entityCaptor.capture());
+        OutboxEntity capturedEntity = entityCaptor.getValue();
+        assertThat(capturedEntity.getContentType()).isEqualTo(SmileEventSerializer.CONTENT_TYPE);
+        assertThat(capturedEntity.getPayloadJson()).isNull();
+        assertThat(capturedEntity.getPayloadBytes()).isNotEmpty();
+    }
+
+    @Test
+    void GIVEN_binaryRow_WHEN_readAfter_THEN_exposesPayloadAsJson() {
+        // GIVEN
+        ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+        SmileEventSerializer smile = new SmileEventSerializer(jsonMapper);
+        OutboxRepositoryAdapter smileAdapter = new OutboxRepositoryAdapter(repository, new EventSerializers(
+                List.of(new JsonEventSerializer(jsonMapper), smile), JsonEventSerializer.CONTENT_TYPE), traceContext);
+        OutboxEntity row = feedRow(7L);
+        row.setPayloadJson(null);
+        row.setContentType(SmileEventSerializer.CONTENT_TYPE);
+        row.setPayloadBytes(smile.serialize(approvedEvent()));
+        when(repository.findByFirmIdAndSequenceGreaterThanOrderBySequenceAsc(testFirmId, 0L, Limit.of(11)))
+                .thenReturn(List.of(row));
+
+        // WHEN
+        FeedPage<OutboxMessage> page = smileAdapter.readAfter(testFirmId, 0L, 10);
+
+        // THEN
+        assertThat(page.items()).singleElement()
+                .extracting(OutboxMessage::payloadJson)
+                .asString()
+                .contains("\"status\":\"APPROVED\"")
+                .contains(testEventId.toString());
+    }
+
+    @Test
+    void GIVEN_moreRowsThanLimit_WHEN_readAfter_THEN_returnsLimitAndLastSequence() {
+        // GIVEN
+        when(repository.findByFirmIdAndSequenceGreaterThanOrderBySequenceAsc(testFirmId, 10L, Limit.of(3)))
+                .thenReturn(List.of(feedRow(11L), feedRow(12L), feedRow(14L)));
+
+        // WHEN
+        FeedPage<OutboxMessage> page = adapter.readAfter(testFirmId, 10L, 2);
+
+        // THEN
+        assertThat(page.items()).extracting(OutboxMessage::sequence).containsExactly(11L, 12L);
+        assertThat(page.lastSequence()).isEqualTo(12L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void GIVEN_noNewRows_WHEN_readAfter_THEN_resumesFromRequestedSequence() {
+        // GIVEN
+        when(repository.findByFirmIdAndSequenceGreaterThanOrderBySequenceAsc(testFirmId, 42L, Limit.of(101)))
+                .thenReturn(List.of());
+
+        // WHEN
+        FeedPage<OutboxMessage> page = adapter.readAfter(testFirmId, 42L, 100);
+
+        // THEN
+        assertThat(page.items()).isEmpty();
+        assertThat(page.lastSequence()).isEqualTo(42L);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    private OutboxEntity feedRow(final long sequence) {
+        return OutboxEntity.builder()
+                .id(UUID.randomUUID())
+                .firmId(testFirmId)
+                .aggregateId(testAggregateId)
+                .eventType(testEventType)
+                .eventKey(testAggregateId + "::" + testEventType)
+                .payloadJson("{}")
+                .contentType(JsonEventSerializer.CONTENT_TYPE)
+                .occurredAt(testOccurredAt)
+                .sequence(sequence)
+                .build();
+    }
+
+    private EntryApprovedEvent approvedEvent() {
+        return new EntryApprovedEvent(testEventId, testOccurredAt, testFirmId, new EntryApprovedEvent.Payload(
+                testAggregateId, testFirmId, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null,
+                "Drafted motion", 90, EntryStatus.APPROVED, testOccurredAt));
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.aequitas.aequitascentralservice.adapter.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntryJpaRepository;
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+
+/**
+ * Unit tests for {@link TimeEntryPartitionMaintainer}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimeEntryPartitionMaintainerTest {
+
+    @Mock
+    private TimeEntryJpaRepository repository;
+
+    @Mock
+    private ClockPort clockPort;
+
+    private TimeEntryPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new TimeEntryPartitionMaintainer(repository, clockPort, 3);
+    }
+
+    @Test
+    void GIVEN_midMonthClock_WHEN_ensurePartitions_THEN_startsFromFirstOfUtcMonth() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(Instant.parse("2025-11-15T10:30:00Z"));
+        when(repository.ensureMonthlyPartitions(LocalDate.of(2025, 11, 1), 3)).thenReturn(1);
+
+        // WHEN
+        maintainer.ensurePartitions();
+
+        // THEN
+        verify(repository).ensureMonthlyPartitions(LocalDate.of(2025, 11, 1), 3);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_lateEveningUtcOnMonthEnd_WHEN_ensurePartitions_THEN_usesUtcMonth() {
+        // GIVEN
+        when(clockPort.now()).thenReturn(Instant.parse("2025-11-30T23:59:59Z"));
+        when(repository.ensureMonthlyPartitions(LocalDate.of(2025, 11, 1), 3)).thenReturn(0);
+
+        // WHEN
+        maintainer.ensurePartitions();
+
+        // THEN
+        verify(repository).ensureMonthlyPartitions(LocalDate.of(2025, 11, 1), 3);
+        verifyNoMoreInteractions(repository);
+    }
+}
@@ -1,6 +1,8 @@
 package com.aequitas.aequitascentralservice.adapter.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
@@ -11,6 +13,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -19,18 +22,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.aequitas.aequitascentralservice.adapter.persistence.entity.TimeEntryEntity;
 import com.aequitas.aequitascentralservice.adapter.persistence.mapper.TimeEntryMapper;
 import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntryJpaRepository;
+import com.aequitas.aequitascentralservice.adapter.persistence.repository.TimeEntrySearchRepository.RankedTimeEntry;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 
@@ -44,10 +46,10 @@ class TimeEntryRepositoryAdapterTest {
     @InjectMocks
     private TimeEntryRepositoryAdapter adapter;
 
-    // ==================== save() Tests ====================
+    // ==================== insert() Tests ====================
 
     @Test
-    void GIVEN_validTimeEntry_WHEN_save_THEN_savesAndReturnsDomain() {
+    void GIVEN_newTimeEntry_WHEN_insert_THEN_persistsAndReturnsDomain() {
         try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
             // GIVEN
             final UUID id = UUID.randomUUID();
@@ -59,10 +61,10 @@ class TimeEntryRepositoryAdapterTest {
 
             mapperMock.when(() -> TimeEntryMapper.toEntity(domainEntry)).thenReturn(entityToSave);
             mapperMock.when(() -> TimeEntryMapper.toDomain(savedEntity)).thenReturn(returnedDomain);
-            when(repository.save(entityToSave)).thenReturn(savedEntity);
+            when(repository.insert(entityToSave)).thenReturn(savedEntity);
 
             // WHEN
-            final TimeEntry result = adapter.save(domainEntry);
+            final TimeEntry result = adapter.insert(domainEntry);
 
             // THEN
             assertThat(result).isNotNull();
@@ -72,13 +74,56 @@ class TimeEntryRepositoryAdapterTest {
 
             mapperMock.verify(() -> TimeEntryMapper.toEntity(domainEntry));
             mapperMock.verify(() -> TimeEntryMapper.toDomain(savedEntity));
-            verify(repository).save(entityToSave);
+            verify(repository).insert(entityToSave);
             verifyNoMoreInteractions(repository);
         }
     }
 
+    // ==================== update() Tests ====================
+
+    @Test
+    void GIVEN_matchingVersion_WHEN_update_THEN_singleGuardedUpdateAndVersionIncremented() {
+        // GIVEN
+        final UUID id = UUID.randomUUID();
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntry entry = createVersionedTimeEntry(id, firmId, EntryStatus.SUBMITTED, 4L);
+        when(repository.updateIfVersionMatches(any(TimeEntryEntity.class))).thenReturn(1);
+
+        // WHEN
+        final TimeEntry result = adapter.update(entry);
+
+        // THEN
+        assertThat(result.getVersion()).isEqualTo(5L);
+        assertThat(result.getStatus()).isEqualTo(EntryStatus.SUBMITTED);
+        verify(repository).updateIfVersionMatches(any(TimeEntryEntity.class));
+        verifyNoMoreInteractions(repository);
+    }
+
     @Test
-    void GIVEN_timeEntryWithAllFields_WHEN_save_THEN_preservesAllFields() {
+    void GIVEN_staleVersion_WHEN_update_THEN_throwsVersionConflictException() {
+        // GIVEN
+        final TimeEntry entry =
+                createVersionedTimeEntry(UUID.randomUUID(), UUID.randomUUID(), EntryStatus.DRAFT, 2L);
+        when(repository.updateIfVersionMatches(any(TimeEntryEntity.class))).thenReturn(0);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> adapter.update(entry))
+                .isInstanceOf(VersionConflictException.class);
+    }
+
+    @Test
+    void GIVEN_unversionedEntry_WHEN_update_THEN_throwsWithoutTouchingRepository() {
+        // GIVEN
+        final TimeEntry entry = createTimeEntry(UUID.randomUUID(), UUID.randomUUID(), EntryStatus.DRAFT);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> adapter.update(entry))
+                .isInstanceOf(VersionConflictException.class);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_timeEntryWithAllFields_WHEN_insert_THEN_preservesAllFields() {
         try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
             // GIVEN
             final UUID id = UUID.randomUUID();
@@ -94,10 +139,10 @@ class TimeEntryRepositoryAdapterTest {
 
             mapperMock.when(() -> TimeEntryMapper.toEntity(domainEntry)).thenReturn(entityToSave);
             mapperMock.when(() -> TimeEntryMapper.toDomain(savedEntity)).thenReturn(returnedDomain);
-            when(repository.save(entityToSave)).thenReturn(savedEntity);
+            when(repository.insert(entityToSave)).thenReturn(savedEntity);
 
             // WHEN
-            final TimeEntry result = adapter.save(domainEntry);
+            final TimeEntry result = adapter.insert(domainEntry);
 
             // THEN
             assertThat(result).isNotNull();
@@ -108,7 +153,7 @@ class TimeEntryRepositoryAdapterTest {
 
             mapperMock.verify(() -> TimeEntryMapper.toEntity(domainEntry));
             mapperMock.verify(() -> TimeEntryMapper.toDomain(savedEntity));
-            verify(repository).save(entityToSave);
+            verify(repository).insert(entityToSave);
             verifyNoMoreInteractions(repository);
         }
     }
@@ -164,464 +209,369 @@ class TimeEntryRepositoryAdapterTest {
     }
 
     @Test
-    void GIVEN_entryFromDifferentFirm_WHEN_findById_THEN_returnsEmpty() {
+    void GIVEN_ids_WHEN_findAllById_THEN_bindsThemAsOneArray() {
         try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
             // GIVEN
             final UUID id = UUID.randomUUID();
-            final UUID wrongFirmId = UUID.randomUUID();
+            final UUID missingId = UUID.randomUUID();
+            final UUID firmId = UUID.randomUUID();
+            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
+            final TimeEntry domainEntry = createTimeEntry(id, firmId, EntryStatus.DRAFT);
 
-            when(repository.findByIdAndFirmId(id, wrongFirmId)).thenReturn(Optional.empty());
+            when(repository.findAllByFirmIdAndIdIn(eq(firmId), aryEq(new UUID[] {id, missingId})))
+                    .thenReturn(List.of(entity));
+            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domainEntry);
 
             // WHEN
-            final Optional<TimeEntry> result = adapter.findById(id, wrongFirmId);
+            final List<TimeEntry> result = adapter.findAllById(List.of(id, missingId), firmId);
 
             // THEN
-            assertThat(result).isEmpty();
-
-            verify(repository).findByIdAndFirmId(id, wrongFirmId);
+            assertThat(result).containsExactly(domainEntry);
+            verify(repository).findAllByFirmIdAndIdIn(eq(firmId), aryEq(new UUID[] {id, missingId}));
             verifyNoMoreInteractions(repository);
-            mapperMock.verifyNoInteractions();
         }
     }
 
-    // ==================== search() Tests ====================
-
     @Test
-    void GIVEN_emptyFilter_WHEN_search_THEN_returnsAllForFirm() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id1 = UUID.randomUUID();
-            final UUID id2 = UUID.randomUUID();
-            final TimeEntryEntity entity1 = createTimeEntryEntity(id1, firmId, EntryStatus.DRAFT);
-            final TimeEntryEntity entity2 = createTimeEntryEntity(id2, firmId, EntryStatus.SUBMITTED);
-            final List<TimeEntryEntity> entities = List.of(entity1, entity2);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-
-            final TimeEntry domain1 = createTimeEntry(id1, firmId, EntryStatus.DRAFT);
-            final TimeEntry domain2 = createTimeEntry(id2, firmId, EntryStatus.SUBMITTED);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity1)).thenReturn(domain1);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity2)).thenReturn(domain2);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
+    void GIVEN_noIds_WHEN_findAllById_THEN_skipsQuery() {
+        // WHEN
+        final List<TimeEntry> result = adapter.findAllById(List.of(), UUID.randomUUID());
 
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(2);
-            assertThat(result.items().get(0).getId()).isEqualTo(id1);
-            assertThat(result.items().get(1).getId()).isEqualTo(id2);
-            assertThat(result.totalItems()).isEqualTo(2);
-            assertThat(result.hasMore()).isFalse();
-            assertThat(result.nextCursor()).isNull();
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+        // THEN
+        assertThat(result).isEmpty();
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_filterWithCustomerId_WHEN_search_THEN_filtersCorrectly() {
+    void GIVEN_entryFromDifferentFirm_WHEN_findById_THEN_returnsEmpty() {
         try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
             // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final UUID customerId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.of(customerId), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
             final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntityWithCustomer(id, firmId, customerId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntryWithCustomer(id, firmId, customerId, EntryStatus.DRAFT);
+            final UUID wrongFirmId = UUID.randomUUID();
 
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
+            when(repository.findByIdAndFirmId(id, wrongFirmId)).thenReturn(Optional.empty());
 
             // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
+            final Optional<TimeEntry> result = adapter.findById(id, wrongFirmId);
 
             // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.items().get(0).getCustomerId()).isEqualTo(customerId);
+            assertThat(result).isEmpty();
 
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
+            verify(repository).findByIdAndFirmId(id, wrongFirmId);
             verifyNoMoreInteractions(repository);
+            mapperMock.verifyNoInteractions();
         }
     }
 
-    @Test
-    void GIVEN_filterWithProjectId_WHEN_search_THEN_filtersCorrectly() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final UUID projectId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.of(projectId), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntityWithProject(id, firmId, projectId, EntryStatus.APPROVED);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntryWithProject(id, firmId, projectId, EntryStatus.APPROVED);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.items().get(0).getProjectId()).isEqualTo(projectId);
+    // ==================== search() Tests ====================
 
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    @Test
+    void GIVEN_emptyFilter_WHEN_search_THEN_returnsAllForFirm() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
+
+        final TimeEntryView view1 = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+        final TimeEntryView view2 = createView(UUID.randomUUID(), EntryStatus.SUBMITTED);
+
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10))).thenReturn(List.of(view1, view2));
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result).isNotNull();
+        assertThat(result.items()).containsExactly(view1, view2);
+        assertThat(result.totalItems()).isEqualTo(2);
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_filterWithStatus_WHEN_search_THEN_filtersCorrectly() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final EntryStatus status = EntryStatus.SUBMITTED;
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.of(status), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.SUBMITTED);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.SUBMITTED);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.items().get(0).getStatus()).isEqualTo(EntryStatus.SUBMITTED);
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_allFilters_WHEN_search_THEN_returnsProjectedRows() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final UUID customerId = UUID.randomUUID();
+        final UUID projectId = UUID.randomUUID();
+        final UUID ownerId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.of(customerId), Optional.of(projectId), Optional.of(EntryStatus.APPROVED),
+                Optional.of(ownerId), Optional.of(Instant.parse("2025-11-01T00:00:00Z")),
+                Optional.of(Instant.parse("2025-12-01T00:00:00Z")), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
+
+        final TimeEntryView view = createView(
+                UUID.randomUUID(), customerId, projectId, ownerId, EntryStatus.APPROVED);
+
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10))).thenReturn(List.of(view));
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result.items()).containsExactly(view);
+        assertThat(result.totalItems()).isEqualTo(1);
+
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_filterWithOwnerId_WHEN_search_THEN_filtersCorrectly() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final UUID ownerId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(ownerId));
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
+    void GIVEN_validCursor_WHEN_search_THEN_resumesAfterCursorId() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final UUID cursorId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, cursorId.toString());
 
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntityWithOwner(id, firmId, ownerId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntryWithOwner(id, firmId, ownerId, EntryStatus.DRAFT);
+        final TimeEntryView view = createView(UUID.randomUUID(), EntryStatus.DRAFT);
 
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(cursorId), eq(10))).thenReturn(List.of(view));
 
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
 
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.items().get(0).getUserId()).isEqualTo(ownerId);
+        // THEN
+        assertThat(result.items()).containsExactly(view);
+        assertThat(result.hasMore()).isFalse();
 
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(cursorId), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_allFilters_WHEN_search_THEN_appliesAllFilters() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final UUID customerId = UUID.randomUUID();
-            final UUID projectId = UUID.randomUUID();
-            final UUID ownerId = UUID.randomUUID();
-            final EntryStatus status = EntryStatus.APPROVED;
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.of(customerId), Optional.of(projectId), Optional.of(status), Optional.of(ownerId));
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntityWithAll(id, firmId, customerId, projectId, ownerId, EntryStatus.APPROVED);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntryWithAll(id, firmId, customerId, projectId, ownerId, EntryStatus.APPROVED);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.items().get(0).getCustomerId()).isEqualTo(customerId);
-            assertThat(result.items().get(0).getProjectId()).isEqualTo(projectId);
-            assertThat(result.items().get(0).getStatus()).isEqualTo(EntryStatus.APPROVED);
-            assertThat(result.items().get(0).getUserId()).isEqualTo(ownerId);
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_fieldSelection_WHEN_search_THEN_passesSelectionToProjection() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
+        final Set<TimeEntryField> fields = TimeEntryField.parse("status,durationMinutes");
+        final TimeEntryView view = new TimeEntryView(
+                UUID.randomUUID(), null, null, null, null, null, 90, EntryStatus.DRAFT, null, null, null);
+
+        when(repository.findViews(any(Specification.class), eq(fields), eq(null), eq(10))).thenReturn(List.of(view));
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, fields, pageRequest);
+
+        // THEN
+        assertThat(result.items()).containsExactly(view);
+        verify(repository).findViews(any(Specification.class), eq(fields), eq(null), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_validCursor_WHEN_search_THEN_paginatesCorrectly() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final UUID cursorId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, cursorId.toString());
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.DRAFT);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_fullPage_WHEN_search_THEN_hasMoreIsTrueAndCountsRemaining() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(2, null);
+
+        final UUID id2 = UUID.randomUUID();
+        final TimeEntryView view1 = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+        final TimeEntryView view2 = createView(id2, EntryStatus.SUBMITTED);
+
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(2))).thenReturn(List.of(view1, view2));
+        when(repository.count(any(Specification.class))).thenReturn(5L);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(id2.toString());
+        assertThat(result.totalItems()).isEqualTo(5L);
+
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(2));
+        verify(repository).count(any(Specification.class));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_fullPage_WHEN_search_THEN_hasMoreIsTrue() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(2, null);
-
-            final UUID id1 = UUID.randomUUID();
-            final UUID id2 = UUID.randomUUID();
-            final TimeEntryEntity entity1 = createTimeEntryEntity(id1, firmId, EntryStatus.DRAFT);
-            final TimeEntryEntity entity2 = createTimeEntryEntity(id2, firmId, EntryStatus.SUBMITTED);
-            final List<TimeEntryEntity> entities = List.of(entity1, entity2);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-
-            final TimeEntry domain1 = createTimeEntry(id1, firmId, EntryStatus.DRAFT);
-            final TimeEntry domain2 = createTimeEntry(id2, firmId, EntryStatus.SUBMITTED);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity1)).thenReturn(domain1);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity2)).thenReturn(domain2);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(2);
-            assertThat(result.hasMore()).isTrue();
-            assertThat(result.nextCursor()).isEqualTo(id2.toString());
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_narrativeQuery_WHEN_search_THEN_returnsRankedPageWithRankCursor() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("deposition"));
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(2, null);
+
+        final UUID id2 = UUID.randomUUID();
+        final TimeEntryView view1 = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+        final TimeEntryView view2 = createView(id2, EntryStatus.DRAFT);
+
+        when(repository.findRanked(any(Specification.class), eq("deposition"), eq(TimeEntryField.ALL), eq(null), eq(null), eq(2)))
+                .thenReturn(List.of(new RankedTimeEntry(view1, 0.9f), new RankedTimeEntry(view2, 0.5f)));
+        when(repository.countRanked(any(Specification.class), eq("deposition"), eq(null), eq(null))).thenReturn(7L);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result.items()).containsExactly(view1, view2);
+        assertThat(result.nextCursor()).isEqualTo("0.5~" + id2);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.totalItems()).isEqualTo(7L);
+
+        verify(repository).findRanked(any(Specification.class), eq("deposition"), eq(TimeEntryField.ALL), eq(null), eq(null), eq(2));
+        verify(repository).countRanked(any(Specification.class), eq("deposition"), eq(null), eq(null));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_partialPage_WHEN_search_THEN_hasMoreIsFalse() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.DRAFT);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-            assertThat(result.hasMore()).isFalse();
-            assertThat(result.nextCursor()).isNull();
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_narrativeQueryAndRankCursor_WHEN_search_THEN_resumesAfterKeyset() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final UUID cursorId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("deposition"));
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(1, "0.25~" + cursorId);
+        final TimeEntryView view = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+
+        when(repository.findRanked(any(Specification.class), eq("deposition"), eq(TimeEntryField.ALL), eq(0.25f), eq(cursorId), eq(1)))
+                .thenReturn(List.of(new RankedTimeEntry(view, 0.2f)));
+        when(repository.countRanked(any(Specification.class), eq("deposition"), eq(0.25f), eq(cursorId))).thenReturn(3L);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result.items()).containsExactly(view);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.totalItems()).isEqualTo(3L);
+        verify(repository).countRanked(any(Specification.class), eq("deposition"), eq(0.25f), eq(cursorId));
     }
 
     @Test
-    void GIVEN_emptyResults_WHEN_search_THEN_returnsEmptyPage() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final Page<TimeEntryEntity> page = new PageImpl<>(List.of());
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).isEmpty();
-            assertThat(result.totalItems()).isZero();
-            assertThat(result.hasMore()).isFalse();
-            assertThat(result.nextCursor()).isNull();
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-            mapperMock.verifyNoInteractions();
-        }
+    void GIVEN_narrativeQueryAndPartialPage_WHEN_search_THEN_hasMoreIsFalseWithoutCountQuery() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final UUID cursorId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("deposition"));
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, "0.25~" + cursorId);
+        final TimeEntryView view = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+
+        when(repository.findRanked(any(Specification.class), eq("deposition"), eq(TimeEntryField.ALL), eq(0.25f), eq(cursorId), eq(10)))
+                .thenReturn(List.of(new RankedTimeEntry(view, 0.2f)));
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result.items()).containsExactly(view);
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.totalItems()).isEqualTo(1);
+        verify(repository).findRanked(any(Specification.class), eq("deposition"), eq(TimeEntryField.ALL), eq(0.25f), eq(cursorId), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_nullCursor_WHEN_search_THEN_startsFromBeginning() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.DRAFT);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
-
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    void GIVEN_narrativeQueryAndIdCursor_WHEN_search_THEN_throwsIllegalArgumentException() {
+        // GIVEN
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("deposition"));
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, UUID.randomUUID().toString());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> adapter.search(UUID.randomUUID(), filter, pageRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_blankCursor_WHEN_search_THEN_startsFromBeginning() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, "   ");
+    void GIVEN_partialPage_WHEN_search_THEN_hasMoreIsFalseWithoutCountQuery() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
 
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.DRAFT);
+        final TimeEntryView view = createView(UUID.randomUUID(), EntryStatus.DRAFT);
 
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10))).thenReturn(List.of(view));
 
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
 
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
+        // THEN
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.totalItems()).isEqualTo(1);
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextCursor()).isNull();
 
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    void GIVEN_emptyCursor_WHEN_search_THEN_startsFromBeginning() {
-        try (final MockedStatic<TimeEntryMapper> mapperMock = mockStatic(TimeEntryMapper.class)) {
-            // GIVEN
-            final UUID firmId = UUID.randomUUID();
-            final TimeEntryFilter filter = new TimeEntryFilter(
-                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
-            final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest = 
-                    new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, "");
-
-            final UUID id = UUID.randomUUID();
-            final TimeEntryEntity entity = createTimeEntryEntity(id, firmId, EntryStatus.DRAFT);
-            final List<TimeEntryEntity> entities = List.of(entity);
-            final Page<TimeEntryEntity> page = new PageImpl<>(entities);
-            final TimeEntry domain = createTimeEntry(id, firmId, EntryStatus.DRAFT);
-
-            when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            mapperMock.when(() -> TimeEntryMapper.toDomain(entity)).thenReturn(domain);
-
-            // WHEN
-            final PageResult<TimeEntry> result = adapter.search(firmId, filter, pageRequest);
-
-            // THEN
-            assertThat(result).isNotNull();
-            assertThat(result.items()).hasSize(1);
+    void GIVEN_emptyResults_WHEN_search_THEN_returnsEmptyPage() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final com.aequitas.aequitascentralservice.domain.pagination.PageRequest pageRequest =
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, null);
+
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10))).thenReturn(List.of());
+
+        // WHEN
+        final PageResult<TimeEntryView> result = adapter.search(firmId, filter, pageRequest);
+
+        // THEN
+        assertThat(result).isNotNull();
+        assertThat(result.items()).isEmpty();
+        assertThat(result.totalItems()).isZero();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+
+        verify(repository).findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10));
+        verifyNoMoreInteractions(repository);
+    }
 
-            verify(repository).findAll(any(Specification.class), any(Pageable.class));
-            verifyNoMoreInteractions(repository);
-        }
+    @Test
+    void GIVEN_blankOrEmptyCursor_WHEN_search_THEN_startsFromBeginning() {
+        // GIVEN
+        final UUID firmId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final TimeEntryView view = createView(UUID.randomUUID(), EntryStatus.DRAFT);
+
+        when(repository.findViews(any(Specification.class), eq(TimeEntryField.ALL), eq(null), eq(10))).thenReturn(List.of(view));
+
+        // WHEN
+        final PageResult<TimeEntryView> blank = adapter.search(firmId, filter,
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, "   "));
+        final PageResult<TimeEntryView> empty = adapter.search(firmId, filter,
+                new com.aequitas.aequitascentralservice.domain.pagination.PageRequest(10, ""));
+
+        // THEN
+        assertThat(blank.items()).containsExactly(view);
+        assertThat(empty.items()).containsExactly(view);
     }
 
     // ==================== Helper Methods ====================
@@ -644,6 +594,23 @@ class TimeEntryRepositoryAdapterTest {
                 .build();
     }
 
+    private TimeEntry createVersionedTimeEntry(
+            final UUID id, final UUID firmId, final EntryStatus status, final Long version) {
+        return TimeEntry.builder()
+                .id(id)
+                .firmId(firmId)
+                .userId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .projectId(UUID.randomUUID())
+                .narrative("Test narrative")
+                .durationMinutes(60)
+                .status(status)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .version(version)
+                .build();
+    }
+
     private TimeEntryEntity createTimeEntryEntity(final UUID id, final UUID firmId, final EntryStatus status) {
         return TimeEntryEntity.builder()
                 .id(id)
@@ -700,149 +667,14 @@ class TimeEntryRepositoryAdapterTest {
                 .build();
     }
 
-    private TimeEntry createTimeEntryWithCustomer(final UUID id, final UUID firmId, final UUID customerId, final EntryStatus status) {
-        return TimeEntry.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(UUID.randomUUID())
-                .customerId(customerId)
-                .projectId(UUID.randomUUID())
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntryEntity createTimeEntryEntityWithCustomer(final UUID id, final UUID firmId, final UUID customerId, final EntryStatus status) {
-        return TimeEntryEntity.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(UUID.randomUUID())
-                .customerId(customerId)
-                .projectId(UUID.randomUUID())
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntry createTimeEntryWithProject(final UUID id, final UUID firmId, final UUID projectId, final EntryStatus status) {
-        return TimeEntry.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(UUID.randomUUID())
-                .customerId(UUID.randomUUID())
-                .projectId(projectId)
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntryEntity createTimeEntryEntityWithProject(final UUID id, final UUID firmId, final UUID projectId, final EntryStatus status) {
-        return TimeEntryEntity.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(UUID.randomUUID())
-                .customerId(UUID.randomUUID())
-                .projectId(projectId)
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntry createTimeEntryWithOwner(final UUID id, final UUID firmId, final UUID ownerId, final EntryStatus status) {
-        return TimeEntry.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(ownerId)
-                .customerId(UUID.randomUUID())
-                .projectId(UUID.randomUUID())
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntryEntity createTimeEntryEntityWithOwner(final UUID id, final UUID firmId, final UUID ownerId, final EntryStatus status) {
-        return TimeEntryEntity.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(ownerId)
-                .customerId(UUID.randomUUID())
-                .projectId(UUID.randomUUID())
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
-    }
-
-    private TimeEntry createTimeEntryWithAll(final UUID id, final UUID firmId, final UUID customerId,
-            final UUID projectId, final UUID ownerId, final EntryStatus status) {
-        return TimeEntry.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(ownerId)
-                .customerId(customerId)
-                .projectId(projectId)
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
+    private TimeEntryView createView(final UUID id, final EntryStatus status) {
+        return createView(id, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), status);
     }
 
-    private TimeEntryEntity createTimeEntryEntityWithAll(final UUID id, final UUID firmId, final UUID customerId,
-            final UUID projectId, final UUID ownerId, final EntryStatus status) {
-        return TimeEntryEntity.builder()
-                .id(id)
-                .firmId(firmId)
-                .userId(ownerId)
-                .customerId(customerId)
-                .projectId(projectId)
-                .matterId(null)
-                .narrative("Test narrative")
-                .durationMinutes(60)
-                .status(status)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .approvedBy(null)
-                .approvedAt(null)
-                .build();
+    private TimeEntryView createView(final UUID id, final UUID customerId, final UUID projectId,
+                                     final UUID ownerId, final EntryStatus status) {
+        final Instant now = Instant.now();
+        return new TimeEntryView(id, customerId, projectId, null, ownerId, "Test narrative", 60, status,
+                now, now, status == EntryStatus.APPROVED ? now : null);
     }
 }
@@ -366,6 +366,37 @@ class UserProfileRepositoryAdapterTest {
         verifyNoMoreInteractions(repository);
     }
 
+    // ==================== insert() Tests ====================
+
+    @Test
+    void GIVEN_profileWithAssignedId_WHEN_insert_THEN_persistsWithSameId() {
+        // GIVEN
+        final UUID assignedId = UUID.randomUUID();
+        final UUID firmId = UUID.randomUUID();
+        final UserProfile profile = UserProfile.builder()
+                .id(assignedId)
+                .firmId(firmId)
+                .email("newuser@example.com")
+                .role(Role.EMPLOYEE)
+                .build();
+        final UserProfileEntity insertedEntity = UserProfileEntity.builder()
+                .id(assignedId)
+                .firmId(firmId)
+                .email("newuser@example.com")
+                .role(Role.EMPLOYEE)
+                .build();
+        when(repository.insert(any(UserProfileEntity.class))).thenReturn(insertedEntity);
+
+        // WHEN
+        final UserProfile result = adapter.insert(profile);
+
+        // THEN
+        assertThat(result.id()).isEqualTo(assignedId);
+        verify(repository).insert(entityCaptor.capture());
+        assertThat(entityCaptor.getValue().getId()).isEqualTo(assignedId);
+        verifyNoMoreInteractions(repository);
+    }
+
     // ==================== save() Tests ====================
 
     @Test
@@ -0,0 +1,46 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.mapper;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.SubmittedEntryEntity;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+class SubmittedEntryMapperTest {
+
+    @Test
+    void GIVEN_submittedEntry_WHEN_toEntityAndToView_THEN_mapsAllFields() {
+        // GIVEN
+        final Instant createdAt = Instant.parse("2025-01-15T10:30:00Z");
+        final Instant submittedAt = Instant.parse("2025-01-15T11:00:00Z");
+        final TimeEntry entry = TimeEntry.draft(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), "Drafted motion", 90, createdAt)
+                .submit(submittedAt);
+
+        // WHEN
+        final SubmittedEntryEntity entity = SubmittedEntryMapper.toEntity(entry);
+        final TimeEntryView view = SubmittedEntryMapper.toView(entity);
+
+        // THEN
+        assertThat(entity.getEntryId()).isEqualTo(entry.getId());
+        assertThat(entity.getFirmId()).isEqualTo(entry.getFirmId());
+        assertThat(view).isEqualTo(new TimeEntryView(
+                entry.getId(),
+                entry.getCustomerId(),
+                entry.getProjectId(),
+                entry.getMatterId(),
+                entry.getUserId(),
+                "Drafted motion",
+                90,
+                EntryStatus.SUBMITTED,
+                createdAt,
+                submittedAt,
+                null));
+    }
+}
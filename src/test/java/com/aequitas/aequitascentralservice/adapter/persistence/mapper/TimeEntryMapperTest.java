@@ -46,6 +46,7 @@ class TimeEntryMapperTest {
                 .updatedAt(updatedAt)
                 .approvedBy(approvedBy)
                 .approvedAt(approvedAt)
+                .version(3L)
                 .build();
 
         // WHEN
@@ -66,6 +67,7 @@ class TimeEntryMapperTest {
         assertThat(entity.getUpdatedAt()).isEqualTo(updatedAt);
         assertThat(entity.getApprovedBy()).isEqualTo(approvedBy);
         assertThat(entity.getApprovedAt()).isEqualTo(approvedAt);
+        assertThat(entity.getVersion()).isEqualTo(3L);
     }
 
     @Test
@@ -187,6 +189,7 @@ class TimeEntryMapperTest {
                 .updatedAt(updatedAt)
                 .approvedBy(approvedBy)
                 .approvedAt(approvedAt)
+                .version(7L)
                 .build();
 
         // WHEN
@@ -207,6 +210,7 @@ class TimeEntryMapperTest {
         assertThat(domain.getUpdatedAt()).isEqualTo(updatedAt);
         assertThat(domain.getApprovedBy()).isEqualTo(approvedBy);
         assertThat(domain.getApprovedAt()).isEqualTo(approvedAt);
+        assertThat(domain.getVersion()).isEqualTo(7L);
     }
 
     @Test
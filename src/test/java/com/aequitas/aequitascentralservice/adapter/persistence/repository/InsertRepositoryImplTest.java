@@ -0,0 +1,54 @@
+package com.aequitas.aequitascentralservice.adapter.persistence.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.adapter.persistence.entity.FirmEntity;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Unit tests for {@link InsertRepositoryImpl} ensuring new aggregates are persisted rather than merged.
+ */
+@ExtendWith(MockitoExtension.class)
+class InsertRepositoryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private InsertRepositoryImpl<FirmEntity> repository;
+
+    @Test
+    void GIVEN_entityWithAssignedId_WHEN_insert_THEN_persistsWithoutMerge() {
+        // GIVEN
+        final FirmEntity entity = FirmEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Smith & Associates")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+
+        // WHEN
+        final FirmEntity result = repository.insert(entity);
+
+        // THEN
+        assertThat(result).isSameAs(entity);
+        verify(entityManager).persist(entity);
+        verify(entityManager, never()).merge(any());
+        verify(entityManager, never()).find(any(), any());
+        verifyNoMoreInteractions(entityManager);
+    }
+}
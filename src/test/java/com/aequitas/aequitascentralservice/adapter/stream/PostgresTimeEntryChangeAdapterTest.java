@@ -0,0 +1,120 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link PostgresTimeEntryChangeAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresTimeEntryChangeAdapterTest {
+
+    private static final UUID FIRM_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TimeEntryChangeHub hub;
+
+    @Captor
+    private ArgumentCaptor<PreparedStatementCallback<Boolean>> callbackCaptor;
+
+    private PostgresTimeEntryChangeAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PostgresTimeEntryChangeAdapter(jdbcTemplate, objectMapper, hub);
+    }
+
+    @Test
+    void GIVEN_change_WHEN_publish_THEN_notifiesChannelWithJsonPayload() throws Exception {
+        // GIVEN
+        final TimeEntryChange change = change("Drafted motion");
+
+        // WHEN
+        adapter.publish(change);
+
+        // THEN
+        final String payload = notifiedPayload();
+        assertThat(objectMapper.readValue(payload, TimeEntryChange.class)).isEqualTo(change);
+    }
+
+    @Test
+    void GIVEN_oversizedNarrative_WHEN_publish_THEN_narrativeOmittedToFitLimit() throws Exception {
+        // GIVEN
+        final TimeEntryChange change = change("é".repeat(4000));
+
+        // WHEN
+        adapter.publish(change);
+
+        // THEN
+        final TimeEntryChange sent = objectMapper.readValue(notifiedPayload(), TimeEntryChange.class);
+        assertThat(sent.entry().narrative()).isNull();
+        assertThat(sent.entry().id()).isEqualTo(change.entry().id());
+        assertThat(sent.type()).isEqualTo(ChangeType.SUBMITTED);
+    }
+
+    @Test
+    void GIVEN_listener_WHEN_subscribe_THEN_delegatesToHub() {
+        // GIVEN
+        final Consumer<TimeEntryChange> listener = change -> { };
+        final StreamSubscription subscription = () -> { };
+        when(hub.subscribe(FIRM_ID, listener)).thenReturn(subscription);
+
+        // WHEN & THEN
+        assertThat(adapter.subscribe(FIRM_ID, listener)).isSameAs(subscription);
+    }
+
+    private String notifiedPayload() throws Exception {
+        verify(jdbcTemplate).execute(eq("SELECT pg_notify(?, ?)"), callbackCaptor.capture());
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        callbackCaptor.getValue().doInPreparedStatement(statement);
+        verify(statement).setString(1, PostgresTimeEntryChangeAdapter.CHANNEL);
+        final ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(statement).setString(eq(2), payload.capture());
+        verify(statement).execute();
+        assertThat(payload.getValue().getBytes(StandardCharsets.UTF_8).length)
+                .isLessThanOrEqualTo(PostgresTimeEntryChangeAdapter.MAX_PAYLOAD_BYTES);
+        return payload.getValue();
+    }
+
+    private TimeEntryChange change(final String narrative) {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryChange(
+                FIRM_ID,
+                ChangeType.SUBMITTED,
+                new TimeEntryView(
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                        narrative, 90, EntryStatus.SUBMITTED, now, now, null));
+    }
+}
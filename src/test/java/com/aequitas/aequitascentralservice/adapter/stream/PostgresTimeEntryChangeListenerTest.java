@@ -0,0 +1,171 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link PostgresTimeEntryChangeListener}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresTimeEntryChangeListenerTest {
+
+    private static final Duration LISTEN_TIMEOUT = Duration.ofMillis(50);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private TimeEntryChangeHub hub;
+
+    private PostgresTimeEntryChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PostgresTimeEntryChangeListener(
+                dataSource, objectMapper, hub, LISTEN_TIMEOUT, Duration.ofMillis(10));
+    }
+
+    @Test
+    void GIVEN_notifications_WHEN_poll_THEN_listensOnceAndDispatchesChangesToHub() throws Exception {
+        // GIVEN
+        final TimeEntryChange change = change();
+        final PGNotification notification = notification(objectMapper.writeValueAsString(change));
+        stubConnection();
+        when(pgConnection.getNotifications(50))
+                .thenReturn(new PGNotification[] {notification})
+                .thenReturn(null);
+
+        // WHEN
+        listener.poll();
+        listener.poll();
+
+        // THEN
+        verify(statement).execute("LISTEN " + PostgresTimeEntryChangeAdapter.CHANNEL);
+        verify(dataSource).getConnection();
+        verify(hub).publish(change);
+    }
+
+    @Test
+    void GIVEN_malformedPayload_WHEN_poll_THEN_notificationSkipped() throws Exception {
+        // GIVEN
+        final PGNotification notification = notification("{not json");
+        stubConnection();
+        when(pgConnection.getNotifications(50)).thenReturn(new PGNotification[] {notification});
+
+        // WHEN
+        listener.poll();
+
+        // THEN
+        verifyNoInteractions(hub);
+    }
+
+    @Test
+    void GIVEN_brokenConnection_WHEN_poll_THEN_connectionClosedAndReopenedOnNextTick() throws Exception {
+        // GIVEN
+        stubConnection();
+        when(pgConnection.getNotifications(50)).thenThrow(new SQLException("connection reset")).thenReturn(null);
+
+        // WHEN
+        final boolean first = listener.poll();
+        final boolean second = listener.poll();
+
+        // THEN
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        verify(connection).close();
+        verify(dataSource, times(2)).getConnection();
+        verify(statement, times(2)).execute(any(String.class));
+    }
+
+    @Test
+    void GIVEN_databaseDown_WHEN_poll_THEN_reportsBrokenConnectionWithoutDispatching() throws Exception {
+        // GIVEN
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // WHEN
+        final boolean healthy = listener.poll();
+
+        // THEN
+        assertThat(healthy).isFalse();
+        verifyNoInteractions(hub);
+    }
+
+    @Test
+    void GIVEN_started_WHEN_stop_THEN_listenerThreadReleasesItsConnection() throws Exception {
+        // GIVEN
+        stubConnection();
+        when(pgConnection.getNotifications(50)).thenReturn(null);
+        listener.start();
+        verify(dataSource, timeout(1000)).getConnection();
+
+        // WHEN
+        listener.stop();
+
+        // THEN
+        assertThat(listener.isRunning()).isFalse();
+        verify(connection).close();
+    }
+
+    private void stubConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    }
+
+    private PGNotification notification(final String payload) {
+        final PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+    private TimeEntryChange change() {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryChange(
+                UUID.randomUUID(),
+                ChangeType.APPROVED,
+                new TimeEntryView(
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                        "Drafted motion", 90, EntryStatus.APPROVED, now, now, now));
+    }
+}
@@ -0,0 +1,123 @@
+package com.aequitas.aequitascentralservice.adapter.stream;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+/**
+ * Unit tests for {@link TimeEntryChangeHub}.
+ */
+class TimeEntryChangeHubTest {
+
+    private static final UUID FIRM_ID = UUID.randomUUID();
+    private static final UUID OTHER_FIRM_ID = UUID.randomUUID();
+
+    @Test
+    void GIVEN_subscribersOfTwoFirms_WHEN_publish_THEN_onlySameFirmReceives() {
+        // GIVEN
+        final TimeEntryChangeHub hub = new TimeEntryChangeHub(Runnable::run, 4);
+        final List<TimeEntryChange> firm = new ArrayList<>();
+        final List<TimeEntryChange> other = new ArrayList<>();
+        hub.subscribe(FIRM_ID, firm::add);
+        hub.subscribe(OTHER_FIRM_ID, other::add);
+        final TimeEntryChange change = change(FIRM_ID);
+
+        // WHEN
+        hub.publish(change);
+
+        // THEN
+        assertThat(firm).containsExactly(change);
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    void GIVEN_slowSubscriber_WHEN_bufferOverflows_THEN_oldestChangesDropped() {
+        // GIVEN
+        final List<Runnable> pending = new ArrayList<>();
+        final TimeEntryChangeHub hub = new TimeEntryChangeHub(pending::add, 2);
+        final List<TimeEntryChange> received = new ArrayList<>();
+        hub.subscribe(FIRM_ID, received::add);
+        final TimeEntryChange first = change(FIRM_ID);
+        final TimeEntryChange second = change(FIRM_ID);
+        final TimeEntryChange third = change(FIRM_ID);
+
+        // WHEN
+        hub.publish(first);
+        hub.publish(second);
+        hub.publish(third);
+        pending.forEach(Runnable::run);
+
+        // THEN
+        assertThat(pending).hasSize(1);
+        assertThat(received).containsExactly(second, third);
+    }
+
+    @Test
+    void GIVEN_failingListener_WHEN_publish_THEN_otherListenersAndLaterChangesStillDelivered() {
+        // GIVEN
+        final TimeEntryChangeHub hub = new TimeEntryChangeHub(Runnable::run, 4);
+        final List<TimeEntryChange> received = new ArrayList<>();
+        hub.subscribe(FIRM_ID, change -> {
+            throw new IllegalStateException("client gone");
+        });
+        hub.subscribe(FIRM_ID, received::add);
+        final TimeEntryChange first = change(FIRM_ID);
+        final TimeEntryChange second = change(FIRM_ID);
+
+        // WHEN
+        hub.publish(first);
+        hub.publish(second);
+
+        // THEN
+        assertThat(received).containsExactly(first, second);
+    }
+
+    @Test
+    void GIVEN_closedSubscription_WHEN_publish_THEN_pendingAndLaterChangesDiscarded() {
+        // GIVEN
+        final List<Runnable> pending = new ArrayList<>();
+        final TimeEntryChangeHub hub = new TimeEntryChangeHub(pending::add, 4);
+        final List<TimeEntryChange> received = new ArrayList<>();
+        final StreamSubscription subscription = hub.subscribe(FIRM_ID, received::add);
+        hub.publish(change(FIRM_ID));
+
+        // WHEN
+        subscription.close();
+        subscription.close();
+        hub.publish(change(FIRM_ID));
+        pending.forEach(Runnable::run);
+
+        // THEN
+        assertThat(received).isEmpty();
+        assertThat(hub.subscriberCount(FIRM_ID)).isZero();
+    }
+
+    @Test
+    void GIVEN_nonPositiveBufferSize_WHEN_constructed_THEN_throwsIllegalArgumentException() {
+        // WHEN & THEN
+        assertThatThrownBy(() -> new TimeEntryChangeHub(Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TimeEntryChange change(final UUID firmId) {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryChange(
+                firmId,
+                ChangeType.UPDATED,
+                new TimeEntryView(
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                        "Drafted motion", 90, EntryStatus.DRAFT, now, now, null));
+    }
+}
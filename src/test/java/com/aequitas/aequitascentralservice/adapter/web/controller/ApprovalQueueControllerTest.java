@@ -0,0 +1,118 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryPageResponse;
+import com.aequitas.aequitascentralservice.app.port.inbound.ApprovalQueueQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+/**
+ * Unit tests for {@link ApprovalQueueController}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApprovalQueueControllerTest {
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+    @Mock
+    private ApprovalQueueQueryPort queryPort;
+
+    @Mock
+    private StreamSubscription subscription;
+
+    @Captor
+    private ArgumentCaptor<PageRequest> pageRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<Consumer<TimeEntryView>> listenerCaptor;
+
+    private ApprovalQueueController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ApprovalQueueController(queryPort, STREAM_TIMEOUT);
+    }
+
+    @Test
+    void GIVEN_queuedEntries_WHEN_list_THEN_pageResponseReturnedAndArgumentsForwarded() {
+        // GIVEN
+        final TimeEntryView item = view();
+        when(queryPort.list(any(PageRequest.class)))
+                .thenReturn(new PageResult<>(List.of(item), item.id().toString(), 4, true));
+
+        // WHEN
+        final ResponseEntity<TimeEntryPageResponse> response = controller.list(1, "cursor-1");
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getItems()).hasSize(1);
+        assertThat(response.getBody().getItems().get(0).getId()).isEqualTo(item.id());
+        assertThat(response.getBody().getTotal()).isEqualTo(4);
+        assertThat(response.getBody().getNextCursor()).isEqualTo(item.id().toString());
+        assertThat(response.getBody().getHasMore()).isTrue();
+        verify(queryPort).list(pageRequestCaptor.capture());
+        assertThat(pageRequestCaptor.getValue().limit()).isEqualTo(1);
+        assertThat(pageRequestCaptor.getValue().cursor()).isEqualTo("cursor-1");
+        verifyNoMoreInteractions(queryPort);
+    }
+
+    @Test
+    void GIVEN_employee_WHEN_list_THEN_exceptionPropagates() {
+        // GIVEN
+        when(queryPort.list(any(PageRequest.class)))
+                .thenThrow(new IllegalStateException("Employees cannot view the approval queue"));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> controller.list(20, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void GIVEN_stream_WHEN_entrySubmitted_THEN_subscribedAndEventSent() {
+        // GIVEN
+        when(queryPort.subscribe(listenerCaptor.capture())).thenReturn(subscription);
+
+        // WHEN
+        final SseEmitter emitter = controller.stream();
+
+        // THEN
+        assertThat(emitter.getTimeout()).isEqualTo(STREAM_TIMEOUT.toMillis());
+        assertThatCode(() -> listenerCaptor.getValue().accept(view())).doesNotThrowAnyException();
+        verify(queryPort).subscribe(any());
+        verifyNoMoreInteractions(queryPort, subscription);
+    }
+
+    private TimeEntryView view() {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryView(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                "Drafted motion", 90, EntryStatus.SUBMITTED, now, now, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedResponse;
+import com.aequitas.aequitascentralservice.app.port.inbound.ChangeFeedQueryPort;
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+
+/**
+ * Unit tests for {@link ChangeFeedController}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedControllerTest {
+
+    @Mock
+    private ChangeFeedQueryPort queryPort;
+
+    @Test
+    void GIVEN_caughtUpConsumer_WHEN_read_THEN_emptyPageWithSameSequence() {
+        // GIVEN
+        final ChangeFeedController controller =
+                new ChangeFeedController(queryPort, new JacksonConfig().objectMapper());
+        when(queryPort.read(42L, 100)).thenReturn(new FeedPage<OutboxMessage>(List.of(), 42L, false));
+
+        // WHEN
+        final ResponseEntity<ChangeFeedResponse> response = controller.read(42L, 100);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getItems()).isEmpty();
+        assertThat(response.getBody().getLastSequence()).isEqualTo(42L);
+        assertThat(response.getBody().getHasMore()).isFalse();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -27,6 +28,7 @@ import com.aequitas.aequitascentralservice.adapter.web.generated.dto.FirmPageRes
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.FirmResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.IdResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateFirmRequest;
+import com.aequitas.aequitascentralservice.adapter.web.http.EntityTags;
 import com.aequitas.aequitascentralservice.app.port.inbound.FirmCommandPort;
 import com.aequitas.aequitascentralservice.app.port.inbound.FirmQueryPort;
 import com.aequitas.aequitascentralservice.domain.command.CreateFirmCommand;
@@ -63,7 +65,7 @@ class FirmControllerTest {
         when(queryPort.getCurrentUserFirm()).thenReturn(firm);
 
         // WHEN
-        final ResponseEntity<FirmResponse> response = controller.getCurrentUserFirm();
+        final ResponseEntity<FirmResponse> response = controller.getCurrentUserFirm(null);
 
         // THEN
         assertNotNull(response);
@@ -71,10 +73,42 @@ class FirmControllerTest {
         assertNotNull(response.getBody());
         assertEquals(FIRM_ID, response.getBody().getId());
         assertEquals(FIRM_NAME, response.getBody().getName());
+        assertEquals(EntityTags.of(FIRM_ID, firm.getUpdatedAt()), response.getHeaders().getETag());
         verify(queryPort, times(1)).getCurrentUserFirm();
         verifyNoMoreInteractions(queryPort, commandPort);
     }
 
+    @Test
+    void GIVEN_matchingIfNoneMatch_WHEN_getCurrentUserFirm_THEN_returns304WithoutBody() {
+        // GIVEN
+        final Firm firm = createFirm(FIRM_ID);
+        final String eTag = EntityTags.of(FIRM_ID, firm.getUpdatedAt());
+        when(queryPort.getCurrentUserFirm()).thenReturn(firm);
+
+        // WHEN
+        final ResponseEntity<FirmResponse> response = controller.getCurrentUserFirm(eTag);
+
+        // THEN
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void GIVEN_staleIfNoneMatch_WHEN_getCurrentUserFirm_THEN_returnsFirm() {
+        // GIVEN
+        final Firm firm = createFirm(FIRM_ID);
+        final String staleTag = EntityTags.of(FIRM_ID, firm.getUpdatedAt().minusSeconds(60));
+        when(queryPort.getCurrentUserFirm()).thenReturn(firm);
+
+        // WHEN
+        final ResponseEntity<FirmResponse> response = controller.getCurrentUserFirm(staleTag);
+
+        // THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
     // ==================== getFirmById() Tests ====================
 
     @Test
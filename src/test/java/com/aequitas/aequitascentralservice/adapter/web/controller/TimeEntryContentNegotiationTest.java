@@ -0,0 +1,100 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryCommandPort;
+import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
+import com.aequitas.aequitascentralservice.app.service.IdempotencyService;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+
+/**
+ * Response format negotiation for {@link TimeEntryController} through the MVC converter chain.
+ *
+ * <p>JSON must stay the representation for wildcard and missing {@code Accept} headers; Smile is
+ * only served to clients that ask for it explicitly.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimeEntryContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final UUID ENTRY_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private TimeEntryCommandPort commandPort;
+    @Mock
+    private TimeEntryQueryPort queryPort;
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @InjectMocks
+    private TimeEntryController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        when(queryPort.findById(ENTRY_ID)).thenReturn(Optional.of(
+                TimeEntry.draft(ENTRY_ID, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        UUID.randomUUID(), null, "Reviewed contract amendments", 90, now)));
+    }
+
+    @Test
+    void GIVEN_wildcardAccept_WHEN_findById_THEN_respondsWithJson() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/api/v1/entries/{id}", ENTRY_ID).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(ENTRY_ID.toString()));
+    }
+
+    @Test
+    void GIVEN_noAcceptHeader_WHEN_findById_THEN_respondsWithJson() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/api/v1/entries/{id}", ENTRY_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void GIVEN_browserAccept_WHEN_findById_THEN_respondsWithJson() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/api/v1/entries/{id}", ENTRY_ID)
+                        .header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void GIVEN_smileAccept_WHEN_findById_THEN_respondsWithSmile() throws Exception {
+        // WHEN
+        MvcResult result = mockMvc.perform(get("/api/v1/entries/{id}", ENTRY_ID).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        // THEN
+        assertThat(result.getResponse().getContentAsByteArray()).startsWith((byte) ':', (byte) ')', (byte) '\n');
+    }
+}
@@ -3,11 +3,14 @@ package com.aequitas.aequitascentralservice.adapter.web.controller;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -26,18 +29,26 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.BatchGetTimeEntriesRequest;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.BatchGetTimeEntriesResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.CreateTimeEntryRequest;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.IdResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.SparseTimeEntryPageResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryLookupResult;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryPageResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.TimeEntryResponse;
 import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateTimeEntryRequest;
+import com.aequitas.aequitascentralservice.adapter.web.http.EntityTags;
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryCommandPort;
 import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
 import com.aequitas.aequitascentralservice.app.service.IdempotencyService;
 import com.aequitas.aequitascentralservice.domain.command.CreateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateTimeEntryCommand;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
@@ -163,7 +174,7 @@ class TimeEntryControllerTest {
         request.setDurationMinutes(UPDATED_DURATION);
 
         // WHEN
-        ResponseEntity<Void> response = controller.update(ENTRY_ID, request);
+        ResponseEntity<Void> response = controller.update(ENTRY_ID, null, request);
 
         // THEN
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -174,6 +185,48 @@ class TimeEntryControllerTest {
         assertEquals(Optional.of(MATTER_ID), command.matterId());
         assertEquals(Optional.of(UPDATED_NARRATIVE), command.narrative());
         assertEquals(Optional.of(UPDATED_DURATION), command.durationMinutes());
+        assertEquals(Optional.empty(), command.expectedUpdatedAt());
+        verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
+    }
+
+    @Test
+    void GIVEN_ifMatchHeader_WHEN_update_THEN_commandCarriesExpectedVersion() {
+        // GIVEN
+        Instant observed = Instant.parse("2025-01-01T10:00:00Z");
+        UpdateTimeEntryRequest request = new UpdateTimeEntryRequest();
+        request.setNarrative(UPDATED_NARRATIVE);
+
+        // WHEN
+        ResponseEntity<Void> response = controller.update(ENTRY_ID, EntityTags.of(ENTRY_ID, observed), request);
+
+        // THEN
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(commandPort, times(1)).update(eq(ENTRY_ID), updateCommandCaptor.capture());
+        assertEquals(Optional.of(observed), updateCommandCaptor.getValue().expectedUpdatedAt());
+    }
+
+    @Test
+    void GIVEN_wildcardIfMatch_WHEN_update_THEN_updateIsUnconditional() {
+        // GIVEN
+        UpdateTimeEntryRequest request = new UpdateTimeEntryRequest();
+
+        // WHEN
+        controller.update(ENTRY_ID, "*", request);
+
+        // THEN
+        verify(commandPort, times(1)).update(eq(ENTRY_ID), updateCommandCaptor.capture());
+        assertEquals(Optional.empty(), updateCommandCaptor.getValue().expectedUpdatedAt());
+    }
+
+    @Test
+    void GIVEN_ifMatchForOtherEntry_WHEN_update_THEN_versionConflictThrown() {
+        // GIVEN
+        UpdateTimeEntryRequest request = new UpdateTimeEntryRequest();
+        String foreignTag = EntityTags.of(CUSTOMER_ID, Instant.parse("2025-01-01T10:00:00Z"));
+
+        // WHEN / THEN
+        assertThrows(VersionConflictException.class, () -> controller.update(ENTRY_ID, foreignTag, request));
+        assertThrows(VersionConflictException.class, () -> controller.update(ENTRY_ID, "W/\"weak\"", request));
         verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
     }
 
@@ -222,23 +275,41 @@ class TimeEntryControllerTest {
         when(queryPort.findById(entry.getId())).thenReturn(Optional.of(entry));
 
         // WHEN
-        ResponseEntity<TimeEntryResponse> response = controller.findById(entry.getId());
+        ResponseEntity<TimeEntryResponse> response = controller.findById(entry.getId(), null);
 
         // THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(entry.getId(), response.getBody().getId());
+        assertEquals(EntityTags.of(entry.getId(), entry.getUpdatedAt()), response.getHeaders().getETag());
+        assertEquals(entry.getUpdatedAt().toEpochMilli(), response.getHeaders().getLastModified());
         verify(queryPort, times(1)).findById(entry.getId());
         verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
     }
 
+    @Test
+    void GIVEN_currentETag_WHEN_findById_THEN_returnsNotModified() {
+        // GIVEN
+        TimeEntry entry = sampleEntry(EntryStatus.SUBMITTED);
+        String eTag = EntityTags.of(entry.getId(), entry.getUpdatedAt());
+        when(queryPort.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        // WHEN
+        ResponseEntity<TimeEntryResponse> response = controller.findById(entry.getId(), eTag);
+
+        // THEN
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().getETag());
+    }
+
     @Test
     void GIVEN_missingEntry_WHEN_findById_THEN_returnsNotFound() {
         // GIVEN
         when(queryPort.findById(ENTRY_ID)).thenReturn(Optional.empty());
 
         // WHEN
-        ResponseEntity<TimeEntryResponse> response = controller.findById(ENTRY_ID);
+        ResponseEntity<TimeEntryResponse> response = controller.findById(ENTRY_ID, null);
 
         // THEN
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -246,16 +317,42 @@ class TimeEntryControllerTest {
         verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
     }
 
+    @Test
+    void GIVEN_foundAndMissingIds_WHEN_batchGet_THEN_resultsFollowRequestOrder() {
+        // GIVEN
+        TimeEntry entry = sampleEntry(EntryStatus.DRAFT);
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(missingId, entry.getId());
+        when(queryPort.findAllById(ids)).thenReturn(List.of(Optional.empty(), Optional.of(entry)));
+
+        // WHEN
+        ResponseEntity<BatchGetTimeEntriesResponse> response
+                = controller.batchGet(new BatchGetTimeEntriesRequest(ids));
+
+        // THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<TimeEntryLookupResult> items = response.getBody().getItems();
+        assertEquals(2, items.size());
+        assertEquals(missingId, items.get(0).getId());
+        assertFalse(items.get(0).getFound());
+        assertNull(items.get(0).getEntry());
+        assertEquals(entry.getId(), items.get(1).getId());
+        assertTrue(items.get(1).getFound());
+        assertEquals(NARRATIVE, items.get(1).getEntry().getNarrative());
+        verify(queryPort, times(1)).findAllById(ids);
+        verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
+    }
+
     @Test
     void GIVEN_filters_WHEN_search_THEN_pageResponseReturnedAndArgumentsForwarded() {
         // GIVEN
-        TimeEntry entry = sampleEntry(EntryStatus.SUBMITTED);
-        PageResult<TimeEntry> page = new PageResult<>(List.of(entry), "cursor-2", 1, true);
+        TimeEntryView entry = sampleView(EntryStatus.SUBMITTED);
+        PageResult<TimeEntryView> page = new PageResult<>(List.of(entry), "cursor-2", 1, true);
         when(queryPort.search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any())).thenReturn(page);
 
         // WHEN
         ResponseEntity<TimeEntryPageResponse> response = controller.search(CUSTOMER_ID, PROJECT_ID,
-                "submitted", USER_ID, 25, CURSOR);
+                "submitted", USER_ID, null, null, null, 25, CURSOR);
 
         // THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -281,7 +378,7 @@ class TimeEntryControllerTest {
         // WHEN
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> controller.search(null, null, "bad", null, 10, null));
+                () -> controller.search(null, null, "bad", null, null, null, null, 10, null));
 
         // THEN
         assertEquals(
@@ -290,15 +387,48 @@ class TimeEntryControllerTest {
         verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
     }
 
+    @Test
+    void GIVEN_fieldsParameter_WHEN_searchFields_THEN_returnsOnlySelectedProperties() {
+        // GIVEN
+        TimeEntryView entry = sampleView(EntryStatus.SUBMITTED);
+        PageResult<TimeEntryView> page = new PageResult<>(List.of(entry), "cursor-2", 3, true);
+        Set<TimeEntryField> fields = TimeEntryField.parse("status,durationMinutes");
+        when(queryPort.search(org.mockito.ArgumentMatchers.any(), eq(fields), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(page);
+
+        // WHEN
+        ResponseEntity<SparseTimeEntryPageResponse> response = controller.searchFields(
+                "status,durationMinutes", CUSTOMER_ID, null, null, null, null, null, null, 10, null);
+
+        // THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SparseTimeEntryPageResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(List.of("id", "durationMinutes", "status"), List.copyOf(body.getItems().get(0).keySet()));
+        assertEquals("cursor-2", body.getNextCursor());
+        verify(queryPort, times(1)).search(filterCaptor.capture(), eq(fields), pageRequestCaptor.capture());
+        assertEquals(Optional.of(CUSTOMER_ID), filterCaptor.getValue().customerId());
+        verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
+    }
+
+    @Test
+    void GIVEN_unknownField_WHEN_searchFields_THEN_throwsIllegalArgumentException() {
+        // WHEN / THEN
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> controller.searchFields("status,secret", null, null, null, null, null, null, null, 10, null));
+        verifyNoMoreInteractions(commandPort, queryPort, idempotencyService);
+    }
+
     @Test
     void GIVEN_nullStatusParameter_WHEN_search_THEN_searchesAllStatuses() {
         // GIVEN
-        TimeEntry entry = sampleEntry(EntryStatus.DRAFT);
-        PageResult<TimeEntry> page = new PageResult<>(List.of(entry), null, 1, false);
+        TimeEntryView entry = sampleView(EntryStatus.DRAFT);
+        PageResult<TimeEntryView> page = new PageResult<>(List.of(entry), null, 1, false);
         when(queryPort.search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any())).thenReturn(page);
 
         // WHEN
-        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, null, null, 10, null);
+        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, null, null, null, null, null, 10, null);
 
         // THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -312,12 +442,12 @@ class TimeEntryControllerTest {
     @Test
     void GIVEN_blankStatusParameter_WHEN_search_THEN_searchesAllStatuses() {
         // GIVEN
-        TimeEntry entry = sampleEntry(EntryStatus.APPROVED);
-        PageResult<TimeEntry> page = new PageResult<>(List.of(entry), null, 1, false);
+        TimeEntryView entry = sampleView(EntryStatus.APPROVED);
+        PageResult<TimeEntryView> page = new PageResult<>(List.of(entry), null, 1, false);
         when(queryPort.search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any())).thenReturn(page);
 
         // WHEN
-        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, "  ", null, 10, null);
+        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, "  ", null, null, null, null, 10, null);
 
         // THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -331,12 +461,12 @@ class TimeEntryControllerTest {
     @Test
     void GIVEN_lowerCaseStatus_WHEN_search_THEN_parsesCaseInsensitively() {
         // GIVEN
-        TimeEntry entry = sampleEntry(EntryStatus.SUBMITTED);
-        PageResult<TimeEntry> page = new PageResult<>(List.of(entry), null, 1, false);
+        TimeEntryView entry = sampleView(EntryStatus.SUBMITTED);
+        PageResult<TimeEntryView> page = new PageResult<>(List.of(entry), null, 1, false);
         when(queryPort.search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any())).thenReturn(page);
 
         // WHEN
-        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, "draft", null, 10, null);
+        ResponseEntity<TimeEntryPageResponse> response = controller.search(null, null, "draft", null, null, null, null, 10, null);
 
         // THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -361,6 +491,23 @@ class TimeEntryControllerTest {
                 now,
                 now,
                 USER_ID,
+                now,
+                0L);
+    }
+
+    private TimeEntryView sampleView(final EntryStatus status) {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        return new TimeEntryView(
+                ENTRY_ID,
+                CUSTOMER_ID,
+                PROJECT_ID,
+                MATTER_ID,
+                USER_ID,
+                NARRATIVE,
+                DURATION,
+                status,
+                now,
+                now,
                 now);
     }
 }
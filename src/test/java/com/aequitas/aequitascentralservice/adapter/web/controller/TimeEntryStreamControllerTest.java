@@ -0,0 +1,76 @@
+package com.aequitas.aequitascentralservice.adapter.web.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aequitas.aequitascentralservice.app.port.inbound.TimeEntryQueryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+/**
+ * Unit tests for {@link TimeEntryStreamController}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimeEntryStreamControllerTest {
+
+    @Mock
+    private TimeEntryQueryPort queryPort;
+
+    @Mock
+    private StreamSubscription subscription;
+
+    @Captor
+    private ArgumentCaptor<Consumer<TimeEntryChange>> listenerCaptor;
+
+    @Test
+    void GIVEN_stream_WHEN_changeArrives_THEN_subscribedWithTimeoutAndEventSent() {
+        // GIVEN
+        final TimeEntryStreamController controller =
+                new TimeEntryStreamController(queryPort, Duration.ofMinutes(5));
+        when(queryPort.subscribe(listenerCaptor.capture())).thenReturn(subscription);
+
+        // WHEN
+        final SseEmitter emitter = controller.stream();
+
+        // THEN
+        assertThat(emitter.getTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+        assertThatCode(() -> listenerCaptor.getValue().accept(change(ChangeType.APPROVED)))
+                .doesNotThrowAnyException();
+        verifyNoMoreInteractions(subscription);
+    }
+
+    @Test
+    void GIVEN_changeTypes_WHEN_eventName_THEN_prefixedLowercaseType() {
+        // WHEN & THEN
+        assertThat(TimeEntryStreamController.eventName(change(ChangeType.CREATED))).isEqualTo("entry-created");
+        assertThat(TimeEntryStreamController.eventName(change(ChangeType.SUBMITTED))).isEqualTo("entry-submitted");
+    }
+
+    private TimeEntryChange change(final ChangeType type) {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryChange(
+                UUID.randomUUID(),
+                type,
+                new TimeEntryView(
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                        "Drafted motion", 90, EntryStatus.APPROVED, now, now, now));
+    }
+}
@@ -21,6 +21,11 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import com.aequitas.aequitascentralservice.domain.exception.DomainArgumentException;
+import com.aequitas.aequitascentralservice.domain.exception.DomainException;
+import com.aequitas.aequitascentralservice.domain.exception.ErrorCode;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
+
 /**
  * Test suite for {@link GlobalExceptionHandler}.
  * Ensures 100% line, branch, and mutation coverage.
@@ -152,6 +157,68 @@ class GlobalExceptionHandlerTest {
         assertThat(details).isEmpty();
     }
 
+    // ========== handleDomain Tests ==========
+
+    @Test
+    void GIVEN_notFoundCodeInDevEnv_WHEN_handleDomain_THEN_returnsBadRequestWithCodeAndNoStackTrace() throws Exception {
+        // GIVEN
+        setEnvironment("dev");
+        final DomainException ex = (DomainException) ErrorCode.TIME_ENTRY_NOT_FOUND.toException();
+
+        // WHEN
+        final ResponseEntity<ErrorMessage> response = handler.handleDomain(ex);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        final ErrorMessage result = response.getBody();
+        assertThat(result).isNotNull();
+        assertThat(result.getMessage()).isEqualTo("Invalid argument");
+        assertThat(result.getError()).isEqualTo("class " + DomainArgumentException.class.getName());
+        assertThat(result.getStackTrace()).isNull();
+        assertThat(result.getThrowable()).isNull();
+
+        final ProblemDetail problemDetail = result.getProblemDetail();
+        assertThat(problemDetail.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(problemDetail.getTitle()).isEqualTo("VALIDATION");
+        assertThat(problemDetail.getDetail()).isEqualTo("Time entry not found");
+        assertThat(problemDetail.getProperties()).containsEntry("code", "TIME_ENTRY_NOT_FOUND");
+    }
+
+    @Test
+    void GIVEN_conflictCode_WHEN_handleDomain_THEN_returnsConflict() {
+        // GIVEN
+        final DomainException ex = (DomainException) ErrorCode.NOT_ENTRY_OWNER.toException();
+
+        // WHEN
+        final ResponseEntity<ErrorMessage> response = handler.handleDomain(ex);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("Conflict state");
+        assertThat(response.getBody().getProblemDetail().getTitle()).isEqualTo("CONFLICT");
+        assertThat(response.getBody().getProblemDetail().getProperties()).containsEntry("code", "NOT_ENTRY_OWNER");
+    }
+
+    @Test
+    void GIVEN_sameCodeTwice_WHEN_handleDomain_THEN_buildsIndependentBodies() {
+        // GIVEN
+        final ResponseEntity<ErrorMessage> first
+                = handler.handleDomain((DomainException) ErrorCode.FIRM_NOT_FOUND.toException());
+        first.getBody().getProblemDetail().setProperty("instance", "/api/v1/firms/me");
+        first.getBody().setMessage("changed downstream");
+
+        // WHEN
+        final ResponseEntity<ErrorMessage> second
+                = handler.handleDomain((DomainException) ErrorCode.FIRM_NOT_FOUND.toException());
+
+        // THEN
+        assertThat(second.getBody()).isNotSameAs(first.getBody());
+        assertThat(second.getBody().getMessage()).isEqualTo("Invalid argument");
+        assertThat(second.getBody().getProblemDetail().getProperties())
+                .containsOnlyKeys("code")
+                .containsEntry("code", "FIRM_NOT_FOUND");
+    }
+
     // ========== handleIllegalArgument Tests ==========
 
     @Test
@@ -233,6 +300,29 @@ class GlobalExceptionHandlerTest {
         assertThat(problemDetail.getDetail()).isEmpty();
     }
 
+    // ========== handleVersionConflict Tests ==========
+
+    @Test
+    void GIVEN_versionConflictInProdEnv_WHEN_handleVersionConflict_THEN_returnsPreconditionFailed() throws Exception {
+        // GIVEN
+        setEnvironment("prod");
+        final VersionConflictException ex = new VersionConflictException("Time entry was modified by another request");
+
+        // WHEN
+        final ResponseEntity<ErrorMessage> response = handler.handleVersionConflict(ex);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        final ErrorMessage result = response.getBody();
+        assertThat(result).isNotNull();
+        assertThat(result.getMessage()).isEqualTo("Precondition failed");
+        assertThat(result.getStackTrace()).isNull();
+        final ProblemDetail problemDetail = result.getProblemDetail();
+        assertThat(problemDetail.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        assertThat(problemDetail.getTitle()).isEqualTo("PRECONDITION_FAILED");
+        assertThat(problemDetail.getDetail()).isEqualTo("Time entry was modified by another request");
+    }
+
     // ========== handleIllegalState Tests ==========
 
     @Test
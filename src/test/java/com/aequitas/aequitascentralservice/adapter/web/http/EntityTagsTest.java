@@ -0,0 +1,75 @@
+package com.aequitas.aequitascentralservice.adapter.web.http;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EntityTags} covering tag generation, matching, and parsing.
+ */
+class EntityTagsTest {
+
+    private static final UUID ID = UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479");
+    private static final Instant UPDATED_AT = Instant.parse("2025-11-15T10:30:00Z");
+
+    @Test
+    void GIVEN_idAndTimestamp_WHEN_of_THEN_returnsQuotedStrongTag() {
+        // WHEN
+        final String tag = EntityTags.of(ID, UPDATED_AT);
+
+        // THEN
+        assertThat(tag).isEqualTo("\"" + ID + "@2025-11-15T10:30:00Z\"");
+    }
+
+    @Test
+    void GIVEN_matchingTagInList_WHEN_matchesAny_THEN_returnsTrue() {
+        // GIVEN
+        final String current = EntityTags.of(ID, UPDATED_AT);
+
+        // WHEN / THEN
+        assertThat(EntityTags.matchesAny("\"other\", " + current, current)).isTrue();
+        assertThat(EntityTags.matchesAny("W/" + current, current)).isTrue();
+        assertThat(EntityTags.matchesAny("*", current)).isTrue();
+    }
+
+    @Test
+    void GIVEN_absentOrDifferentTag_WHEN_matchesAny_THEN_returnsFalse() {
+        // GIVEN
+        final String current = EntityTags.of(ID, UPDATED_AT);
+
+        // WHEN / THEN
+        assertThat(EntityTags.matchesAny(null, current)).isFalse();
+        assertThat(EntityTags.matchesAny(" ", current)).isFalse();
+        assertThat(EntityTags.matchesAny(EntityTags.of(ID, UPDATED_AT.plusSeconds(1)), current)).isFalse();
+    }
+
+    @Test
+    void GIVEN_strongTag_WHEN_parse_THEN_returnsVersion() {
+        // WHEN
+        final EntityTags.Version version = EntityTags.parse(EntityTags.of(ID, UPDATED_AT));
+
+        // THEN
+        assertThat(version).isEqualTo(new EntityTags.Version(ID, UPDATED_AT));
+    }
+
+    @Test
+    void GIVEN_weakOrMalformedTag_WHEN_parse_THEN_returnsNull() {
+        // WHEN / THEN
+        assertThat(EntityTags.parse(null)).isNull();
+        assertThat(EntityTags.parse("W/" + EntityTags.of(ID, UPDATED_AT))).isNull();
+        assertThat(EntityTags.parse("\"no-separator\"")).isNull();
+        assertThat(EntityTags.parse("\"not-a-uuid@2025-11-15T10:30:00Z\"")).isNull();
+        assertThat(EntityTags.parse("unquoted")).isNull();
+    }
+
+    @Test
+    void GIVEN_wildcard_WHEN_isWildcard_THEN_returnsTrue() {
+        // WHEN / THEN
+        assertThat(EntityTags.isWildcard(" * ")).isTrue();
+        assertThat(EntityTags.isWildcard(null)).isFalse();
+        assertThat(EntityTags.isWildcard("\"tag\"")).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.aequitas.aequitascentralservice.adapter.web.mapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedEventResponse;
+import com.aequitas.aequitascentralservice.adapter.web.generated.dto.ChangeFeedResponse;
+import com.aequitas.aequitascentralservice.config.JacksonConfig;
+import com.aequitas.aequitascentralservice.domain.event.EntrySubmittedEvent;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ChangeFeedDtoMapperTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void GIVEN_storedEvent_WHEN_toResponse_THEN_envelopeAndPayloadExposed() throws Exception {
+        // GIVEN
+        final TimeEntry entry = TimeEntry.draft(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), null, "Drafted motion", 90, NOW)
+                .submit(NOW);
+        final EntrySubmittedEvent event = EntrySubmittedEvent.from(UUID.randomUUID(), entry);
+        final OutboxMessage message = OutboxMessage.builder()
+                .id(event.eventId())
+                .firmId(entry.getFirmId())
+                .aggregateId(entry.getId())
+                .eventType(event.eventType())
+                .payloadJson(objectMapper.writeValueAsString(event))
+                .occurredAt(event.occurredAt())
+                .sequence(17L)
+                .build();
+
+        // WHEN
+        final ChangeFeedResponse response =
+                ChangeFeedDtoMapper.toResponse(new FeedPage<>(List.of(message), 17L, true), objectMapper);
+
+        // THEN
+        assertThat(response.getLastSequence()).isEqualTo(17L);
+        assertThat(response.getHasMore()).isTrue();
+        final ChangeFeedEventResponse item = response.getItems().get(0);
+        assertThat(item.getSequence()).isEqualTo(17L);
+        assertThat(item.getEventId()).isEqualTo(event.eventId());
+        assertThat(item.getEventType()).isEqualTo("ENTRY_SUBMITTED.v1");
+        assertThat(item.getAggregateId()).isEqualTo(entry.getId());
+        assertThat(item.getOccurredAt()).isEqualTo(NOW);
+        assertThat(item.getPayload())
+                .containsEntry("entryId", entry.getId().toString())
+                .containsEntry("status", "SUBMITTED");
+    }
+
+    @Test
+    void GIVEN_corruptPayload_WHEN_toResponse_THEN_throwsIllegalStateException() {
+        // GIVEN
+        final OutboxMessage message = OutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .eventType("ENTRY_UPDATED.v1")
+                .payloadJson("{not json")
+                .occurredAt(NOW)
+                .sequence(1L)
+                .build();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> ChangeFeedDtoMapper.toResponse(message, objectMapper))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.aequitas.aequitascentralservice.adapter.web.mapper;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +15,8 @@ import com.aequitas.aequitascentralservice.adapter.web.generated.dto.UpdateTimeE
 import com.aequitas.aequitascentralservice.domain.command.CreateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 
 /**
  * Unit tests for {@link TimeEntryDtoMapper} covering all mapping scenarios between REST DTOs and
@@ -110,6 +113,21 @@ class TimeEntryDtoMapperTest {
         assertThat(command.matterId()).isEqualTo(Optional.of(MATTER_ID));
         assertThat(command.narrative()).isEqualTo(Optional.of(NARRATIVE));
         assertThat(command.durationMinutes()).isEqualTo(Optional.of(DURATION_MINUTES));
+        assertThat(command.expectedUpdatedAt()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_expectedUpdatedAt_WHEN_toCommand_THEN_commandCarriesPrecondition() {
+        // GIVEN
+        final Instant expected = Instant.parse("2025-01-01T10:00:00Z");
+        final UpdateTimeEntryRequest request = UpdateTimeEntryRequest.builder().narrative(NARRATIVE).build();
+
+        // WHEN
+        final UpdateTimeEntryCommand command = TimeEntryDtoMapper.toCommand(request, Optional.of(expected));
+
+        // THEN
+        assertThat(command.narrative()).isEqualTo(Optional.of(NARRATIVE));
+        assertThat(command.expectedUpdatedAt()).contains(expected);
     }
 
     @Test
@@ -177,7 +195,8 @@ class TimeEntryDtoMapperTest {
                         TIMESTAMP,
                         TIMESTAMP,
                         null,
-                        null);
+                        null,
+                        0L);
 
         // WHEN
         final TimeEntryResponse response = TimeEntryDtoMapper.toResponse(entry);
@@ -214,7 +233,8 @@ class TimeEntryDtoMapperTest {
                         TIMESTAMP,
                         TIMESTAMP,
                         null,
-                        null);
+                        null,
+                        0L);
 
         // WHEN
         final TimeEntryResponse response = TimeEntryDtoMapper.toResponse(entry);
@@ -242,7 +262,8 @@ class TimeEntryDtoMapperTest {
                         TIMESTAMP,
                         TIMESTAMP,
                         USER_ID,
-                        approvedAt);
+                        approvedAt,
+                        0L);
 
         // WHEN
         final TimeEntryResponse response = TimeEntryDtoMapper.toResponse(entry);
@@ -270,7 +291,8 @@ class TimeEntryDtoMapperTest {
                         TIMESTAMP,
                         TIMESTAMP,
                         null,
-                        null);
+                        null,
+                        0L);
 
         // WHEN
         final TimeEntryResponse response = TimeEntryDtoMapper.toResponse(entry);
@@ -279,4 +301,57 @@ class TimeEntryDtoMapperTest {
         assertThat(response).isNotNull();
         assertThat(response.getMatterId()).isNull();
     }
+
+    @Test
+    void GIVEN_approvedTimeEntryView_WHEN_toResponse_THEN_returnsResponseWithAllFieldsMapped() {
+        // GIVEN
+        final Instant approvedAt = TIMESTAMP.plusSeconds(3600);
+        final TimeEntryView view = new TimeEntryView(
+                ENTRY_ID,
+                CUSTOMER_ID,
+                PROJECT_ID,
+                MATTER_ID,
+                USER_ID,
+                NARRATIVE,
+                DURATION_MINUTES,
+                com.aequitas.aequitascentralservice.domain.value.EntryStatus.APPROVED,
+                TIMESTAMP,
+                TIMESTAMP,
+                approvedAt);
+
+        // WHEN
+        final TimeEntryResponse response = TimeEntryDtoMapper.toResponse(view);
+
+        // THEN
+        assertThat(response.getId()).isEqualTo(ENTRY_ID);
+        assertThat(response.getCustomerId()).isEqualTo(CUSTOMER_ID);
+        assertThat(response.getProjectId()).isEqualTo(PROJECT_ID);
+        assertThat(response.getMatterId()).isEqualTo(MATTER_ID);
+        assertThat(response.getUserId()).isEqualTo(USER_ID);
+        assertThat(response.getNarrative()).isEqualTo(NARRATIVE);
+        assertThat(response.getDurationMinutes()).isEqualTo(DURATION_MINUTES);
+        assertThat(response.getStatus()).isEqualTo(EntryStatus.APPROVED);
+        assertThat(response.getCreatedAt()).isEqualTo(TIMESTAMP);
+        assertThat(response.getUpdatedAt()).isEqualTo(TIMESTAMP);
+        assertThat(response.getApprovedAt()).isEqualTo(approvedAt);
+    }
+
+    @Test
+    void GIVEN_fieldSelection_WHEN_toSparseResponse_THEN_containsOnlySelectedPropertiesInOrder() {
+        // GIVEN
+        final TimeEntryView view = new TimeEntryView(
+                ENTRY_ID, null, PROJECT_ID, null, null, null, DURATION_MINUTES,
+                com.aequitas.aequitascentralservice.domain.value.EntryStatus.SUBMITTED, null, null, null);
+
+        // WHEN
+        final Map<String, Object> response = TimeEntryDtoMapper.toSparseResponse(
+                view, TimeEntryField.parse("status, projectId,durationMinutes"));
+
+        // THEN
+        assertThat(response).containsExactly(
+                Map.entry("id", ENTRY_ID),
+                Map.entry("projectId", PROJECT_ID),
+                Map.entry("durationMinutes", DURATION_MINUTES),
+                Map.entry("status", EntryStatus.SUBMITTED));
+    }
 }
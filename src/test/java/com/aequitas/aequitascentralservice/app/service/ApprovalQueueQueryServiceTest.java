@@ -0,0 +1,113 @@
+package com.aequitas.aequitascentralservice.app.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ApprovalQueuePort;
+import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
+import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
+import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+
+/**
+ * Unit tests for {@link ApprovalQueueQueryService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApprovalQueueQueryServiceTest {
+
+    private static final UUID FIRM_ID = UUID.randomUUID();
+
+    @Mock
+    private ApprovalQueuePort approvalQueuePort;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private TimeEntryChangePort changePort;
+
+    @Captor
+    private ArgumentCaptor<Consumer<TimeEntryChange>> listenerCaptor;
+
+    @InjectMocks
+    private ApprovalQueueQueryService service;
+
+    @Test
+    void GIVEN_manager_WHEN_list_THEN_readsFirmQueue() {
+        // GIVEN
+        final PageRequest pageRequest = new PageRequest(20, null);
+        final PageResult<TimeEntryView> page = new PageResult<>(List.of(), null, 0, false);
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.MANAGER));
+        when(approvalQueuePort.list(FIRM_ID, pageRequest)).thenReturn(page);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = service.list(pageRequest);
+
+        // THEN
+        assertThat(result).isSameAs(page);
+    }
+
+    @Test
+    void GIVEN_admin_WHEN_subscribe_THEN_onlySubmissionsOfFirmDelivered() {
+        // GIVEN
+        final List<TimeEntryView> received = new ArrayList<>();
+        final StreamSubscription subscription = () -> { };
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.ADMIN));
+        when(changePort.subscribe(eq(FIRM_ID), listenerCaptor.capture())).thenReturn(subscription);
+
+        // WHEN
+        final StreamSubscription result = service.subscribe(received::add);
+        final TimeEntryView submitted = view(EntryStatus.SUBMITTED);
+        listenerCaptor.getValue().accept(new TimeEntryChange(FIRM_ID, ChangeType.UPDATED, view(EntryStatus.DRAFT)));
+        listenerCaptor.getValue().accept(new TimeEntryChange(FIRM_ID, ChangeType.SUBMITTED, submitted));
+
+        // THEN
+        assertThat(result).isSameAs(subscription);
+        assertThat(received).containsExactly(submitted);
+    }
+
+    @Test
+    void GIVEN_employee_WHEN_listOrSubscribe_THEN_throwsIllegalStateException() {
+        // GIVEN
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.EMPLOYEE));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> service.list(new PageRequest(20, null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Employees cannot view the approval queue");
+        assertThatThrownBy(() -> service.subscribe(item -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(approvalQueuePort, changePort);
+    }
+
+    private TimeEntryView view(final EntryStatus status) {
+        final Instant now = Instant.parse("2025-11-15T10:30:00Z");
+        return new TimeEntryView(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, UUID.randomUUID(),
+                "Drafted motion", 90, status, now, now, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.aequitas.aequitascentralservice.app.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.OutboxPort;
+import com.aequitas.aequitascentralservice.domain.model.OutboxMessage;
+import com.aequitas.aequitascentralservice.domain.pagination.FeedPage;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+
+/**
+ * Unit tests for {@link ChangeFeedQueryService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedQueryServiceTest {
+
+    private static final UUID FIRM_ID = UUID.randomUUID();
+
+    @Mock
+    private OutboxPort outboxPort;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @InjectMocks
+    private ChangeFeedQueryService service;
+
+    @Test
+    void GIVEN_manager_WHEN_read_THEN_readsFirmFeedAfterSequence() {
+        // GIVEN
+        final FeedPage<OutboxMessage> page = new FeedPage<>(List.of(), 7L, false);
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.MANAGER));
+        when(outboxPort.readAfter(FIRM_ID, 7L, 50)).thenReturn(page);
+
+        // WHEN
+        final FeedPage<OutboxMessage> result = service.read(7L, 50);
+
+        // THEN
+        assertThat(result).isSameAs(page);
+    }
+
+    @Test
+    void GIVEN_employee_WHEN_read_THEN_throwsIllegalStateException() {
+        // GIVEN
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.EMPLOYEE));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> service.read(0L, 50))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Employees cannot read the change feed");
+        verifyNoInteractions(outboxPort);
+    }
+
+    @Test
+    void GIVEN_negativeSequence_WHEN_read_THEN_throwsIllegalArgumentException() {
+        // GIVEN
+        when(currentUserPort.currentUser()).thenReturn(new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.ADMIN));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> service.read(-1L, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(outboxPort);
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.security.access.AccessDeniedException;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.FirmRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.domain.command.CreateFirmCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateFirmCommand;
 import com.aequitas.aequitascentralservice.domain.model.Firm;
@@ -45,6 +46,9 @@ class FirmServiceTest {
     @Mock
     private ClockPort clockPort;
 
+    @Mock
+    private IdGeneratorPort idGeneratorPort;
+
     @InjectMocks
     private FirmService service;
 
@@ -163,11 +167,13 @@ class FirmServiceTest {
         final CurrentUser currentUser = createCurrentUser(UUID.randomUUID(), Role.ADMIN);
         final CreateFirmCommand command = createCreateCommand();
         final Instant now = Instant.now();
-        final Firm savedFirm = createFirm(UUID.randomUUID());
+        final UUID firmId = UUID.randomUUID();
+        final Firm savedFirm = createFirm(firmId);
 
         when(currentUserPort.currentUser()).thenReturn(currentUser);
         when(clockPort.now()).thenReturn(now);
-        when(repositoryPort.save(any(Firm.class))).thenReturn(savedFirm);
+        when(idGeneratorPort.nextId()).thenReturn(firmId);
+        when(repositoryPort.insert(any(Firm.class))).thenReturn(savedFirm);
 
         // WHEN
         final UUID result = service.create(command);
@@ -176,7 +182,8 @@ class FirmServiceTest {
         assertThat(result).isEqualTo(savedFirm.getId());
         verify(currentUserPort).currentUser();
         verify(clockPort).now();
-        verify(repositoryPort).save(any(Firm.class));
+        verify(idGeneratorPort).nextId();
+        verify(repositoryPort).insert(any(Firm.class));
     }
 
     @Test
@@ -208,7 +215,7 @@ class FirmServiceTest {
         final Instant now = Instant.now();
 
         when(currentUserPort.currentUser()).thenReturn(currentUser);
-        when(repositoryPort.findById(firmId)).thenReturn(Optional.of(existingFirm));
+        when(repositoryPort.findByIdForUpdate(firmId)).thenReturn(Optional.of(existingFirm));
         when(clockPort.now()).thenReturn(now);
         when(repositoryPort.save(any(Firm.class))).thenReturn(existingFirm);
 
@@ -217,7 +224,7 @@ class FirmServiceTest {
 
         // THEN
         verify(currentUserPort).currentUser();
-        verify(repositoryPort).findById(firmId);
+        verify(repositoryPort).findByIdForUpdate(firmId);
         verify(clockPort).now();
         verify(repositoryPort).save(any(Firm.class));
     }
@@ -235,7 +242,7 @@ class FirmServiceTest {
                 .build();
 
         when(currentUserPort.currentUser()).thenReturn(currentUser);
-        when(repositoryPort.findById(firmId)).thenReturn(Optional.of(existingFirm));
+        when(repositoryPort.findByIdForUpdate(firmId)).thenReturn(Optional.of(existingFirm));
 
         // WHEN & THEN
         assertThatThrownBy(() -> service.update(firmId, command))
@@ -266,7 +273,7 @@ class FirmServiceTest {
         final UpdateFirmCommand command = createUpdateCommand();
 
         when(currentUserPort.currentUser()).thenReturn(currentUser);
-        when(repositoryPort.findById(firmId)).thenReturn(Optional.empty());
+        when(repositoryPort.findByIdForUpdate(firmId)).thenReturn(Optional.empty());
 
         // WHEN & THEN
         assertThatThrownBy(() -> service.update(firmId, command))
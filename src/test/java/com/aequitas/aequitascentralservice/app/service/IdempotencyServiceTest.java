@@ -9,7 +9,6 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
@@ -28,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.IdempotencyRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.model.IdempotencyRecord;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
@@ -66,6 +66,8 @@ class IdempotencyServiceTest {
     private ClockPort clockPort;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private IdGeneratorPort idGeneratorPort;
 
     @InjectMocks
     private IdempotencyService service;
@@ -111,7 +113,7 @@ class IdempotencyServiceTest {
         verify(repositoryPort, times(1))
                 .find(TEST_OPERATION, currentUser.userId(), hashedKey);
         verify(repositoryPort, never()).save(recordCaptor.capture());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     @Test
@@ -164,6 +166,7 @@ class IdempotencyServiceTest {
         when(objectMapper.writeValueAsString(TEST_PAYLOAD)).thenReturn(TEST_PAYLOAD_JSON);
         when(repositoryPort.find(TEST_OPERATION_2, currentUser.userId(), hashedKey))
                 .thenReturn(Optional.empty());
+        when(idGeneratorPort.nextId()).thenReturn(TEST_RECORD_ID);
 
         // WHEN
         UUID result =
@@ -181,7 +184,7 @@ class IdempotencyServiceTest {
                 .find(TEST_OPERATION_2, currentUser.userId(), hashedKey);
         verify(repositoryPort, times(1)).save(recordCaptor.capture());
         IdempotencyRecord savedRecord = recordCaptor.getValue();
-        assertNotNull(savedRecord.id());
+        assertEquals(TEST_RECORD_ID, savedRecord.id());
         assertEquals(TEST_OPERATION_2, savedRecord.operation());
         assertEquals(currentUser.userId(), savedRecord.userId());
         assertEquals(currentUser.firmId(), savedRecord.firmId());
@@ -190,7 +193,7 @@ class IdempotencyServiceTest {
         assertSame(TEST_NEW_ID, savedRecord.responseId());
         assertEquals(TEST_NOW, savedRecord.createdAt());
         assertEquals(TEST_NOW.plusSeconds(86400), savedRecord.expiresAt());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     @Test
@@ -228,7 +231,7 @@ class IdempotencyServiceTest {
                 .find(TEST_OPERATION, currentUser.userId(), hashedKey);
         verify(repositoryPort, times(1)).save(recordCaptor.capture());
         IdempotencyRecord savedRecord = recordCaptor.getValue();
-        assertNotNull(savedRecord.id());
+        assertEquals(TEST_RECORD_ID, savedRecord.id());
         assertEquals(TEST_OPERATION, savedRecord.operation());
         assertEquals(currentUser.userId(), savedRecord.userId());
         assertEquals(currentUser.firmId(), savedRecord.firmId());
@@ -237,7 +240,7 @@ class IdempotencyServiceTest {
         assertSame(TEST_NEW_ID, savedRecord.responseId());
         assertEquals(TEST_NOW, savedRecord.createdAt());
         assertEquals(TEST_NOW.plusSeconds(86400), savedRecord.expiresAt());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     @Test
@@ -254,7 +257,7 @@ class IdempotencyServiceTest {
         verify(clockPort, never()).now();
         verify(repositoryPort, never()).find(TEST_OPERATION, TEST_USER_ID, null);
         verify(repositoryPort, never()).save(recordCaptor.capture());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     @Test
@@ -271,7 +274,7 @@ class IdempotencyServiceTest {
         verify(clockPort, never()).now();
         verify(repositoryPort, never()).find(TEST_OPERATION, TEST_USER_ID, hashKey(blankKey));
         verify(repositoryPort, never()).save(recordCaptor.capture());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     @Test
@@ -288,7 +291,7 @@ class IdempotencyServiceTest {
         verify(clockPort, never()).now();
         verify(repositoryPort, never()).find(TEST_OPERATION, TEST_USER_ID, hashKey(emptyKey));
         verify(repositoryPort, never()).save(recordCaptor.capture());
-        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(repositoryPort, currentUserPort, clockPort, idGeneratorPort);
     }
 
     private static String hashKey(final String key) {
@@ -14,23 +14,30 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.aequitas.aequitascentralservice.app.port.outbound.ApprovalQueuePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.CustomerRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.OutboxPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.ProjectRepositoryPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.command.CreateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.command.UpdateTimeEntryCommand;
 import com.aequitas.aequitascentralservice.domain.event.DomainEvent;
+import com.aequitas.aequitascentralservice.domain.exception.VersionConflictException;
 import com.aequitas.aequitascentralservice.domain.model.Customer;
 import com.aequitas.aequitascentralservice.domain.model.Project;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
 import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
 import com.aequitas.aequitascentralservice.domain.value.Role;
@@ -48,6 +55,7 @@ class TimeEntryCommandServiceTest {
     private static final UUID CUSTOMER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
     private static final UUID PROJECT_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
     private static final UUID MATTER_ID = UUID.fromString("00000000-0000-0000-0000-000000000005");
+    private static final UUID GENERATED_ID = UUID.fromString("00000000-0000-0000-0000-000000000006");
 
     @Mock private TimeEntryRepositoryPort timeEntryRepositoryPort;
     @Mock private CustomerRepositoryPort customerRepositoryPort;
@@ -55,9 +63,13 @@ class TimeEntryCommandServiceTest {
     @Mock private OutboxPort outboxPort;
     @Mock private CurrentUserPort currentUserPort;
     @Mock private ClockPort clockPort;
+    @Mock private IdGeneratorPort idGeneratorPort;
+    @Mock private ApprovalQueuePort approvalQueuePort;
+    @Mock private TimeEntryChangePort changePort;
 
     @Captor private ArgumentCaptor<TimeEntry> timeEntryCaptor;
     @Captor private ArgumentCaptor<DomainEvent> eventCaptor;
+    @Captor private ArgumentCaptor<TimeEntryChange> changeCaptor;
 
     private TimeEntryCommandService service;
     private CurrentUser employee;
@@ -74,7 +86,10 @@ class TimeEntryCommandServiceTest {
                 projectRepositoryPort,
                 outboxPort,
                 currentUserPort,
-                clockPort);
+                clockPort,
+                idGeneratorPort,
+                approvalQueuePort,
+                changePort);
         
         employee = new CurrentUser(USER_ID, FIRM_ID, Role.EMPLOYEE);
         manager = new CurrentUser(UUID.randomUUID(), FIRM_ID, Role.MANAGER);
@@ -92,8 +107,9 @@ class TimeEntryCommandServiceTest {
         when(clockPort.now()).thenReturn(NOW);
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
         when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
-        TimeEntry mockEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Research legal precedents", 120, NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenReturn(mockEntry);
+        when(idGeneratorPort.nextId()).thenReturn(GENERATED_ID);
+        TimeEntry mockEntry = TimeEntry.draft(GENERATED_ID, FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Research legal precedents", 120, NOW);
+        when(timeEntryRepositoryPort.insert(any(TimeEntry.class))).thenReturn(mockEntry);
 
         CreateTimeEntryCommand command = new CreateTimeEntryCommand(CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Research legal precedents", 120);
 
@@ -106,9 +122,11 @@ class TimeEntryCommandServiceTest {
         verify(customerRepositoryPort).findById(CUSTOMER_ID, FIRM_ID);
         verify(projectRepositoryPort).findById(PROJECT_ID, FIRM_ID);
         verify(clockPort).now();
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(idGeneratorPort, times(2)).nextId();
+        verify(timeEntryRepositoryPort).insert(timeEntryCaptor.capture());
         
         TimeEntry saved = timeEntryCaptor.getValue();
+        assertThat(saved.getId()).isEqualTo(GENERATED_ID);
         assertThat(saved.getFirmId()).isEqualTo(FIRM_ID);
         assertThat(saved.getUserId()).isEqualTo(USER_ID);
         assertThat(saved.getCustomerId()).isEqualTo(CUSTOMER_ID);
@@ -118,7 +136,11 @@ class TimeEntryCommandServiceTest {
         assertThat(saved.getDurationMinutes()).isEqualTo(120);
         assertThat(saved.getStatus()).isEqualTo(EntryStatus.DRAFT);
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.CREATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_CREATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -128,8 +150,9 @@ class TimeEntryCommandServiceTest {
         when(clockPort.now()).thenReturn(NOW);
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
         when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
-        TimeEntry mockEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, null, "General consulting", 60, NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenReturn(mockEntry);
+        when(idGeneratorPort.nextId()).thenReturn(GENERATED_ID);
+        TimeEntry mockEntry = TimeEntry.draft(GENERATED_ID, FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, null, "General consulting", 60, NOW);
+        when(timeEntryRepositoryPort.insert(any(TimeEntry.class))).thenReturn(mockEntry);
 
         CreateTimeEntryCommand command = new CreateTimeEntryCommand(CUSTOMER_ID, PROJECT_ID, null, "General consulting", 60);
 
@@ -138,9 +161,13 @@ class TimeEntryCommandServiceTest {
 
         // THEN
         assertThat(result).isNotNull();
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).insert(timeEntryCaptor.capture());
         assertThat(timeEntryCaptor.getValue().getMatterId()).isNull();
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.CREATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_CREATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -157,7 +184,7 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(customerRepositoryPort).findById(CUSTOMER_ID, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -176,7 +203,7 @@ class TimeEntryCommandServiceTest {
         verify(currentUserPort).currentUser();
         verify(customerRepositoryPort).findById(CUSTOMER_ID, FIRM_ID);
         verify(projectRepositoryPort).findById(PROJECT_ID, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -198,7 +225,7 @@ class TimeEntryCommandServiceTest {
         verify(currentUserPort).currentUser();
         verify(customerRepositoryPort).findById(CUSTOMER_ID, FIRM_ID);
         verify(projectRepositoryPort).findById(PROJECT_ID, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     // ==================== UPDATE TESTS ====================
@@ -206,20 +233,21 @@ class TimeEntryCommandServiceTest {
     @Test
     void GIVEN_employeeUpdatesOwnDraftEntry_WHEN_update_THEN_entryUpdatedSuccessfully() {
         // GIVEN
-        TimeEntry existingEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Old narrative", 60, NOW);
+        TimeEntry existingEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Old narrative", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(existingEntry.getId(), FIRM_ID)).thenReturn(Optional.of(existingEntry));
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
         when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("Updated narrative"),
-                Optional.of(90));
+                Optional.of(90),
+                Optional.empty());
 
         // WHEN
         service.update(existingEntry.getId(), command);
@@ -230,20 +258,24 @@ class TimeEntryCommandServiceTest {
         verify(customerRepositoryPort).findById(CUSTOMER_ID, FIRM_ID);
         verify(projectRepositoryPort).findById(PROJECT_ID, FIRM_ID);
         verify(clockPort).now();
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         
         TimeEntry updated = timeEntryCaptor.getValue();
         assertThat(updated.getNarrative()).isEqualTo("Updated narrative");
         assertThat(updated.getDurationMinutes()).isEqualTo(90);
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.UPDATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_UPDATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_employeeUpdatesOthersEntry_WHEN_update_THEN_throwsIllegalStateException() {
         // GIVEN
         UUID otherUserId = UUID.randomUUID();
-        TimeEntry otherEntry = TimeEntry.draft(FIRM_ID, otherUserId, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Other's entry", 60, NOW);
+        TimeEntry otherEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, otherUserId, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Other's entry", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(otherEntry.getId(), FIRM_ID)).thenReturn(Optional.of(otherEntry));
 
@@ -252,6 +284,7 @@ class TimeEntryCommandServiceTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("Hacked narrative"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN & THEN
@@ -261,40 +294,99 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(otherEntry.getId(), FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_managerUpdatesNonApprovedEntry_WHEN_update_THEN_entryUpdatedSuccessfully() {
         // GIVEN
-        TimeEntry submittedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
+        TimeEntry submittedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
         when(currentUserPort.currentUser()).thenReturn(manager);
         when(timeEntryRepositoryPort.findById(submittedEntry.getId(), FIRM_ID)).thenReturn(Optional.of(submittedEntry));
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
         when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("Manager edited"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN
         service.update(submittedEntry.getId(), command);
 
         // THEN
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         assertThat(timeEntryCaptor.getValue().getNarrative()).isEqualTo("Manager edited");
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(approvalQueuePort).refresh(timeEntryCaptor.getValue());
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.UPDATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_UPDATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
+    }
+
+    @Test
+    void GIVEN_staleExpectedVersion_WHEN_update_THEN_throwsVersionConflictException() {
+        // GIVEN
+        TimeEntry existingEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Old narrative", 60, NOW);
+        when(currentUserPort.currentUser()).thenReturn(employee);
+        when(timeEntryRepositoryPort.findById(existingEntry.getId(), FIRM_ID)).thenReturn(Optional.of(existingEntry));
+
+        UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of("Updated narrative"),
+                Optional.empty(),
+                Optional.of(NOW.minusSeconds(1)));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> service.update(existingEntry.getId(), command))
+                .isInstanceOf(VersionConflictException.class)
+                .hasMessage("Time entry was modified by another request");
+        verifyNoMoreInteractions(customerRepositoryPort, projectRepositoryPort, outboxPort, clockPort, approvalQueuePort, changePort);
+    }
+
+    @Test
+    void GIVEN_currentExpectedVersion_WHEN_update_THEN_entryUpdatedSuccessfully() {
+        // GIVEN
+        TimeEntry existingEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Old narrative", 60, NOW);
+        when(currentUserPort.currentUser()).thenReturn(employee);
+        when(timeEntryRepositoryPort.findById(existingEntry.getId(), FIRM_ID)).thenReturn(Optional.of(existingEntry));
+        when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
+        when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
+        when(clockPort.now()).thenReturn(NOW);
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of("Updated narrative"),
+                Optional.empty(),
+                Optional.of(existingEntry.getUpdatedAt()));
+
+        // WHEN
+        service.update(existingEntry.getId(), command);
+
+        // THEN
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
+        assertThat(timeEntryCaptor.getValue().getNarrative()).isEqualTo("Updated narrative");
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.UPDATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_UPDATED.v1");
     }
 
     @Test
     void GIVEN_adminUpdatesAnyEntry_WHEN_update_THEN_entryUpdatedSuccessfully() {
         // GIVEN
-        TimeEntry approvedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
+        TimeEntry approvedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
                 .submit(NOW)
                 .approve(manager.userId(), NOW);
         when(currentUserPort.currentUser()).thenReturn(admin);
@@ -302,28 +394,33 @@ class TimeEntryCommandServiceTest {
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
         when(projectRepositoryPort.findById(PROJECT_ID, FIRM_ID)).thenReturn(Optional.of(project));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("Admin override"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN
         service.update(approvedEntry.getId(), command);
 
         // THEN
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         assertThat(timeEntryCaptor.getValue().getNarrative()).isEqualTo("Admin override");
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.UPDATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_UPDATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_managerUpdatesApprovedEntry_WHEN_update_THEN_throwsIllegalStateException() {
         // GIVEN
-        TimeEntry approvedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
+        TimeEntry approvedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
                 .submit(NOW)
                 .approve(manager.userId(), NOW);
         when(currentUserPort.currentUser()).thenReturn(manager);
@@ -334,6 +431,7 @@ class TimeEntryCommandServiceTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("Trying to edit approved"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN & THEN
@@ -343,7 +441,7 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(approvedEntry.getId(), FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -358,6 +456,7 @@ class TimeEntryCommandServiceTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("New narrative"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN & THEN
@@ -367,7 +466,7 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(nonExistentId, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -378,19 +477,20 @@ class TimeEntryCommandServiceTest {
         Customer newCustomer = new Customer(newCustomerId, FIRM_ID, "New Customer", NOW);
         Project newProject = new Project(newProjectId, FIRM_ID, newCustomerId, "New Project", "ACTIVE", NOW);
         
-        TimeEntry existingEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Original", 60, NOW);
+        TimeEntry existingEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Original", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(existingEntry.getId(), FIRM_ID)).thenReturn(Optional.of(existingEntry));
         when(customerRepositoryPort.findById(newCustomerId, FIRM_ID)).thenReturn(Optional.of(newCustomer));
         when(projectRepositoryPort.findById(newProjectId, FIRM_ID)).thenReturn(Optional.of(newProject));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTimeEntryCommand command = new UpdateTimeEntryCommand(
                 Optional.of(newCustomerId),
                 Optional.of(newProjectId),
                 Optional.empty(),
                 Optional.empty(),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN
@@ -399,10 +499,14 @@ class TimeEntryCommandServiceTest {
         // THEN
         verify(customerRepositoryPort).findById(newCustomerId, FIRM_ID);
         verify(projectRepositoryPort).findById(newProjectId, FIRM_ID);
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         assertThat(timeEntryCaptor.getValue().getCustomerId()).isEqualTo(newCustomerId);
         assertThat(timeEntryCaptor.getValue().getProjectId()).isEqualTo(newProjectId);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.UPDATED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_UPDATED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -411,7 +515,7 @@ class TimeEntryCommandServiceTest {
         UUID wrongCustomerId = UUID.randomUUID();
         Project wrongProject = new Project(PROJECT_ID, FIRM_ID, wrongCustomerId, "Wrong Project", "ACTIVE", NOW);
         
-        TimeEntry existingEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Original", 60, NOW);
+        TimeEntry existingEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Original", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(existingEntry.getId(), FIRM_ID)).thenReturn(Optional.of(existingEntry));
         when(customerRepositoryPort.findById(CUSTOMER_ID, FIRM_ID)).thenReturn(Optional.of(customer));
@@ -422,6 +526,7 @@ class TimeEntryCommandServiceTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of("New narrative"),
+                Optional.empty(),
                 Optional.empty());
 
         // WHEN & THEN
@@ -429,7 +534,7 @@ class TimeEntryCommandServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Project does not belong to customer");
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     // ==================== SUBMIT TESTS ====================
@@ -437,11 +542,11 @@ class TimeEntryCommandServiceTest {
     @Test
     void GIVEN_employeeOwnsEntry_WHEN_submit_THEN_entrySubmittedSuccessfully() {
         // GIVEN
-        TimeEntry draftEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Draft", 60, NOW);
+        TimeEntry draftEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Draft", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(draftEntry.getId(), FIRM_ID)).thenReturn(Optional.of(draftEntry));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // WHEN
         service.submit(draftEntry.getId());
@@ -450,19 +555,24 @@ class TimeEntryCommandServiceTest {
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(draftEntry.getId(), FIRM_ID);
         verify(clockPort).now();
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         
         TimeEntry submitted = timeEntryCaptor.getValue();
         assertThat(submitted.getStatus()).isEqualTo(EntryStatus.SUBMITTED);
+        verify(approvalQueuePort).enqueue(submitted);
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.SUBMITTED);
+        verify(outboxPort).append(eq(FIRM_ID), eq(changeCaptor.getValue().entry().id()), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().eventType()).isEqualTo("ENTRY_SUBMITTED.v1");
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_employeeSubmitsOthersEntry_WHEN_submit_THEN_throwsIllegalStateException() {
         // GIVEN
         UUID otherUserId = UUID.randomUUID();
-        TimeEntry otherEntry = TimeEntry.draft(FIRM_ID, otherUserId, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Other's draft", 60, NOW);
+        TimeEntry otherEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, otherUserId, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Other's draft", 60, NOW);
         when(currentUserPort.currentUser()).thenReturn(employee);
         when(timeEntryRepositoryPort.findById(otherEntry.getId(), FIRM_ID)).thenReturn(Optional.of(otherEntry));
 
@@ -473,7 +583,7 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(otherEntry.getId(), FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -490,7 +600,7 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(nonExistentId, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     // ==================== APPROVE TESTS ====================
@@ -507,17 +617,18 @@ class TimeEntryCommandServiceTest {
                 .hasMessage("Employees cannot approve entries");
         
         verify(currentUserPort).currentUser();
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_managerApprovesSubmittedEntry_WHEN_approve_THEN_entryApprovedAndEventPublished() {
         // GIVEN
-        TimeEntry submittedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
+        TimeEntry submittedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
         when(currentUserPort.currentUser()).thenReturn(manager);
         when(timeEntryRepositoryPort.findById(submittedEntry.getId(), FIRM_ID)).thenReturn(Optional.of(submittedEntry));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idGeneratorPort.nextId()).thenReturn(GENERATED_ID);
 
         // WHEN
         service.approve(submittedEntry.getId());
@@ -526,8 +637,9 @@ class TimeEntryCommandServiceTest {
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(submittedEntry.getId(), FIRM_ID);
         verify(clockPort).now();
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         verify(outboxPort).append(eq(FIRM_ID), eq(submittedEntry.getId()), eventCaptor.capture());
+        verify(approvalQueuePort).dequeue(FIRM_ID, submittedEntry.getId());
         
         TimeEntry approved = timeEntryCaptor.getValue();
         assertThat(approved.getStatus()).isEqualTo(EntryStatus.APPROVED);
@@ -535,37 +647,44 @@ class TimeEntryCommandServiceTest {
         
         DomainEvent event = eventCaptor.getValue();
         assertThat(event.eventType()).isEqualTo("ENTRY_APPROVED.v1");
+        assertThat(event.eventId()).isEqualTo(GENERATED_ID);
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.APPROVED);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_adminApprovesSubmittedEntry_WHEN_approve_THEN_entryApprovedAndEventPublished() {
         // GIVEN
-        TimeEntry submittedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
+        TimeEntry submittedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Submitted", 60, NOW).submit(NOW);
         when(currentUserPort.currentUser()).thenReturn(admin);
         when(timeEntryRepositoryPort.findById(submittedEntry.getId(), FIRM_ID)).thenReturn(Optional.of(submittedEntry));
         when(clockPort.now()).thenReturn(NOW);
-        when(timeEntryRepositoryPort.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepositoryPort.update(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idGeneratorPort.nextId()).thenReturn(GENERATED_ID);
 
         // WHEN
         service.approve(submittedEntry.getId());
 
         // THEN
-        verify(timeEntryRepositoryPort).save(timeEntryCaptor.capture());
+        verify(timeEntryRepositoryPort).update(timeEntryCaptor.capture());
         verify(outboxPort).append(eq(FIRM_ID), eq(submittedEntry.getId()), any(DomainEvent.class));
+        verify(approvalQueuePort).dequeue(FIRM_ID, submittedEntry.getId());
         
         TimeEntry approved = timeEntryCaptor.getValue();
         assertThat(approved.getStatus()).isEqualTo(EntryStatus.APPROVED);
         assertThat(approved.getApprovedBy()).isEqualTo(admin.userId());
         
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verify(changePort).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().type()).isEqualTo(ChangeType.APPROVED);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_managerApprovesAlreadyApprovedEntry_WHEN_approve_THEN_throwsIllegalStateException() {
         // GIVEN
-        TimeEntry approvedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
+        TimeEntry approvedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
                 .submit(NOW)
                 .approve(manager.userId(), NOW);
         when(currentUserPort.currentUser()).thenReturn(manager);
@@ -578,13 +697,13 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(approvedEntry.getId(), FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
     void GIVEN_adminApprovesAlreadyApprovedEntry_WHEN_approve_THEN_entryReApprovedSuccessfully() {
         // GIVEN
-        TimeEntry approvedEntry = TimeEntry.draft(FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
+        TimeEntry approvedEntry = TimeEntry.draft(UUID.randomUUID(), FIRM_ID, USER_ID, CUSTOMER_ID, PROJECT_ID, MATTER_ID, "Approved", 60, NOW)
                 .submit(NOW)
                 .approve(manager.userId(), NOW);
         when(currentUserPort.currentUser()).thenReturn(admin);
@@ -600,7 +719,7 @@ class TimeEntryCommandServiceTest {
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(approvedEntry.getId(), FIRM_ID);
         verify(clockPort).now();
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 
     @Test
@@ -617,6 +736,6 @@ class TimeEntryCommandServiceTest {
         
         verify(currentUserPort).currentUser();
         verify(timeEntryRepositoryPort).findById(nonExistentId, FIRM_ID);
-        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort);
+        verifyNoMoreInteractions(timeEntryRepositoryPort, customerRepositoryPort, projectRepositoryPort, outboxPort, currentUserPort, clockPort, approvalQueuePort, changePort);
     }
 }
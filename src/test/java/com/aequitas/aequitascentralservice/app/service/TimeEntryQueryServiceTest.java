@@ -1,9 +1,12 @@
 package com.aequitas.aequitascentralservice.app.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,9 +23,15 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.StreamSubscription;
+import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryChangePort;
 import com.aequitas.aequitascentralservice.app.port.outbound.TimeEntryRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntry;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryChange.ChangeType;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryField;
 import com.aequitas.aequitascentralservice.domain.model.TimeEntryFilter;
+import com.aequitas.aequitascentralservice.domain.model.TimeEntryView;
 import com.aequitas.aequitascentralservice.domain.pagination.PageRequest;
 import com.aequitas.aequitascentralservice.domain.pagination.PageResult;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
@@ -38,9 +47,18 @@ class TimeEntryQueryServiceTest {
     @Mock
     private CurrentUserPort currentUserPort;
 
+    @Mock
+    private TimeEntryChangePort changePort;
+
+    @Mock
+    private StreamSubscription subscription;
+
     @Captor
     private ArgumentCaptor<TimeEntryFilter> filterCaptor;
 
+    @Captor
+    private ArgumentCaptor<Consumer<TimeEntryChange>> listenerCaptor;
+
     private TimeEntryQueryService service;
 
     private UUID firmId;
@@ -53,7 +71,7 @@ class TimeEntryQueryServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new TimeEntryQueryService(repositoryPort, currentUserPort);
+        service = new TimeEntryQueryService(repositoryPort, currentUserPort, changePort);
         
         firmId = UUID.randomUUID();
         userId = UUID.randomUUID();
@@ -163,6 +181,55 @@ class TimeEntryQueryServiceTest {
         verifyNoMoreInteractions(currentUserPort, repositoryPort);
     }
 
+    // ========== findAllById Tests ==========
+
+    @Test
+    void GIVEN_duplicateAndMissingIds_WHEN_findAllById_THEN_oneDistinctQueryAndRequestOrder() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.MANAGER);
+        final UUID missingId = UUID.randomUUID();
+        final TimeEntry entry = createTimeEntry(entryId, otherUserId);
+
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(repositoryPort.findAllById(Set.of(entryId, missingId), firmId)).thenReturn(List.of(entry));
+
+        // WHEN
+        final List<Optional<TimeEntry>> result = service.findAllById(List.of(entryId, missingId, entryId));
+
+        // THEN
+        assertThat(result).containsExactly(Optional.of(entry), Optional.empty(), Optional.of(entry));
+        verify(repositoryPort).findAllById(Set.of(entryId, missingId), firmId);
+        verifyNoMoreInteractions(repositoryPort);
+    }
+
+    @Test
+    void GIVEN_employeeUser_WHEN_findAllById_THEN_othersEntriesReportedMissing() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.EMPLOYEE);
+        final UUID otherEntryId = UUID.randomUUID();
+        final TimeEntry own = createTimeEntry(entryId, userId);
+        final TimeEntry others = createTimeEntry(otherEntryId, otherUserId);
+
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(repositoryPort.findAllById(Set.of(entryId, otherEntryId), firmId)).thenReturn(List.of(own, others));
+
+        // WHEN
+        final List<Optional<TimeEntry>> result = service.findAllById(List.of(otherEntryId, entryId));
+
+        // THEN
+        assertThat(result).containsExactly(Optional.empty(), Optional.of(own));
+    }
+
+    @Test
+    void GIVEN_noIds_WHEN_findAllById_THEN_returnsEmptyWithoutQuery() {
+        // WHEN
+        final List<Optional<TimeEntry>> result = service.findAllById(List.of());
+
+        // THEN
+        assertThat(result).isEmpty();
+        verifyNoMoreInteractions(currentUserPort, repositoryPort);
+    }
+
     // ========== search Tests ==========
 
     @Test
@@ -176,8 +243,8 @@ class TimeEntryQueryServiceTest {
                 Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final TimeEntry entry = createTimeEntry(entryId, userId);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final TimeEntryView entry = createView(entryId, userId);
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(entry), null, 1L, false
         );
         
@@ -186,7 +253,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -217,7 +284,7 @@ class TimeEntryQueryServiceTest {
                 Optional.of(otherUserId)
         );
         final PageRequest pageRequest = new PageRequest(20, "cursor123");
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), "nextCursor", 0L, false
         );
         
@@ -226,7 +293,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -253,8 +320,8 @@ class TimeEntryQueryServiceTest {
                 Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(5, null);
-        final TimeEntry entry = createTimeEntry(entryId, userId);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final TimeEntryView entry = createView(entryId, userId);
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(entry), null, 1L, false
         );
         
@@ -263,7 +330,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -280,6 +347,29 @@ class TimeEntryQueryServiceTest {
         verifyNoMoreInteractions(currentUserPort, repositoryPort);
     }
 
+    @Test
+    void GIVEN_employeeUserAndFieldSelection_WHEN_search_THEN_scopesFilterAndPassesFields() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.EMPLOYEE);
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        final Set<TimeEntryField> fields = TimeEntryField.parse("status");
+        final PageRequest pageRequest = new PageRequest(5, null);
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(List.of(), null, 0L, false);
+
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(repositoryPort.search(eq(firmId), any(TimeEntryFilter.class), eq(fields), eq(pageRequest)))
+                .thenReturn(pageResult);
+
+        // WHEN
+        final PageResult<TimeEntryView> result = service.search(filter, fields, pageRequest);
+
+        // THEN
+        assertThat(result).isEqualTo(pageResult);
+        verify(repositoryPort).search(eq(firmId), filterCaptor.capture(), eq(fields), eq(pageRequest));
+        assertThat(filterCaptor.getValue().ownerId()).isEqualTo(Optional.of(userId));
+    }
+
     @Test
     void GIVEN_employeeUserWithOwnerIdInFilter_WHEN_search_THEN_overridesOwnerIdWithCurrentUserId() {
         // GIVEN
@@ -291,7 +381,7 @@ class TimeEntryQueryServiceTest {
                 Optional.of(otherUserId) // Employee tries to search for another user's entries
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), null, 0L, false
         );
         
@@ -300,7 +390,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -314,6 +404,47 @@ class TimeEntryQueryServiceTest {
         verifyNoMoreInteractions(currentUserPort, repositoryPort);
     }
 
+    @Test
+    void GIVEN_employeeUserWithWindowAndQuery_WHEN_search_THEN_keepsCriteriaAndPinsOwner() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.EMPLOYEE);
+        final Instant from = Instant.parse("2025-11-01T00:00:00Z");
+        final Instant to = Instant.parse("2025-12-01T00:00:00Z");
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.of(customerId),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(from),
+                Optional.of(to),
+                Optional.of("deposition")
+        );
+        final PageRequest pageRequest = new PageRequest(10, null);
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
+                List.of(), null, 0L, false
+        );
+
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(repositoryPort.search(eq(firmId), any(TimeEntryFilter.class), eq(pageRequest)))
+                .thenReturn(pageResult);
+
+        // WHEN
+        service.search(filter, pageRequest);
+
+        // THEN
+        verify(currentUserPort).currentUser();
+        verify(repositoryPort).search(eq(firmId), filterCaptor.capture(), eq(pageRequest));
+
+        final TimeEntryFilter capturedFilter = filterCaptor.getValue();
+        assertThat(capturedFilter.ownerId()).isEqualTo(Optional.of(userId));
+        assertThat(capturedFilter.customerId()).isEqualTo(Optional.of(customerId));
+        assertThat(capturedFilter.createdFrom()).isEqualTo(Optional.of(from));
+        assertThat(capturedFilter.createdTo()).isEqualTo(Optional.of(to));
+        assertThat(capturedFilter.narrativeQuery()).isEqualTo(Optional.of("deposition"));
+
+        verifyNoMoreInteractions(currentUserPort, repositoryPort);
+    }
+
     @Test
     void GIVEN_adminUserWithEmptyFilter_WHEN_search_THEN_searchesWithEmptyFilter() {
         // GIVEN
@@ -325,9 +456,9 @@ class TimeEntryQueryServiceTest {
                 Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(50, null);
-        final TimeEntry entry1 = createTimeEntry(UUID.randomUUID(), userId);
-        final TimeEntry entry2 = createTimeEntry(UUID.randomUUID(), otherUserId);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final TimeEntryView entry1 = createView(UUID.randomUUID(), userId);
+        final TimeEntryView entry2 = createView(UUID.randomUUID(), otherUserId);
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(entry1, entry2), "nextCursor", 2L, true
         );
         
@@ -336,7 +467,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -366,7 +497,7 @@ class TimeEntryQueryServiceTest {
                 Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), null, 0L, false
         );
         
@@ -375,7 +506,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -397,7 +528,7 @@ class TimeEntryQueryServiceTest {
                 Optional.empty(), Optional.empty(), Optional.of(EntryStatus.DRAFT), Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), null, 0L, false
         );
         
@@ -406,7 +537,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -424,7 +555,7 @@ class TimeEntryQueryServiceTest {
                 Optional.empty(), Optional.empty(), Optional.of(EntryStatus.SUBMITTED), Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), null, 0L, false
         );
         
@@ -433,7 +564,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -451,7 +582,7 @@ class TimeEntryQueryServiceTest {
                 Optional.empty(), Optional.empty(), Optional.of(EntryStatus.APPROVED), Optional.empty()
         );
         final PageRequest pageRequest = new PageRequest(10, null);
-        final PageResult<TimeEntry> pageResult = new PageResult<>(
+        final PageResult<TimeEntryView> pageResult = new PageResult<>(
                 List.of(), null, 0L, false
         );
         
@@ -460,7 +591,7 @@ class TimeEntryQueryServiceTest {
                 .thenReturn(pageResult);
 
         // WHEN
-        final PageResult<TimeEntry> result = service.search(filter, pageRequest);
+        final PageResult<TimeEntryView> result = service.search(filter, pageRequest);
 
         // THEN
         assertThat(result).isEqualTo(pageResult);
@@ -470,6 +601,48 @@ class TimeEntryQueryServiceTest {
         verifyNoMoreInteractions(currentUserPort, repositoryPort);
     }
 
+    // ========== subscribe Tests ==========
+
+    @Test
+    void GIVEN_employee_WHEN_subscribe_THEN_onlyOwnChangesDelivered() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.EMPLOYEE);
+        final List<TimeEntryChange> received = new ArrayList<>();
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(changePort.subscribe(eq(firmId), listenerCaptor.capture())).thenReturn(subscription);
+
+        // WHEN
+        final StreamSubscription result = service.subscribe(received::add);
+        final TimeEntryChange own = new TimeEntryChange(firmId, ChangeType.UPDATED, createView(entryId, userId));
+        final TimeEntryChange others = new TimeEntryChange(
+                firmId, ChangeType.UPDATED, createView(UUID.randomUUID(), otherUserId));
+        listenerCaptor.getValue().accept(own);
+        listenerCaptor.getValue().accept(others);
+
+        // THEN
+        assertThat(result).isSameAs(subscription);
+        assertThat(received).containsExactly(own);
+        verifyNoMoreInteractions(currentUserPort, repositoryPort, changePort);
+    }
+
+    @Test
+    void GIVEN_manager_WHEN_subscribe_THEN_allFirmChangesDelivered() {
+        // GIVEN
+        final CurrentUser currentUser = new CurrentUser(userId, firmId, Role.MANAGER);
+        final List<TimeEntryChange> received = new ArrayList<>();
+        when(currentUserPort.currentUser()).thenReturn(currentUser);
+        when(changePort.subscribe(eq(firmId), listenerCaptor.capture())).thenReturn(subscription);
+
+        // WHEN
+        service.subscribe(received::add);
+        final TimeEntryChange others = new TimeEntryChange(
+                firmId, ChangeType.SUBMITTED, createView(entryId, otherUserId));
+        listenerCaptor.getValue().accept(others);
+
+        // THEN
+        assertThat(received).containsExactly(others);
+    }
+
     // ========== Helper Methods ==========
 
     private TimeEntry createTimeEntry(final UUID id, final UUID ownerId) {
@@ -489,4 +662,11 @@ class TimeEntryQueryServiceTest {
                 .approvedAt(null)
                 .build();
     }
+
+    private TimeEntryView createView(final UUID id, final UUID ownerId) {
+        final Instant now = Instant.now();
+        return new TimeEntryView(
+                id, customerId, projectId, matterId, ownerId, "Test narrative", 60, EntryStatus.DRAFT,
+                now, now, null);
+    }
 }
@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 
 import com.aequitas.aequitascentralservice.app.port.outbound.CurrentUserPort;
+import com.aequitas.aequitascentralservice.app.port.outbound.IdGeneratorPort;
 import com.aequitas.aequitascentralservice.app.port.outbound.UserProfileRepositoryPort;
 import com.aequitas.aequitascentralservice.domain.model.UserProfile;
 import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
@@ -46,6 +47,8 @@ class UserProfileServiceTest {
     private UserProfileRepositoryPort repositoryPort;
     @Mock
     private CurrentUserPort currentUserPort;
+    @Mock
+    private IdGeneratorPort idGeneratorPort;
 
     @InjectMocks
     private UserProfileService service;
@@ -69,6 +72,24 @@ class UserProfileServiceTest {
         verifyNoMoreInteractions(currentUserPort, repositoryPort);
     }
 
+    @Test
+    void GIVEN_newProfile_WHEN_createUserProfile_THEN_insertsWithoutSave() {
+        // GIVEN
+        UserProfile newProfile = new UserProfile(null, UUID.randomUUID(), TEST_FIRM_ID, TEST_EMAIL, Role.EMPLOYEE);
+        UserProfile stored = new UserProfile(TEST_USER_ID, newProfile.authenticationId(), TEST_FIRM_ID, TEST_EMAIL, Role.EMPLOYEE);
+        when(idGeneratorPort.nextId()).thenReturn(TEST_USER_ID);
+        when(repositoryPort.insert(stored)).thenReturn(stored);
+
+        // WHEN
+        UserProfile result = service.createUserProfile(newProfile);
+
+        // THEN
+        assertEquals(stored, result);
+        verify(idGeneratorPort, times(1)).nextId();
+        verify(repositoryPort, times(1)).insert(stored);
+        verifyNoMoreInteractions(currentUserPort, repositoryPort, idGeneratorPort);
+    }
+
     @Test
     void GIVEN_currentUserProfileNotFound_WHEN_me_THEN_throwIllegalArgumentException() {
         // GIVEN
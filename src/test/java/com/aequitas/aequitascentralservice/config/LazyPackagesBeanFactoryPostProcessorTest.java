@@ -0,0 +1,63 @@
+package com.aequitas.aequitascentralservice.config;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LazyPackagesBeanFactoryPostProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("objectMapper", new RootBeanDefinition(ObjectMapper.class));
+        beanFactory.registerBeanDefinition("jacksonConfig", new RootBeanDefinition(JacksonConfig.class));
+    }
+
+    @Test
+    void GIVEN_configuredPackage_WHEN_postProcessed_THEN_onlyMatchingBeansBecomeLazy() {
+        // GIVEN
+        LazyPackagesBeanFactoryPostProcessor processor =
+                new LazyPackagesBeanFactoryPostProcessor(List.of("com.fasterxml.jackson"));
+
+        // WHEN
+        processor.postProcessBeanFactory(beanFactory);
+
+        // THEN
+        assertThat(beanFactory.getBeanDefinition("objectMapper").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("jacksonConfig").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void GIVEN_packageNamePrefixWithoutDot_WHEN_postProcessed_THEN_siblingPackagesStayEager() {
+        // GIVEN
+        LazyPackagesBeanFactoryPostProcessor processor =
+                new LazyPackagesBeanFactoryPostProcessor(List.of("com.fasterxml.jack"));
+
+        // WHEN
+        processor.postProcessBeanFactory(beanFactory);
+
+        // THEN
+        assertThat(beanFactory.getBeanDefinition("objectMapper").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void GIVEN_noPackages_WHEN_postProcessed_THEN_nothingChanges() {
+        // GIVEN
+        LazyPackagesBeanFactoryPostProcessor processor = new LazyPackagesBeanFactoryPostProcessor(List.of());
+
+        // WHEN
+        processor.postProcessBeanFactory(beanFactory);
+
+        // THEN
+        assertThat(beanFactory.getBeanDefinition("objectMapper").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("jacksonConfig").isLazyInit()).isFalse();
+    }
+}
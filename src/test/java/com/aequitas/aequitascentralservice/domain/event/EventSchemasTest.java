@@ -0,0 +1,66 @@
+package com.aequitas.aequitascentralservice.domain.event;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pins the payload shape of every registered event version. A failure here means a published
+ * contract changed: register a new version instead of editing the existing one.
+ */
+class EventSchemasTest {
+
+    @Test
+    void GIVEN_registry_WHEN_all_THEN_containsEveryEventVersion() {
+        // WHEN
+        List<String> types = EventSchemas.all().stream().map(EventSchema::eventType).toList();
+
+        // THEN
+        assertThat(types).containsExactlyInAnyOrder(
+                "ENTRY_CREATED.v1", "ENTRY_UPDATED.v1", "ENTRY_SUBMITTED.v1", "ENTRY_APPROVED.v1");
+    }
+
+    @Test
+    void GIVEN_entryCreatedV1_WHEN_payloadFields_THEN_shapeIsUnchanged() {
+        // WHEN / THEN
+        assertThat(payloadFields(EntryCreatedEvent.TYPE)).containsExactly(
+                "entryId", "userId", "customerId", "projectId", "matterId", "narrative", "durationMinutes",
+                "status", "createdAt");
+    }
+
+    @Test
+    void GIVEN_entryUpdatedV1_WHEN_payloadFields_THEN_shapeIsUnchanged() {
+        // WHEN / THEN
+        assertThat(payloadFields(EntryUpdatedEvent.TYPE)).containsExactly(
+                "entryId", "customerId", "projectId", "matterId", "narrative", "durationMinutes", "updatedAt");
+    }
+
+    @Test
+    void GIVEN_entrySubmittedV1_WHEN_payloadFields_THEN_shapeIsUnchanged() {
+        // WHEN / THEN
+        assertThat(payloadFields(EntrySubmittedEvent.TYPE)).containsExactly(
+                "entryId", "userId", "status", "updatedAt");
+    }
+
+    @Test
+    void GIVEN_entryApprovedV1_WHEN_payloadFields_THEN_shapeIsUnchanged() {
+        // WHEN / THEN
+        assertThat(payloadFields(EntryApprovedEvent.TYPE)).containsExactly(
+                "entryId", "firmId", "userId", "customerId", "projectId", "matterId", "narrative",
+                "durationMinutes", "status", "approvedAt");
+    }
+
+    @Test
+    void GIVEN_unknownType_WHEN_forType_THEN_returnsEmpty() {
+        // WHEN / THEN
+        assertThat(EventSchemas.forType("ENTRY_DELETED.v1")).isEmpty();
+    }
+
+    private static List<String> payloadFields(final String eventType) {
+        final Class<? extends Record> payloadClass = EventSchemas.forType(eventType).orElseThrow().payloadClass();
+        return Arrays.stream(payloadClass.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.aequitas.aequitascentralservice.domain.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ErrorCodeTest {
+
+    @Test
+    void GIVEN_invalidArgumentCode_WHEN_toException_THEN_returnsStacklessIllegalArgument() {
+        // WHEN
+        final RuntimeException ex = ErrorCode.TIME_ENTRY_NOT_FOUND.toException();
+
+        // THEN
+        assertThat(ex)
+                .isInstanceOf(DomainArgumentException.class)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Time entry not found");
+        assertThat(((DomainException) ex).errorCode()).isEqualTo(ErrorCode.TIME_ENTRY_NOT_FOUND);
+        assertThat(ex.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_conflictCode_WHEN_toException_THEN_returnsStacklessIllegalState() {
+        // WHEN
+        final RuntimeException ex = ErrorCode.ENTRY_IMMUTABLE.toException();
+
+        // THEN
+        assertThat(ex)
+                .isInstanceOf(DomainStateException.class)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Approved entries are immutable");
+        assertThat(((DomainException) ex).errorCode()).isEqualTo(ErrorCode.ENTRY_IMMUTABLE);
+        assertThat(ex.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_everyCode_WHEN_toException_THEN_typeFollowsKind() {
+        for (ErrorCode code : ErrorCode.values()) {
+            // WHEN
+            final RuntimeException ex = code.toException();
+
+            // THEN
+            assertThat(ex).isInstanceOf(
+                    code.kind() == ErrorCode.Kind.CONFLICT ? DomainStateException.class : DomainArgumentException.class);
+            assertThat(ex.getMessage()).isEqualTo(code.message());
+        }
+    }
+}
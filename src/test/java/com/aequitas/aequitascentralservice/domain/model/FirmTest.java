@@ -17,17 +17,18 @@ class FirmTest {
     // ====================== create() Factory Tests ======================
 
     @Test
-    void GIVEN_validParameters_WHEN_create_THEN_createsFirmWithGeneratedId() {
+    void GIVEN_validParameters_WHEN_create_THEN_createsFirmWithSuppliedId() {
         // GIVEN
+        final UUID id = UUID.randomUUID();
         final String name = "Smith & Associates";
         final Address address = createAddress();
         final Instant now = Instant.now();
 
         // WHEN
-        final Firm firm = Firm.create(name, address, now);
+        final Firm firm = Firm.create(id, name, address, now);
 
         // THEN
-        assertThat(firm.getId()).isNotNull();
+        assertThat(firm.getId()).isEqualTo(id);
         assertThat(firm.getName()).isEqualTo(name);
         assertThat(firm.getAddress()).isEqualTo(address);
         assertThat(firm.getCreatedAt()).isEqualTo(now);
@@ -35,15 +36,15 @@ class FirmTest {
     }
 
     @Test
-    void GIVEN_multipleCreations_WHEN_create_THEN_generatesUniqueIds() {
+    void GIVEN_distinctIds_WHEN_create_THEN_firmsHaveDistinctIds() {
         // GIVEN
         final String name = "Test Firm";
         final Address address = createAddress();
         final Instant now = Instant.now();
 
         // WHEN
-        final Firm firm1 = Firm.create(name, address, now);
-        final Firm firm2 = Firm.create(name, address, now);
+        final Firm firm1 = Firm.create(UUID.randomUUID(), name, address, now);
+        final Firm firm2 = Firm.create(UUID.randomUUID(), name, address, now);
 
         // THEN
         assertThat(firm1.getId()).isNotEqualTo(firm2.getId());
@@ -76,7 +77,7 @@ class FirmTest {
     @Test
     void GIVEN_newName_WHEN_update_THEN_updatesNameAndTimestamp() {
         // GIVEN
-        final Firm original = Firm.create("Original Name", createAddress(), Instant.now());
+        final Firm original = Firm.create(UUID.randomUUID(), "Original Name", createAddress(), Instant.now());
         final String newName = "Updated Name";
         final Instant updateTime = Instant.now().plusSeconds(60);
 
@@ -94,7 +95,7 @@ class FirmTest {
     @Test
     void GIVEN_newAddress_WHEN_update_THEN_updatesAddressAndTimestamp() {
         // GIVEN
-        final Firm original = Firm.create("Test Firm", createAddress(), Instant.now());
+        final Firm original = Firm.create(UUID.randomUUID(), "Test Firm", createAddress(), Instant.now());
         final Address newAddress = Address.builder()
                 .street("456 New Street")
                 .city("Boston")
@@ -118,7 +119,7 @@ class FirmTest {
     @Test
     void GIVEN_bothNewNameAndAddress_WHEN_update_THEN_updatesBothFields() {
         // GIVEN
-        final Firm original = Firm.create("Original Name", createAddress(), Instant.now());
+        final Firm original = Firm.create(UUID.randomUUID(), "Original Name", createAddress(), Instant.now());
         final String newName = "New Name";
         final Address newAddress = Address.builder()
                 .street("789 Another St")
@@ -143,7 +144,7 @@ class FirmTest {
     @Test
     void GIVEN_nullUpdates_WHEN_update_THEN_preservesOriginalValues() {
         // GIVEN
-        final Firm original = Firm.create("Test Firm", createAddress(), Instant.now());
+        final Firm original = Firm.create(UUID.randomUUID(), "Test Firm", createAddress(), Instant.now());
         final Instant updateTime = Instant.now().plusSeconds(60);
 
         // WHEN
@@ -162,7 +163,7 @@ class FirmTest {
     @Test
     void GIVEN_firmCreated_WHEN_update_THEN_originalRemainsUnchanged() {
         // GIVEN
-        final Firm original = Firm.create("Original Name", createAddress(), Instant.now());
+        final Firm original = Firm.create(UUID.randomUUID(), "Original Name", createAddress(), Instant.now());
         final String originalName = original.getName();
         final Address originalAddress = original.getAddress();
 
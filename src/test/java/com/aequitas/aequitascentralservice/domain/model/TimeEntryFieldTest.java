@@ -0,0 +1,37 @@
+package com.aequitas.aequitascentralservice.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class TimeEntryFieldTest {
+
+    @Test
+    void GIVEN_selection_WHEN_parsed_THEN_addsIdAndKeepsDeclarationOrder() {
+        // GIVEN / WHEN / THEN
+        assertThat(TimeEntryField.parse(" status ,projectId"))
+                .containsExactly(TimeEntryField.ID, TimeEntryField.PROJECT_ID, TimeEntryField.STATUS);
+    }
+
+    @Test
+    void GIVEN_unknownProperty_WHEN_parsed_THEN_throwsListingAllowedNames() {
+        // GIVEN / WHEN / THEN
+        assertThatThrownBy(() -> TimeEntryField.parse("status,firmId"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'firmId'")
+                .hasMessageContaining("durationMinutes");
+    }
+
+    @Test
+    void GIVEN_blankSelection_WHEN_parsed_THEN_throws() {
+        // GIVEN / WHEN / THEN
+        assertThatThrownBy(() -> TimeEntryField.parse(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void GIVEN_all_WHEN_inspected_THEN_containsEveryField() {
+        // GIVEN / WHEN / THEN
+        assertThat(TimeEntryField.ALL).containsExactly(TimeEntryField.values());
+    }
+}
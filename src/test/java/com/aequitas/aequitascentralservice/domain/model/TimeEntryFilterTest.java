@@ -0,0 +1,104 @@
+package com.aequitas.aequitascentralservice.domain.model;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.aequitas.aequitascentralservice.domain.value.EntryStatus;
+
+/**
+ * Unit tests covering the creation window, narrative query and owner narrowing on
+ * {@link TimeEntryFilter}.
+ */
+class TimeEntryFilterTest {
+
+    private static final Instant FROM = Instant.parse("2025-11-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-12-01T00:00:00Z");
+
+    @Test
+    void GIVEN_legacyConstructor_WHEN_create_THEN_noCreationWindow() {
+        // WHEN
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.of(EntryStatus.DRAFT), Optional.empty());
+
+        // THEN
+        assertThat(filter.createdFrom()).isEmpty();
+        assertThat(filter.createdTo()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_toNotAfterFrom_WHEN_create_THEN_throwsIllegalArgumentException() {
+        // WHEN & THEN
+        assertThatThrownBy(() -> new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(TO), Optional.of(FROM), Optional.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("createdFrom must be before createdTo");
+        assertThatThrownBy(() -> new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(FROM), Optional.of(FROM), Optional.empty()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void GIVEN_openEndedWindow_WHEN_create_THEN_accepted() {
+        // WHEN
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(FROM), Optional.empty(), Optional.empty());
+
+        // THEN
+        assertThat(filter.createdFrom()).contains(FROM);
+        assertThat(filter.createdTo()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_filter_WHEN_withOwnerId_THEN_onlyOwnerChanges() {
+        // GIVEN
+        final UUID customerId = UUID.randomUUID();
+        final UUID ownerId = UUID.randomUUID();
+        final TimeEntryFilter filter = new TimeEntryFilter(
+                Optional.of(customerId), Optional.empty(), Optional.empty(), Optional.of(UUID.randomUUID()),
+                Optional.of(FROM), Optional.of(TO), Optional.of("deposition"));
+
+        // WHEN
+        final TimeEntryFilter narrowed = filter.withOwnerId(ownerId);
+
+        // THEN
+        assertThat(narrowed).isEqualTo(new TimeEntryFilter(
+                Optional.of(customerId), Optional.empty(), Optional.empty(), Optional.of(ownerId),
+                Optional.of(FROM), Optional.of(TO), Optional.of("deposition")));
+    }
+
+    @Test
+    void GIVEN_paddedOrBlankNarrativeQuery_WHEN_create_THEN_normalized() {
+        // WHEN
+        final TimeEntryFilter padded = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("  deposition  "));
+        final TimeEntryFilter blank = new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of("   "));
+
+        // THEN
+        assertThat(padded.narrativeQuery()).contains("deposition");
+        assertThat(blank.narrativeQuery()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_overlongNarrativeQuery_WHEN_create_THEN_throwsIllegalArgumentException() {
+        // GIVEN
+        final String query = "a".repeat(TimeEntryFilter.MAX_NARRATIVE_QUERY_LENGTH + 1);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> new TimeEntryFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of(query)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 200");
+    }
+}
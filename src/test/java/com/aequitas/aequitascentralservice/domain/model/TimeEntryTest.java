@@ -26,14 +26,16 @@ class TimeEntryTest {
         final UUID customerId = UUID.randomUUID();
         final UUID projectId = UUID.randomUUID();
         final UUID matterId = UUID.randomUUID();
+        final UUID id = UUID.randomUUID();
         final Instant now = Instant.now();
 
         // WHEN
         final TimeEntry entry = TimeEntry.draft(
+                id,
                 firmId, userId, customerId, projectId, matterId, "Review contract", 60, now);
 
         // THEN
-        assertThat(entry.getId()).isNotNull();
+        assertThat(entry.getId()).isEqualTo(id);
         assertThat(entry.getFirmId()).isEqualTo(firmId);
         assertThat(entry.getUserId()).isEqualTo(userId);
         assertThat(entry.getCustomerId()).isEqualTo(customerId);
@@ -59,6 +61,7 @@ class TimeEntryTest {
 
         // WHEN
         final TimeEntry entry = TimeEntry.draft(
+                UUID.randomUUID(),
                 firmId, userId, customerId, projectId, null, "Review contract", 60, now);
 
         // THEN
@@ -78,6 +81,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Review",
                         negativeDuration,
@@ -98,6 +102,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Review",
                         zeroDuration,
@@ -118,6 +123,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Review",
                         excessiveDuration,
@@ -138,6 +144,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         nullNarrative,
                         60,
@@ -158,6 +165,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         blankNarrative,
                         60,
@@ -178,6 +186,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         excessiveNarrative,
                         60,
@@ -197,6 +206,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 boundaryNarrative,
                 60,
@@ -218,6 +228,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Quick review",
                 minimumDuration,
@@ -239,6 +250,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Full day work",
                 maximumDuration,
@@ -269,7 +281,7 @@ class TimeEntryTest {
         final TimeEntry entry = TimeEntry.rehydrate(
                 id, firmId, userId, customerId, projectId, matterId,
                 "Approved work", 120, EntryStatus.APPROVED,
-                createdAt, updatedAt, approvedBy, approvedAt);
+                createdAt, updatedAt, approvedBy, approvedAt, 3L);
 
         // THEN
         assertThat(entry.getId()).isEqualTo(id);
@@ -285,6 +297,7 @@ class TimeEntryTest {
         assertThat(entry.getUpdatedAt()).isEqualTo(updatedAt);
         assertThat(entry.getApprovedBy()).isEqualTo(approvedBy);
         assertThat(entry.getApprovedAt()).isEqualTo(approvedAt);
+        assertThat(entry.getVersion()).isEqualTo(3L);
     }
 
     @Test
@@ -302,7 +315,7 @@ class TimeEntryTest {
         final TimeEntry entry = TimeEntry.rehydrate(
                 id, firmId, userId, customerId, projectId, null,
                 "Draft work", 90, EntryStatus.DRAFT,
-                createdAt, updatedAt, null, null);
+                createdAt, updatedAt, null, null, 0L);
 
         // THEN
         assertThat(entry.getMatterId()).isNull();
@@ -321,6 +334,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Draft work",
                 30,
@@ -346,6 +360,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Draft",
                         30,
@@ -366,6 +381,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Draft",
                         30,
@@ -389,6 +405,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Submitted work",
                         45,
@@ -417,6 +434,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Draft",
                 30,
@@ -436,6 +454,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Draft",
                         30,
@@ -457,6 +476,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Submitted",
                         30,
@@ -479,6 +499,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 "Original narrative",
                 60,
                 Instant.parse("2025-01-01T10:00:00Z"));
@@ -518,6 +539,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Original",
                 60,
@@ -543,6 +565,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Original",
                 60,
@@ -568,6 +591,7 @@ class TimeEntryTest {
                         UUID.randomUUID(),
                         UUID.randomUUID(),
                         UUID.randomUUID(),
+                        UUID.randomUUID(),
                         null,
                         "Original",
                         60,
@@ -602,6 +626,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Original",
                 60,
@@ -623,6 +648,7 @@ class TimeEntryTest {
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                UUID.randomUUID(),
                 null,
                 "Original narrative",
                 60,
@@ -0,0 +1,132 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.aequitas.aequitascentralservice.app.port.outbound.ClockPort;
+import com.aequitas.aequitascentralservice.domain.value.CurrentUser;
+import com.aequitas.aequitascentralservice.domain.value.Role;
+import com.aequitas.aequitascentralservice.tenancy.TenantContextHolder;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+class PortMetricsAspectTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-15T10:30:00Z");
+
+    private SimpleMeterRegistry registry;
+    private ObservationRegistry observations;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void GIVEN_callOutsideRequest_WHEN_portInvoked_THEN_recordsSuccessWithoutTenant() {
+        // GIVEN
+        ClockPort clock = proxy(new StubClock(() -> NOW), 16);
+
+        // WHEN
+        Instant result = clock.now();
+
+        // THEN
+        assertThat(result).isEqualTo(NOW);
+        Timer timer = registry.get(PortMetricsAspect.METRIC_NAME)
+                .tags("port", "ClockPort", "method", "now", "outcome", "success", "tenant", PortMetricsAspect.NO_TENANT)
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_failingPort_WHEN_invoked_THEN_recordsErrorAndRethrows() {
+        // GIVEN
+        IllegalStateException failure = new IllegalStateException("clock unavailable");
+        ClockPort clock = proxy(new StubClock(() -> {
+            throw failure;
+        }), 16);
+
+        // WHEN / THEN
+        assertThatThrownBy(clock::now).isSameAs(failure);
+        assertThat(registry.get(PortMetricsAspect.METRIC_NAME)
+                .tags("outcome", "error", "error", "IllegalStateException").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_manyFirms_WHEN_invoked_THEN_tenantTagIsBoundedByBucketCount() {
+        // GIVEN
+        ClockPort clock = proxy(new StubClock(() -> NOW), 4);
+
+        // WHEN
+        for (int i = 0; i < 200; i++) {
+            TenantContextHolder.setCurrentUser(new CurrentUser(UUID.randomUUID(), UUID.randomUUID(), Role.EMPLOYEE));
+            clock.now();
+        }
+
+        // THEN
+        assertThat(registry.get(PortMetricsAspect.METRIC_NAME).timers()).hasSizeLessThanOrEqualTo(4);
+        assertThat(registry.get(PortMetricsAspect.METRIC_NAME).timers().stream().mapToLong(Timer::count).sum())
+                .isEqualTo(200);
+    }
+
+    @Test
+    void GIVEN_zeroBuckets_WHEN_invokedWithinRequest_THEN_tenantTagIsDropped() {
+        // GIVEN
+        ClockPort clock = proxy(new StubClock(() -> NOW), 0);
+        TenantContextHolder.setCurrentUser(new CurrentUser(UUID.randomUUID(), UUID.randomUUID(), Role.ADMIN));
+
+        // WHEN
+        clock.now();
+
+        // THEN
+        assertThat(registry.get(PortMetricsAspect.METRIC_NAME).tag("tenant", PortMetricsAspect.ALL_TENANTS)
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_negativeBuckets_WHEN_constructed_THEN_throwsIllegalArgumentException() {
+        // WHEN / THEN
+        assertThatThrownBy(() -> new PortMetricsAspect(observations, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tenant bucket count must not be negative");
+    }
+
+    private ClockPort proxy(final ClockPort target, final int tenantBuckets) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new PortMetricsAspect(observations, tenantBuckets));
+        return factory.getProxy();
+    }
+
+    private static final class StubClock implements ClockPort {
+
+        private final Supplier<Instant> now;
+
+        private StubClock(final Supplier<Instant> now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant now() {
+            return now.get();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Test helper failing when code or an endpoint issues more SQL statements than budgeted, so that
+ * N+1 regressions break the build instead of reaching production.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * SqlStatementBudget.assertMaxStatements(4, () -> queryService.list(pageRequest));
+ *
+ * mockMvc.perform(get("/api/v1/entries"))
+ *         .andExpect(SqlStatementBudget.maxStatements(4));
+ * }</pre>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {}
+
+    /**
+     * Runs the action while counting statements on the current thread.
+     *
+     * @param max highest acceptable number of statements.
+     * @param action code under test.
+     */
+    public static void assertMaxStatements(final long max, final Runnable action) {
+        SqlStatementCounter.start();
+        final long statements;
+        try {
+            action.run();
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        assertThat(statements)
+                .as("SQL statements issued (budget %d)", max)
+                .isLessThanOrEqualTo(max);
+    }
+
+    /**
+     * Checks the {@value SqlStatementCountAdvice#HEADER} header of a MockMvc response; requires
+     * {@code metrics.sql.enabled=true} in the test context.
+     *
+     * @param max highest acceptable number of statements.
+     * @return matcher for {@code ResultActions.andExpect}.
+     */
+    public static ResultMatcher maxStatements(final long max) {
+        return result -> {
+            final String header = result.getResponse().getHeader(SqlStatementCountAdvice.HEADER);
+            assertThat(header)
+                    .as("%s header; is metrics.sql.enabled set?", SqlStatementCountAdvice.HEADER)
+                    .isNotNull();
+            assertThat(Long.parseLong(header))
+                    .as("SQL statements issued by %s (budget %d)", result.getRequest().getRequestURI(), max)
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}
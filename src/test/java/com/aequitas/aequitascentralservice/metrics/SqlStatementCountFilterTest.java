@@ -0,0 +1,50 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlStatementCountFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlStatementCountFilter filter = new SqlStatementCountFilter(registry, 20);
+
+    @Test
+    void GIVEN_request_WHEN_handlerIssuesStatements_THEN_recordsCountPerEndpoint() throws Exception {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/entries/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // WHEN
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/entries/{id}");
+            SqlStatementCounter.add(4);
+        });
+
+        // THEN
+        DistributionSummary summary = registry.get(SqlStatementCountFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/v1/entries/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(4);
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+
+    @Test
+    void GIVEN_unmappedRequest_WHEN_filtered_THEN_tagsUnknownUri() throws Exception {
+        // GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+
+        // WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // THEN
+        assertThat(registry.get(SqlStatementCountFilter.METRIC_NAME).tags("uri", "UNKNOWN").summary().count())
+                .isEqualTo(1);
+    }
+}
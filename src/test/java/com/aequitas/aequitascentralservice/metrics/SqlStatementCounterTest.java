@@ -0,0 +1,56 @@
+package com.aequitas.aequitascentralservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementCounterTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    void GIVEN_counting_WHEN_statementsInspected_THEN_countsAndKeepsSql() {
+        // GIVEN
+        SqlStatementCounter.start();
+
+        // WHEN
+        String sql = inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        SqlStatementCounter.add(3);
+
+        // THEN
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(SqlStatementCounter.stop()).isEqualTo(5);
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+
+    @Test
+    void GIVEN_notCounting_WHEN_statementInspected_THEN_ignored() {
+        // GIVEN / WHEN
+        inspector.inspect("select 1");
+
+        // THEN
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+
+    @Test
+    void GIVEN_budget_WHEN_exceeded_THEN_assertionFails() {
+        // GIVEN
+        Runnable twoQueries = () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        };
+
+        // WHEN / THEN
+        SqlStatementBudget.assertMaxStatements(2, twoQueries);
+        assertThatThrownBy(() -> SqlStatementBudget.assertMaxStatements(1, twoQueries))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("budget 1");
+    }
+}
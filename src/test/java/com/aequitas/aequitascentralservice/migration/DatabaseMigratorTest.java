@@ -0,0 +1,58 @@
+package com.aequitas.aequitascentralservice.migration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class DatabaseMigratorTest {
+
+    @Test
+    void GIVEN_migrateArgument_WHEN_requested_THEN_true() {
+        // GIVEN / WHEN / THEN
+        assertThat(DatabaseMigrator.requested(new String[] {"--spring.profiles.active=prod", "--migrate"})).isTrue();
+        assertThat(DatabaseMigrator.requested(new String[] {"--spring.profiles.active=prod"})).isFalse();
+    }
+
+    @Test
+    void GIVEN_onlyDatasourceSettings_WHEN_flywayBuilt_THEN_usesDatasourceAndDefaults() {
+        // GIVEN
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:postgresql://db:5432/app")
+                .withProperty("spring.datasource.username", "app")
+                .withProperty("spring.datasource.password", "secret");
+
+        // WHEN
+        Configuration configuration = DatabaseMigrator.flyway(environment).getConfiguration();
+
+        // THEN
+        assertThat(configuration.getUrl()).isEqualTo("jdbc:postgresql://db:5432/app");
+        assertThat(configuration.getUser()).isEqualTo("app");
+        assertThat(configuration.getPassword()).isEqualTo("secret");
+        assertThat(configuration.isBaselineOnMigrate()).isFalse();
+        assertThat(DatabaseMigrator.locations(environment)).containsExactly(DatabaseMigrator.DEFAULT_LOCATION);
+    }
+
+    @Test
+    void GIVEN_flywaySettings_WHEN_flywayBuilt_THEN_overrideDatasource() {
+        // GIVEN
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:postgresql://db:5432/app")
+                .withProperty("spring.datasource.username", "app")
+                .withProperty("spring.flyway.user", "owner")
+                .withProperty("spring.flyway.baseline-on-migrate", "true")
+                .withProperty("spring.flyway.locations", "classpath:db/migration,classpath:db/seed");
+
+        // WHEN
+        Configuration configuration = DatabaseMigrator.flyway(environment).getConfiguration();
+
+        // THEN
+        assertThat(configuration.getUrl()).isEqualTo("jdbc:postgresql://db:5432/app");
+        assertThat(configuration.getUser()).isEqualTo("owner");
+        assertThat(configuration.isBaselineOnMigrate()).isTrue();
+        assertThat(DatabaseMigrator.locations(environment))
+                .isEqualTo(List.of("classpath:db/migration", "classpath:db/seed"));
+    }
+}
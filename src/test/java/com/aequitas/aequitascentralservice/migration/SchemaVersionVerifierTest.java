@@ -0,0 +1,126 @@
+package com.aequitas.aequitascentralservice.migration;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaVersionVerifierTest {
+
+    private static final SortedSet<MigrationVersion> REQUIRED = versions("1", "2", "9", "10", "11", "12");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void GIVEN_bundledMigrations_WHEN_scanned_THEN_returnsEveryVersionInOrder() {
+        // GIVEN / WHEN
+        SortedSet<MigrationVersion> bundled = SchemaVersionVerifier.bundledVersions(List.of(DatabaseMigrator.DEFAULT_LOCATION));
+
+        // THEN
+        assertThat(bundled).containsSequence(versions("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"));
+        assertThat(bundled.first()).isEqualTo(MigrationVersion.fromVersion("1"));
+    }
+
+    @Test
+    void GIVEN_filename_WHEN_versionParsed_THEN_underscoresBecomeDots() {
+        // GIVEN / WHEN / THEN
+        assertThat(SchemaVersionVerifier.versionOf("V12__add_outbox_traceparent.sql"))
+                .isEqualTo(MigrationVersion.fromVersion("12"));
+        assertThat(SchemaVersionVerifier.versionOf("V2_1__fix.sql")).isEqualTo(MigrationVersion.fromVersion("2.1"));
+    }
+
+    @Test
+    void GIVEN_schemaAtRequiredVersion_WHEN_run_THEN_passes() {
+        // GIVEN
+        stubHistory(List.of("1", "2", "9", "12", "11", "10"), List.of());
+
+        // WHEN / THEN
+        new SchemaVersionVerifier(jdbcTemplate, REQUIRED).run(null);
+    }
+
+    @Test
+    void GIVEN_schemaBehind_WHEN_run_THEN_failsStartup() {
+        // GIVEN
+        stubHistory(List.of("1", "2", "9", "10", "11"), List.of());
+        SchemaVersionVerifier verifier = new SchemaVersionVerifier(jdbcTemplate, REQUIRED);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> verifier.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version 11")
+                .hasMessageContaining("[12]")
+                .hasMessageContaining("--migrate");
+    }
+
+    @Test
+    void GIVEN_gapBelowLatestApplied_WHEN_run_THEN_failsStartupNamingTheGap() {
+        // GIVEN
+        stubHistory(List.of("1", "2", "10", "11", "12"), List.of());
+        SchemaVersionVerifier verifier = new SchemaVersionVerifier(jdbcTemplate, REQUIRED);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> verifier.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version 12")
+                .hasMessageContaining("[9]");
+    }
+
+    @Test
+    void GIVEN_baselinedSchema_WHEN_run_THEN_versionsUpToBaselineCountAsApplied() {
+        // GIVEN
+        stubHistory(List.of("10", "11", "12"), List.of("9"));
+
+        // WHEN / THEN
+        new SchemaVersionVerifier(jdbcTemplate, REQUIRED).run(null);
+    }
+
+    @Test
+    void GIVEN_noHistoryTable_WHEN_run_THEN_failsStartup() {
+        // GIVEN
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenThrow(new BadSqlGrammarException("history", "SELECT", new SQLException("missing")));
+        SchemaVersionVerifier verifier = new SchemaVersionVerifier(jdbcTemplate, REQUIRED);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> verifier.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("schema history");
+    }
+
+    @Test
+    void GIVEN_emptyHistory_WHEN_run_THEN_failsStartup() {
+        // GIVEN
+        stubHistory(List.of(), List.of());
+        SchemaVersionVerifier verifier = new SchemaVersionVerifier(jdbcTemplate, REQUIRED);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> verifier.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no applied migrations");
+    }
+
+    private void stubHistory(final List<String> applied, final List<String> baseline) {
+        when(jdbcTemplate.queryForList(SchemaVersionVerifier.APPLIED_VERSIONS_SQL, String.class)).thenReturn(applied);
+        when(jdbcTemplate.queryForList(SchemaVersionVerifier.BASELINE_VERSIONS_SQL, String.class)).thenReturn(baseline);
+    }
+
+    private static SortedSet<MigrationVersion> versions(final String... versions) {
+        return new TreeSet<>(Stream.of(versions).map(MigrationVersion::fromVersion).toList());
+    }
+}